@@ -0,0 +1,146 @@
+package ai.luciq.flutter;
+
+import android.app.Activity;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import ai.luciq.flutter.modules.PrivateViewManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.flutter.embedding.engine.plugins.FlutterPlugin.FlutterPluginBinding;
+import io.flutter.embedding.engine.renderer.FlutterRenderer;
+
+/**
+ * Keeps the capture state of every FlutterEngine the plugin is attached to, so apps running
+ * several engines (FlutterEngineGroup, add-to-app) capture the engine that is on screen instead of
+ * whichever attached last.
+ */
+public class EngineRegistry {
+    /**
+     * The capture state of a single engine.
+     */
+    public static class Engine {
+        private final FlutterRenderer renderer;
+        private final PrivateViewManager privateViewManager;
+        private volatile Activity activity;
+        private volatile long activatedAt = 0;
+
+        public Engine(@NonNull FlutterRenderer renderer, @NonNull PrivateViewManager privateViewManager) {
+            this.renderer = renderer;
+            this.privateViewManager = privateViewManager;
+        }
+
+        @NonNull
+        public FlutterRenderer getRenderer() {
+            return renderer;
+        }
+
+        @NonNull
+        public PrivateViewManager getPrivateViewManager() {
+            return privateViewManager;
+        }
+
+        @Nullable
+        public Activity getActivity() {
+            return activity;
+        }
+    }
+
+    private final Map<FlutterPluginBinding, Engine> engines = new LinkedHashMap<>();
+    private long activations = 0;
+
+    public synchronized void register(@NonNull FlutterPluginBinding binding, @NonNull Engine engine) {
+        engines.put(binding, engine);
+    }
+
+    /**
+     * Removes the engine, detaches it from its activity and disposes its private view manager.
+     *
+     * @return the removed engine, or null if the binding wasn't registered
+     */
+    @Nullable
+    public Engine unregister(@NonNull FlutterPluginBinding binding) {
+        final Engine engine;
+        synchronized (this) {
+            engine = engines.remove(binding);
+        }
+        if (engine != null) {
+            setActivity(engine, null);
+            engine.privateViewManager.dispose();
+        }
+        return engine;
+    }
+
+    @Nullable
+    public synchronized Engine get(@NonNull FlutterPluginBinding binding) {
+        return engines.get(binding);
+    }
+
+    public synchronized int size() {
+        return engines.size();
+    }
+
+    /**
+     * Attaches the engine to an activity, or detaches it when the activity is null. The engine
+     * attached most recently wins when several engines look equally visible.
+     */
+    public void setActivity(@NonNull Engine engine, @Nullable Activity activity) {
+        synchronized (this) {
+            engine.activity = activity;
+            if (activity != null) {
+                engine.activatedAt = ++activations;
+            }
+        }
+        engine.privateViewManager.setActivity(activity);
+    }
+
+    /**
+     * Picks the engine captures should come from: preferring an engine whose activity has window
+     * focus and whose FlutterView is displaying a frame, then the most recently attached one.
+     *
+     * @return the engine to capture, or null if no engine is attached to an activity
+     */
+    @Nullable
+    public Engine getCaptureTarget() {
+        final List<Engine> candidates;
+        synchronized (this) {
+            candidates = new ArrayList<>(engines.values());
+        }
+
+        Engine target = null;
+        int targetVisibility = 0;
+        for (Engine engine : candidates) {
+            final int visibility = getVisibility(engine);
+            if (visibility > targetVisibility
+                    || (visibility > 0 && visibility == targetVisibility && engine.activatedAt > target.activatedAt)) {
+                target = engine;
+                targetVisibility = visibility;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * @return 0 if the engine can't be captured, higher the more likely it is what the user sees
+     */
+    private static int getVisibility(Engine engine) {
+        final Activity activity = engine.activity;
+        if (activity == null || activity.isFinishing()) {
+            return 0;
+        }
+
+        int visibility = 1;
+        if (engine.renderer.isDisplayingFlutterUi()) {
+            visibility += 2;
+        }
+        if (activity.hasWindowFocus()) {
+            visibility += 1;
+        }
+        return visibility;
+    }
+}
@@ -1,10 +1,11 @@
 package ai.luciq.flutter;
 
-import android.annotation.SuppressLint;
 import android.app.Activity;
 import android.content.Context;
 import android.graphics.Bitmap;
 import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
 import android.util.Log;
 import android.view.Display;
 import android.view.View;
@@ -26,11 +27,16 @@ import ai.luciq.flutter.modules.LuciqLogApi;
 import ai.luciq.flutter.modules.LuciqPrivateView;
 import ai.luciq.flutter.modules.PrivateViewManager;
 import ai.luciq.flutter.modules.RepliesApi;
+import ai.luciq.flutter.modules.ScreenshotProvider;
 import ai.luciq.flutter.modules.SessionReplayApi;
 import ai.luciq.flutter.modules.SurveysApi;
+import ai.luciq.flutter.modules.capturing.BitmapPool;
 import ai.luciq.flutter.modules.capturing.BoundryCaptureManager;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
+import ai.luciq.flutter.modules.capturing.MemoryPressurePolicy;
 import ai.luciq.flutter.modules.capturing.PixelCopyCaptureManager;
 import ai.luciq.flutter.modules.capturing.WindowPixelCopyCaptureManager;
+import ai.luciq.flutter.util.HostCallWatchdog;
 
 import java.util.concurrent.Callable;
 
@@ -44,34 +50,45 @@ import io.flutter.plugin.common.BinaryMessenger;
 public class LuciqFlutterPlugin implements FlutterPlugin, ActivityAware, LifecycleEventObserver {
     private static final String TAG = LuciqFlutterPlugin.class.getName();
 
-    @SuppressLint("StaticFieldLeak")
-    private static Activity activity;
+    // Capture buffers and settings are shared by every engine so they share one memory budget,
+    // the rest of the capture state lives in the per-engine registry
+    private static final BitmapPool bitmapPool = new BitmapPool();
+    private static final CaptureSettings captureSettings = new CaptureSettings();
+    private static final WindowPixelCopyCaptureManager windowPixelCopyCaptureManager = new WindowPixelCopyCaptureManager(bitmapPool);
+    private static final EngineRegistry engines = new EngineRegistry();
+    private static MemoryPressurePolicy memoryPressurePolicy;
 
     private LuciqPigeon.LuciqFlutterApi luciqFlutterApi;
     private Lifecycle lifecycle;
-
-    private static PrivateViewManager privateViewManager;
-    private static final WindowPixelCopyCaptureManager windowPixelCopyCaptureManager = new WindowPixelCopyCaptureManager();
-
-
+    private EngineRegistry.Engine engine;
 
     @Override
     public void onAttachedToEngine(@NonNull FlutterPluginBinding binding) {
-        register(binding.getApplicationContext(), binding.getBinaryMessenger(), (FlutterRenderer) binding.getTextureRegistry());
+        engine = register(binding.getApplicationContext(), binding.getBinaryMessenger(), (FlutterRenderer) binding.getTextureRegistry());
+        engines.register(binding, engine);
         luciqFlutterApi = new LuciqPigeon.LuciqFlutterApi(binding.getBinaryMessenger());
+
+        if (memoryPressurePolicy == null) {
+            memoryPressurePolicy = new MemoryPressurePolicy(captureSettings, bitmapPool, new Handler(Looper.getMainLooper()));
+            binding.getApplicationContext().registerComponentCallbacks(memoryPressurePolicy);
+        }
     }
 
     @Override
     public void onDetachedFromEngine(@NonNull FlutterPluginBinding binding) {
-        activity = null;
+        engines.unregister(binding);
+        engine = null;
+
+        if (engines.size() == 0 && memoryPressurePolicy != null) {
+            binding.getApplicationContext().unregisterComponentCallbacks(memoryPressurePolicy);
+            memoryPressurePolicy.reset();
+            memoryPressurePolicy = null;
+        }
     }
 
     @Override
     public void onAttachedToActivity(@NonNull ActivityPluginBinding binding) {
-        activity = binding.getActivity();
-        if (privateViewManager != null) {
-            privateViewManager.setActivity(activity);
-        }
+        setActivity(binding.getActivity());
 
         // Register lifecycle observer if available
         if (binding.getLifecycle() instanceof HiddenLifecycleReference) {
@@ -85,23 +102,18 @@ public class LuciqFlutterPlugin implements FlutterPlugin, ActivityAware, Lifecyc
         if (lifecycle != null) {
             lifecycle.removeObserver(this);
         }
-        activity = null;
-        privateViewManager.setActivity(null);
+        setActivity(null);
 
     }
 
     @Override
     public void onReattachedToActivityForConfigChanges(@NonNull ActivityPluginBinding binding) {
-        activity = binding.getActivity();
-
         // Re-register lifecycle observer if available
         if (binding.getLifecycle() instanceof HiddenLifecycleReference) {
             lifecycle = ((HiddenLifecycleReference) binding.getLifecycle()).getLifecycle();
             lifecycle.addObserver(this);
         }
-        if (privateViewManager != null) {
-            privateViewManager.setActivity(activity);
-        }
+        setActivity(binding.getActivity());
     }
 
     @Override
@@ -110,8 +122,7 @@ public class LuciqFlutterPlugin implements FlutterPlugin, ActivityAware, Lifecyc
             lifecycle.removeObserver(this);
             lifecycle = null;
         }
-        activity = null;
-        privateViewManager.setActivity(null);
+        setActivity(null);
 
     }
 
@@ -122,6 +133,12 @@ public class LuciqFlutterPlugin implements FlutterPlugin, ActivityAware, Lifecyc
         }
     }
 
+    private void setActivity(@Nullable Activity activity) {
+        if (engine != null) {
+            engines.setActivity(engine, activity);
+        }
+    }
+
     private void handleOnPause() {
         if (luciqFlutterApi != null) {
             luciqFlutterApi.dispose(new LuciqPigeon.LuciqFlutterApi.Reply<Void>() {
@@ -133,21 +150,34 @@ public class LuciqFlutterPlugin implements FlutterPlugin, ActivityAware, Lifecyc
         }
     }
 
-    private static void register(Context context, BinaryMessenger messenger, FlutterRenderer renderer) {
-        final Callable<Bitmap> screenshotProvider = new Callable<Bitmap>() {
+    private static EngineRegistry.Engine register(Context context, BinaryMessenger binaryMessenger, FlutterRenderer renderer) {
+        // Host API handlers are registered through the watchdog so it can time them once enabled
+        final BinaryMessenger messenger = HostCallWatchdog.wrap(binaryMessenger);
+        final Callable<PrivateViewManager> captureTargetProvider = new Callable<PrivateViewManager>() {
+            @Override
+            public PrivateViewManager call() {
+                final EngineRegistry.Engine target = engines.getCaptureTarget();
+                return target != null ? target.getPrivateViewManager() : null;
+            }
+        };
+        // Used when the PixelCopy pipeline can't serve the request, including every request made
+        // on the main thread, it blocks on the raster thread
+        final Callable<Bitmap> rendererScreenshotProvider = new Callable<Bitmap>() {
             @Override
             public Bitmap call() {
-                return takeScreenshot(renderer);
+                return takeScreenshot(engines.getCaptureTarget());
             }
         };
+        final Callable<Bitmap> screenshotProvider = new ScreenshotProvider(captureTargetProvider, rendererScreenshotProvider);
 
-        privateViewManager = new PrivateViewManager(new LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi(messenger), windowPixelCopyCaptureManager, new PixelCopyCaptureManager(), new BoundryCaptureManager(renderer));
-        LuciqPrivateView.init(messenger, privateViewManager);
+        final PrivateViewManager privateViewManager = new PrivateViewManager(new LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi(messenger), windowPixelCopyCaptureManager, new PixelCopyCaptureManager(bitmapPool), new BoundryCaptureManager(renderer), bitmapPool, captureSettings);
+        final EngineRegistry.Engine engine = new EngineRegistry.Engine(renderer, privateViewManager);
+        LuciqPrivateView.init(messenger, privateViewManager, captureTargetProvider);
 
         Callable<Float> refreshRateProvider = new Callable<Float>() {
             @Override
             public Float call() {
-                return getRefreshRate();
+                return getRefreshRate(engine.getActivity());
             }
         };
 
@@ -158,15 +188,21 @@ public class LuciqFlutterPlugin implements FlutterPlugin, ActivityAware, Lifecyc
         LuciqApi.init(messenger, context, screenshotProvider);
         LuciqLogApi.init(messenger);
         RepliesApi.init(messenger);
-        SessionReplayApi.init(messenger);
+        SessionReplayApi.init(messenger, captureSettings, privateViewManager.getCaptureMetrics());
         SurveysApi.init(messenger);
 
+        return engine;
     }
 
     @Nullable
-    private static Bitmap takeScreenshot(FlutterRenderer renderer) {
+    private static Bitmap takeScreenshot(@Nullable EngineRegistry.Engine target) {
+        if (target == null || target.getActivity() == null) {
+            return null;
+        }
+
+        final FlutterRenderer renderer = target.getRenderer();
         try {
-            final View view = activity.getWindow().getDecorView().getRootView();
+            final View view = target.getActivity().getWindow().getDecorView().getRootView();
 
             view.setDrawingCacheEnabled(true);
             final Bitmap bitmap = renderer.getBitmap();
@@ -179,8 +215,11 @@ public class LuciqFlutterPlugin implements FlutterPlugin, ActivityAware, Lifecyc
         }
     }
 
-    private static float getRefreshRate() {
+    private static float getRefreshRate(@Nullable Activity activity) {
         float refreshRate = 60f;
+        if (activity == null) {
+            return refreshRate;
+        }
 
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.R) {
             final Display display = activity.getDisplay();
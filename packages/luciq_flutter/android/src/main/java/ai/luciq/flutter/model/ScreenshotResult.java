@@ -7,16 +7,22 @@ public class ScreenshotResult {
     private final Bitmap screenshot;
     private final float offsetX;
     private final float offsetY;
+    private final float scale;
 
     public ScreenshotResult(float pixelRatio, Bitmap screenshot) {
         this(pixelRatio, screenshot, 0, 0);
     }
 
     public ScreenshotResult(float pixelRatio, Bitmap screenshot, float offsetX, float offsetY) {
+        this(pixelRatio, screenshot, offsetX, offsetY, 1f);
+    }
+
+    public ScreenshotResult(float pixelRatio, Bitmap screenshot, float offsetX, float offsetY, float scale) {
         this.pixelRatio = pixelRatio;
         this.screenshot = screenshot;
         this.offsetX = offsetX;
         this.offsetY = offsetY;
+        this.scale = scale;
     }
 
     public Bitmap getScreenshot() {
@@ -34,4 +40,11 @@ public class ScreenshotResult {
     public float getOffsetY() {
         return offsetY;
     }
+
+    /**
+     * @return the factor the screenshot was captured at relative to the device resolution
+     */
+    public float getScale() {
+        return scale;
+    }
 }
@@ -3,12 +3,9 @@ package ai.luciq.flutter.modules;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import org.json.JSONObject;
-
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -23,6 +20,7 @@ import ai.luciq.apm.networkinterception.cp.APMCPNetworkLog;
 import ai.luciq.apm.screenrendering.models.cp.LuciqFrameData;
 import ai.luciq.apm.screenrendering.models.cp.LuciqScreenRenderingData;
 import ai.luciq.flutter.generated.ApmPigeon;
+import ai.luciq.flutter.util.HeaderSerializer;
 import ai.luciq.flutter.util.LuciqFlutterDebugTags;
 import ai.luciq.flutter.util.LuciqFlutterLogger;
 import ai.luciq.flutter.util.Reflection;
@@ -52,8 +50,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_APP_LAUNCH,
-                "[APM.setEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_APP_LAUNCH,
+                    "[APM.setEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             APM.setEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_APP_LAUNCH, "[APM.setEnabled] phase=exit");
@@ -73,8 +73,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void setColdAppLaunchEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_APP_LAUNCH,
-                "[APM.setColdAppLaunchEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_APP_LAUNCH,
+                    "[APM.setColdAppLaunchEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             APM.setColdAppLaunchEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_APP_LAUNCH,
@@ -96,8 +98,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void setAutoUITraceEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE,
-                "[APM.setAutoUITraceEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE,
+                    "[APM.setAutoUITraceEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             APM.setAutoUITraceEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE, "[APM.setAutoUITraceEnabled] phase=exit");
@@ -122,8 +126,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void startFlow(@NonNull String name) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW,
-                "[APM.startFlow] phase=enter nameLength=" + name.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW,
+                    "[APM.startFlow] phase=enter nameLength=" + name.length());
+        }
         try {
             APM.startFlow(name);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW, "[APM.startFlow] phase=exit");
@@ -156,10 +162,12 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void setFlowAttribute(@NonNull String name, @NonNull String key, @Nullable String value) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW,
-                "[APM.setFlowAttribute] phase=enter nameLength=" + name.length()
-                        + " keyLength=" + key.length()
-                        + " valueLength=" + (value == null ? -1 : value.length()));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW,
+                    "[APM.setFlowAttribute] phase=enter nameLength=" + name.length()
+                            + " keyLength=" + key.length()
+                            + " valueLength=" + (value == null ? -1 : value.length()));
+        }
         try {
             APM.setFlowAttribute(name, key, value);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW, "[APM.setFlowAttribute] phase=exit");
@@ -177,8 +185,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void endFlow(@NonNull String name) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW,
-                "[APM.endFlow] phase=enter nameLength=" + name.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW,
+                    "[APM.endFlow] phase=enter nameLength=" + name.length());
+        }
         try {
             APM.endFlow(name);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_FLOW, "[APM.endFlow] phase=exit");
@@ -197,8 +207,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void startUITrace(@NonNull String name) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE,
-                "[APM.startUITrace] phase=enter nameLength=" + name.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE,
+                    "[APM.startUITrace] phase=enter nameLength=" + name.length());
+        }
         try {
             APM.startUITrace(name);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE, "[APM.startUITrace] phase=exit");
@@ -249,98 +261,156 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void networkLogAndroid(@NonNull Map<String, Object> data) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_NETWORK,
-                "[APM.networkLogAndroid] phase=enter url=" + LuciqFlutterLogger.redactUrl((String) data.get("url"))
-                        + " method=" + data.get("method")
-                        + " responseCode=" + data.get("responseCode"));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_NETWORK,
+                    "[APM.networkLogAndroid] phase=enter url=" + LuciqFlutterLogger.redactUrl((String) data.get("url"))
+                            + " method=" + data.get("method")
+                            + " responseCode=" + data.get("responseCode"));
+        }
         try {
-            APMNetworkLogger apmNetworkLogger = new APMNetworkLogger();
-            final String requestUrl = (String) data.get("url");
-            final String requestBody = (String) data.get("requestBody");
-            final String responseBody = (String) data.get("responseBody");
-            final String requestMethod = (String) data.get("method");
-            //--------------------------------------------
-            final String requestContentType = (String) data.get("requestContentType");
-            final String responseContentType = (String) data.get("responseContentType");
-            //--------------------------------------------
-            final long requestBodySize = ((Number) data.get("requestBodySize")).longValue();
-            final long responseBodySize = ((Number) data.get("responseBodySize")).longValue();
-            //--------------------------------------------
-            final String errorDomain = (String) data.get("errorDomain");
-            final Integer statusCode = (Integer) data.get("responseCode");
-            final long requestDuration = ((Number) data.get("duration")).longValue() / 1000;
-            final long requestStartTime = ((Number) data.get("startTime")).longValue() * 1000;
-            final String requestHeaders = (new JSONObject((HashMap<String, String>) data.get("requestHeaders"))).toString(4);
-            final String responseHeaders = (new JSONObject((HashMap<String, String>) data.get("responseHeaders"))).toString(4);
-            final String errorMessage;
-
-            if (errorDomain.equals("")) {
-                errorMessage = null;
+            final Method method = getNetworkLogMethod();
+            if (method != null) {
+                logNetwork(new APMNetworkLogger(), method, data);
+                LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_NETWORK, "[APM.networkLogAndroid] phase=exit");
             } else {
-                errorMessage = errorDomain;
-            }
-            //--------------------------------------------------
-            String gqlQueryName = null;
-            if (data.containsKey("gqlQueryName")) {
-                gqlQueryName = (String) data.get("gqlQueryName");
-            }
-            String serverErrorMessage = "";
-            if (data.containsKey("serverErrorMessage")) {
-                serverErrorMessage = (String) data.get("serverErrorMessage");
+                LuciqFlutterLogger.e(LuciqFlutterDebugTags.APM_NETWORK,
+                        "[APM.networkLogAndroid] phase=error errorType=NoSuchMethodException reflectionFailure=true");
             }
-            Boolean isW3cHeaderFound = null;
-            Number partialId = null;
-            Number networkStartTimeInSeconds = null;
-            String w3CGeneratedHeader = null;
-            String w3CCaughtHeader = null;
-
-            if (data.containsKey("isW3cHeaderFound")) {
-                isW3cHeaderFound = (Boolean) data.get("isW3cHeaderFound");
+        } catch (Exception e) {
+            LuciqFlutterLogger.e(LuciqFlutterDebugTags.APM_NETWORK,
+                    "[APM.networkLogAndroid] phase=error errorType=" + e.getClass().getSimpleName(),
+                    e);
+        }
+    }
+
+    /**
+     * Logs several network requests collected on the Dart side in a single call, resolving the
+     * logger once for the whole batch. A malformed entry is skipped without dropping the rest.
+     *
+     * @param batch list of network data objects, in the same shape {@link #networkLogAndroid} takes.
+     */
+    @Override
+    public void networkLogBatch(@NonNull List<Map<String, Object>> batch) {
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_NETWORK,
+                    "[APM.networkLogBatch] phase=enter size=" + batch.size());
+        }
+        final Method method;
+        try {
+            method = getNetworkLogMethod();
+        } catch (Exception e) {
+            LuciqFlutterLogger.e(LuciqFlutterDebugTags.APM_NETWORK,
+                    "[APM.networkLogBatch] phase=error errorType=" + e.getClass().getSimpleName(),
+                    e);
+            return;
+        }
+        if (method == null) {
+            LuciqFlutterLogger.e(LuciqFlutterDebugTags.APM_NETWORK,
+                    "[APM.networkLogBatch] phase=error errorType=NoSuchMethodException reflectionFailure=true");
+            return;
+        }
+
+        final APMNetworkLogger apmNetworkLogger = new APMNetworkLogger();
+        int failed = 0;
+        for (Map<String, Object> data : batch) {
+            try {
+                logNetwork(apmNetworkLogger, method, data);
+            } catch (Exception e) {
+                failed++;
+                LuciqFlutterLogger.e(LuciqFlutterDebugTags.APM_NETWORK,
+                        "[APM.networkLogBatch] phase=error errorType=" + e.getClass().getSimpleName()
+                                + " url=" + LuciqFlutterLogger.redactUrl((String) data.get("url")),
+                        e);
             }
+        }
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_NETWORK,
+                    "[APM.networkLogBatch] phase=exit size=" + batch.size() + " failed=" + failed);
+        }
+    }
 
-            if (data.containsKey("partialId")) {
+    @Nullable
+    private static Method getNetworkLogMethod() throws ClassNotFoundException {
+        return Reflection.getMethod(Class.forName("ai.luciq.apm.networking.APMNetworkLogger"), "log", long.class, long.class, String.class, String.class, long.class, String.class, String.class, String.class, String.class, String.class, long.class, int.class, String.class, String.class, String.class, String.class, APMCPNetworkLog.W3CExternalTraceAttributes.class);
+    }
 
+    /**
+     * Decodes a single network data object and feeds it to the APM network logger.
+     */
+    private static void logNetwork(APMNetworkLogger apmNetworkLogger, Method method, Map<String, Object> data) throws Exception {
+        final String requestUrl = (String) data.get("url");
+        final String requestBody = (String) data.get("requestBody");
+        final String responseBody = (String) data.get("responseBody");
+        final String requestMethod = (String) data.get("method");
+        //--------------------------------------------
+        final String requestContentType = (String) data.get("requestContentType");
+        final String responseContentType = (String) data.get("responseContentType");
+        //--------------------------------------------
+        final long requestBodySize = ((Number) data.get("requestBodySize")).longValue();
+        final long responseBodySize = ((Number) data.get("responseBodySize")).longValue();
+        //--------------------------------------------
+        final String errorDomain = (String) data.get("errorDomain");
+        final Integer statusCode = (Integer) data.get("responseCode");
+        final long requestDuration = ((Number) data.get("duration")).longValue() / 1000;
+        final long requestStartTime = ((Number) data.get("startTime")).longValue() * 1000;
+        final String requestHeaders = HeaderSerializer.serialize((Map<?, ?>) data.get("requestHeaders"));
+        final String responseHeaders = HeaderSerializer.serialize((Map<?, ?>) data.get("responseHeaders"));
+        final String errorMessage;
+
+        if (errorDomain.equals("")) {
+            errorMessage = null;
+        } else {
+            errorMessage = errorDomain;
+        }
+        //--------------------------------------------------
+        String gqlQueryName = null;
+        if (data.containsKey("gqlQueryName")) {
+            gqlQueryName = (String) data.get("gqlQueryName");
+        }
+        String serverErrorMessage = "";
+        if (data.containsKey("serverErrorMessage")) {
+            serverErrorMessage = (String) data.get("serverErrorMessage");
+        }
+        Boolean isW3cHeaderFound = null;
+        Number partialId = null;
+        Number networkStartTimeInSeconds = null;
+        String w3CGeneratedHeader = null;
+        String w3CCaughtHeader = null;
+
+        if (data.containsKey("isW3cHeaderFound")) {
+            isW3cHeaderFound = (Boolean) data.get("isW3cHeaderFound");
+        }
 
-                partialId = ((Number) data.get("partialId"));
+        if (data.containsKey("partialId")) {
 
-            }
-            if (data.containsKey("networkStartTimeInSeconds")) {
-                networkStartTimeInSeconds = ((Number) data.get("networkStartTimeInSeconds"));
-            }
 
-            if (data.containsKey("w3CGeneratedHeader")) {
+            partialId = ((Number) data.get("partialId"));
 
-                w3CGeneratedHeader = (String) data.get("w3CGeneratedHeader");
+        }
+        if (data.containsKey("networkStartTimeInSeconds")) {
+            networkStartTimeInSeconds = ((Number) data.get("networkStartTimeInSeconds"));
+        }
 
+        if (data.containsKey("w3CGeneratedHeader")) {
 
-            }
-            if (data.containsKey("w3CCaughtHeader")) {
-                w3CCaughtHeader = (String) data.get("w3CCaughtHeader");
+            w3CGeneratedHeader = (String) data.get("w3CGeneratedHeader");
 
-            }
 
+        }
+        if (data.containsKey("w3CCaughtHeader")) {
+            w3CCaughtHeader = (String) data.get("w3CCaughtHeader");
 
-            APMCPNetworkLog.W3CExternalTraceAttributes w3cExternalTraceAttributes = null;
-            if (isW3cHeaderFound != null) {
-                w3cExternalTraceAttributes = new APMCPNetworkLog.W3CExternalTraceAttributes(isW3cHeaderFound, partialId == null ? null : partialId.longValue(), networkStartTimeInSeconds == null ? null : networkStartTimeInSeconds.longValue(), w3CGeneratedHeader, w3CCaughtHeader
+        }
 
-                );
-            }
 
-            Method method = Reflection.getMethod(Class.forName("ai.luciq.apm.networking.APMNetworkLogger"), "log", long.class, long.class, String.class, String.class, long.class, String.class, String.class, String.class, String.class, String.class, long.class, int.class, String.class, String.class, String.class, String.class, APMCPNetworkLog.W3CExternalTraceAttributes.class);
-            if (method != null) {
-                method.invoke(apmNetworkLogger, requestStartTime, requestDuration, requestHeaders, requestBody, requestBodySize, requestMethod, requestUrl, requestContentType, responseHeaders, responseBody, responseBodySize, statusCode, responseContentType, errorMessage, gqlQueryName, serverErrorMessage, w3cExternalTraceAttributes);
-                LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_NETWORK, "[APM.networkLogAndroid] phase=exit");
-            } else {
-                LuciqFlutterLogger.e(LuciqFlutterDebugTags.APM_NETWORK,
-                        "[APM.networkLogAndroid] phase=error errorType=NoSuchMethodException reflectionFailure=true");
-            }
+        APMCPNetworkLog.W3CExternalTraceAttributes w3cExternalTraceAttributes = null;
+        if (isW3cHeaderFound != null) {
+            w3cExternalTraceAttributes = new APMCPNetworkLog.W3CExternalTraceAttributes(isW3cHeaderFound, partialId == null ? null : partialId.longValue(), networkStartTimeInSeconds == null ? null : networkStartTimeInSeconds.longValue(), w3CGeneratedHeader, w3CCaughtHeader
 
-        } catch (Exception e) {
-            LuciqFlutterLogger.e(LuciqFlutterDebugTags.APM_NETWORK,
-                    "[APM.networkLogAndroid] phase=error errorType=" + e.getClass().getSimpleName(),
-                    e);
+            );
         }
+
+        method.invoke(apmNetworkLogger, requestStartTime, requestDuration, requestHeaders, requestBody, requestBodySize, requestMethod, requestUrl, requestContentType, responseHeaders, responseBody, responseBodySize, statusCode, responseContentType, errorMessage, gqlQueryName, serverErrorMessage, w3cExternalTraceAttributes);
     }
 
 
@@ -354,10 +424,12 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void startCpUiTrace(@NonNull String screenName, @NonNull Long microTimeStamp, @NonNull Long traceId) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE,
-                "[APM.startCpUiTrace] phase=enter screenNameLength=" + screenName.length()
-                        + " microTimeStamp=" + microTimeStamp
-                        + " traceId=" + traceId);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE,
+                    "[APM.startCpUiTrace] phase=enter screenNameLength=" + screenName.length()
+                            + " microTimeStamp=" + microTimeStamp
+                            + " traceId=" + traceId);
+        }
         try {
             InternalAPM._startUiTraceCP(screenName, microTimeStamp, traceId);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE, "[APM.startCpUiTrace] phase=exit");
@@ -382,10 +454,12 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void reportScreenLoadingCP(@NonNull Long startTimeStampMicro, @NonNull Long durationMicro, @NonNull Long uiTraceId) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
-                "[APM.reportScreenLoadingCP] phase=enter startTimeStampMicro=" + startTimeStampMicro
-                        + " durationMicro=" + durationMicro
-                        + " uiTraceId=" + uiTraceId);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
+                    "[APM.reportScreenLoadingCP] phase=enter startTimeStampMicro=" + startTimeStampMicro
+                            + " durationMicro=" + durationMicro
+                            + " uiTraceId=" + uiTraceId);
+        }
         try {
             InternalAPM._reportScreenLoadingCP(startTimeStampMicro, durationMicro, uiTraceId, null);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
@@ -400,10 +474,12 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
 
     @Override
     public void reportManualScreenLoadingCP(@NonNull String screenName, @NonNull Long startTimeStampMicro, @NonNull Long durationMicro) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
-                "[APM.reportManualScreenLoadingCP] phase=enter screenNameLength=" + screenName.length()
-                        + " startTimeStampMicro=" + startTimeStampMicro
-                        + " durationMicro=" + durationMicro);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
+                    "[APM.reportManualScreenLoadingCP] phase=enter screenNameLength=" + screenName.length()
+                            + " startTimeStampMicro=" + startTimeStampMicro
+                            + " durationMicro=" + durationMicro);
+        }
         try {
             InternalAPM._reportManualScreenLoadingCP(screenName, startTimeStampMicro, durationMicro, null);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
@@ -426,9 +502,11 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void endScreenLoadingCP(@NonNull Long timeStampMicro, @NonNull Long uiTraceId) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
-                "[APM.endScreenLoadingCP] phase=enter timeStampMicro=" + timeStampMicro
-                        + " uiTraceId=" + uiTraceId);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
+                    "[APM.endScreenLoadingCP] phase=enter timeStampMicro=" + timeStampMicro
+                            + " uiTraceId=" + uiTraceId);
+        }
         try {
             InternalAPM._endScreenLoadingCP(timeStampMicro, uiTraceId);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
@@ -458,8 +536,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
             InternalAPM._isFeatureEnabledCP(APMFeature.UI_TRACE, "LuciqCaptureScreenLoading", new FeatureAvailabilityCallback() {
                 @Override
                 public void invoke(boolean isFeatureAvailable) {
-                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE,
-                            "[APM.isAutoUiTraceEnabled] phase=exit result=" + isFeatureAvailable);
+                    if (LuciqFlutterLogger.isDebugEnabled()) {
+                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_UI_TRACE,
+                                "[APM.isAutoUiTraceEnabled] phase=exit result=" + isFeatureAvailable);
+                    }
                     result.success(isFeatureAvailable);
                 }
             });
@@ -477,8 +557,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
             InternalAPM._isFeatureEnabledCP(APMFeature.APM, "APM", new FeatureAvailabilityCallback() {
                 @Override
                 public void invoke(boolean isEnabled) {
-                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_APP_LAUNCH,
-                            "[APM.isEnabled] phase=exit result=" + isEnabled);
+                    if (LuciqFlutterLogger.isDebugEnabled()) {
+                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_APP_LAUNCH,
+                                "[APM.isEnabled] phase=exit result=" + isEnabled);
+                    }
                     result.success(isEnabled);
                 }
             });
@@ -500,8 +582,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
             InternalAPM._isFeatureEnabledCP(APMFeature.SCREEN_LOADING, "LuciqCaptureScreenLoading", new FeatureAvailabilityCallback() {
                 @Override
                 public void invoke(boolean isFeatureAvailable) {
-                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
-                            "[APM.isScreenLoadingEnabled] phase=exit result=" + isFeatureAvailable);
+                    if (LuciqFlutterLogger.isDebugEnabled()) {
+                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
+                                "[APM.isScreenLoadingEnabled] phase=exit result=" + isFeatureAvailable);
+                    }
                     result.success(isFeatureAvailable);
                 }
             });
@@ -517,8 +601,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
      */
     @Override
     public void setScreenLoadingEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
-                "[APM.setScreenLoadingEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
+                    "[APM.setScreenLoadingEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             APM.setScreenLoadingEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_LOADING,
@@ -532,8 +618,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
 
     @Override
     public void setScreenRenderEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
-                "[APM.setScreenRenderEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
+                    "[APM.setScreenRenderEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             APM.setScreenRenderingEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
@@ -553,8 +641,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
             InternalAPM._isFeatureEnabledCP(APMFeature.SCREEN_RENDERING, "LuciqCaptureScreenRender", new FeatureAvailabilityCallback() {
                 @Override
                 public void invoke(boolean isEnabled) {
-                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
-                            "[APM.isScreenRenderEnabled] phase=exit result=" + isEnabled);
+                    if (LuciqFlutterLogger.isDebugEnabled()) {
+                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
+                                "[APM.isScreenRenderEnabled] phase=exit result=" + isEnabled);
+                    }
                     result.success(isEnabled);
                 }
             });
@@ -572,8 +662,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
             InternalAPM._isFeatureEnabledCP(APMFeature.CUSTOM_SPANS, "LuciqCustomSpan", new FeatureAvailabilityCallback() {
                 @Override
                 public void invoke(boolean isEnabled) {
-                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_CUSTOM_SPAN,
-                            "[APM.isCustomSpanEnabled] phase=exit result=" + isEnabled);
+                    if (LuciqFlutterLogger.isDebugEnabled()) {
+                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_CUSTOM_SPAN,
+                                "[APM.isCustomSpanEnabled] phase=exit result=" + isEnabled);
+                    }
                     result.success(isEnabled);
                 }
             });
@@ -593,9 +685,11 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
             InternalAPM._getToleranceValueForScreenRenderingCP(new ToleranceValueCallback() {
                 @Override
                 public void invoke(long tolerance) {
-                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
-                            "[APM.getDeviceRefreshRateAndTolerance] phase=exit resultCount=2 refreshRate="
-                                    + refreshRate + " tolerance=" + tolerance);
+                    if (LuciqFlutterLogger.isDebugEnabled()) {
+                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
+                                "[APM.getDeviceRefreshRateAndTolerance] phase=exit resultCount=2 refreshRate="
+                                        + refreshRate + " tolerance=" + tolerance);
+                    }
                     result.success(java.util.Arrays.asList(refreshRate, (double) tolerance));
                 }
             });
@@ -609,8 +703,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
 
     @Override
     public void endScreenRenderForAutoUiTrace(@NonNull Map<String, Object> data) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
-                "[APM.endScreenRenderForAutoUiTrace] phase=enter traceId=" + data.get("traceId"));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
+                    "[APM.endScreenRenderForAutoUiTrace] phase=enter traceId=" + data.get("traceId"));
+        }
         try {
             final long traceId = ((Number) data.get("traceId")).longValue();
             final long slowFramesTotalDuration = ((Number) data.get("slowFramesTotalDuration")).longValue();
@@ -644,8 +740,10 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
 
     @Override
     public void endScreenRenderForCustomUiTrace(@NonNull Map<String, Object> data) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
-                "[APM.endScreenRenderForCustomUiTrace] phase=enter traceId=" + data.get("traceId"));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_SCREEN_RENDERING,
+                    "[APM.endScreenRenderForCustomUiTrace] phase=enter traceId=" + data.get("traceId"));
+        }
         try {
             final long traceId = ((Number) data.get("traceId")).longValue();
             final long slowFramesTotalDuration = ((Number) data.get("slowFramesTotalDuration")).longValue();
@@ -676,10 +774,12 @@ public class ApmApi implements ApmPigeon.ApmHostApi {
 
     @Override
     public void syncCustomSpan(@NonNull String name, @NonNull Long startTimestamp, @NonNull Long endTimestamp) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_CUSTOM_SPAN,
-                "[APM.syncCustomSpan] phase=enter nameLength=" + name.length()
-                        + " startTimestamp=" + startTimestamp
-                        + " endTimestamp=" + endTimestamp);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.APM_CUSTOM_SPAN,
+                    "[APM.syncCustomSpan] phase=enter nameLength=" + name.length()
+                            + " startTimestamp=" + startTimestamp
+                            + " endTimestamp=" + endTimestamp);
+        }
         try {
             // Convert microseconds to milliseconds for Date objects
             Date startDate = new Date(startTimestamp / 1000);
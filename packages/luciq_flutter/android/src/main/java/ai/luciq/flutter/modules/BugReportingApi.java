@@ -39,7 +39,9 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         if (isEnabled) {
             BugReporting.setState(Feature.State.ENABLED);
         } else {
@@ -51,9 +53,11 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
     @SuppressLint("WrongConstant")
     @Override
     public void show(@NonNull String reportType, @Nullable List<String> invocationOptions) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.show] phase=enter reportType=" + reportType
-                        + " invocationOptionsCount=" + (invocationOptions != null ? invocationOptions.size() : 0));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.show] phase=enter reportType=" + reportType
+                            + " invocationOptionsCount=" + (invocationOptions != null ? invocationOptions.size() : 0));
+        }
         int[] options = new int[invocationOptions.size()];
         for (int i = 0; i < invocationOptions.size(); i++) {
             options[i] = ArgsRegistry.invocationOptions.get(invocationOptions.get(i));
@@ -65,7 +69,9 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void setInvocationEvents(@NonNull List<String> events) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setInvocationEvents] phase=enter eventsCount=" + events.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setInvocationEvents] phase=enter eventsCount=" + events.size());
+        }
         LuciqInvocationEvent[] invocationEventsArray = new LuciqInvocationEvent[events.size()];
 
         for (int i = 0; i < events.size(); i++) {
@@ -80,7 +86,9 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
     @SuppressLint("WrongConstant")
     @Override
     public void setReportTypes(@NonNull List<String> types) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setReportTypes] phase=enter typesCount=" + types.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setReportTypes] phase=enter typesCount=" + types.size());
+        }
         int[] reportTypesArray = new int[types.size()];
 
         for (int i = 0; i < types.size(); i++) {
@@ -94,7 +102,9 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void setExtendedBugReportMode(@NonNull String mode) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setExtendedBugReportMode] phase=enter mode=" + mode);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setExtendedBugReportMode] phase=enter mode=" + mode);
+        }
         final ExtendedBugReport.State resolvedMode = ArgsRegistry.extendedBugReportStates.get(mode);
         BugReporting.setExtendedBugReportState(resolvedMode);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setExtendedBugReportMode] phase=exit");
@@ -103,7 +113,9 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
     @SuppressLint("WrongConstant")
     @Override
     public void setInvocationOptions(@NonNull List<String> options) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setInvocationOptions] phase=enter optionsCount=" + options.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setInvocationOptions] phase=enter optionsCount=" + options.size());
+        }
         int[] resolvedOptions = new int[options.size()];
         for (int i = 0; i < options.size(); i++) {
             resolvedOptions[i] = ArgsRegistry.invocationOptions.get(options.get(i));
@@ -114,8 +126,10 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void setFloatingButtonEdge(@NonNull String edge, @NonNull Long offset) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setFloatingButtonEdge] phase=enter edge=" + edge + " offset=" + offset);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setFloatingButtonEdge] phase=enter edge=" + edge + " offset=" + offset);
+        }
         final LuciqFloatingButtonEdge resolvedEdge = ArgsRegistry.floatingButtonEdges.get(edge);
         BugReporting.setFloatingButtonEdge(resolvedEdge);
         BugReporting.setFloatingButtonOffset(offset.intValue());
@@ -124,8 +138,10 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void setVideoRecordingFloatingButtonPosition(@NonNull String position) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setVideoRecordingFloatingButtonPosition] phase=enter position=" + position);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setVideoRecordingFloatingButtonPosition] phase=enter position=" + position);
+        }
         final LuciqVideoRecordingButtonPosition resolvedPosition = ArgsRegistry.recordButtonPositions.get(position);
         BugReporting.setVideoRecordingFloatingButtonPosition(resolvedPosition);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setVideoRecordingFloatingButtonPosition] phase=exit");
@@ -133,35 +149,43 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void setShakingThresholdForiPhone(@NonNull Double threshold) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setShakingThresholdForiPhone] phase=enter threshold=" + threshold);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setShakingThresholdForiPhone] phase=enter threshold=" + threshold);
+        }
         // iOS Only
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setShakingThresholdForiPhone] phase=exit");
     }
 
     @Override
     public void setShakingThresholdForiPad(@NonNull Double threshold) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setShakingThresholdForiPad] phase=enter threshold=" + threshold);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setShakingThresholdForiPad] phase=enter threshold=" + threshold);
+        }
         // iOS Only
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setShakingThresholdForiPad] phase=exit");
     }
 
     @Override
     public void setShakingThresholdForAndroid(@NonNull Long threshold) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setShakingThresholdForAndroid] phase=enter threshold=" + threshold);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setShakingThresholdForAndroid] phase=enter threshold=" + threshold);
+        }
         BugReporting.setShakingThreshold(threshold.intValue());
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setShakingThresholdForAndroid] phase=exit");
     }
 
     @Override
     public void setEnabledAttachmentTypes(@NonNull Boolean screenshot, @NonNull Boolean extraScreenshot, @NonNull Boolean galleryImage, @NonNull Boolean screenRecording) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setEnabledAttachmentTypes] phase=enter screenshot=" + screenshot
-                        + " extraScreenshot=" + extraScreenshot
-                        + " galleryImage=" + galleryImage
-                        + " screenRecording=" + screenRecording);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setEnabledAttachmentTypes] phase=enter screenshot=" + screenshot
+                            + " extraScreenshot=" + extraScreenshot
+                            + " galleryImage=" + galleryImage
+                            + " screenRecording=" + screenRecording);
+        }
         BugReporting.setAttachmentTypesEnabled(screenshot, extraScreenshot, galleryImage, screenRecording);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setEnabledAttachmentTypes] phase=exit");
     }
@@ -179,9 +203,11 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
                     @Override
                     public void run() {
                         String callId = LuciqFlutterLogger.nextCallId();
-                        LuciqFlutterLogger.d(
-                                LuciqFlutterDebugTags.BUG_REPORTING,
-                                "[BR.onSdkInvoke] #" + callId + " phase=fire");
+                        if (LuciqFlutterLogger.isDebugEnabled()) {
+                            LuciqFlutterLogger.d(
+                                    LuciqFlutterDebugTags.BUG_REPORTING,
+                                    "[BR.onSdkInvoke] #" + callId + " phase=fire");
+                        }
                         flutterApi.onSdkInvoke(callId, new BugReportingPigeon.BugReportingFlutterApi.Reply<Void>() {
                             @Override
                             public void reply(Void reply) {
@@ -206,9 +232,11 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
                         String callId = LuciqFlutterLogger.nextCallId();
                         String dismissTypeString = dismissType.toString();
                         String reportTypeString = reportType.toString();
-                        LuciqFlutterLogger.d(
-                                LuciqFlutterDebugTags.BUG_REPORTING,
-                                "[BR.onSdkDismiss] #" + callId + " phase=fire dismissType=" + dismissTypeString + " reportType=" + reportTypeString);
+                        if (LuciqFlutterLogger.isDebugEnabled()) {
+                            LuciqFlutterLogger.d(
+                                    LuciqFlutterDebugTags.BUG_REPORTING,
+                                    "[BR.onSdkDismiss] #" + callId + " phase=fire dismissType=" + dismissTypeString + " reportType=" + reportTypeString);
+                        }
                         flutterApi.onSdkDismiss(callId, dismissTypeString, reportTypeString, new BugReportingPigeon.BugReportingFlutterApi.Reply<Void>() {
                             @Override
                             public void reply(Void reply) {
@@ -223,8 +251,10 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void setDisclaimerText(@NonNull String text) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setDisclaimerText] phase=enter length=" + text.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setDisclaimerText] phase=enter length=" + text.length());
+        }
         BugReporting.setDisclaimerText(text);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING, "[BR.setDisclaimerText] phase=exit");
     }
@@ -232,9 +262,11 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
     @SuppressLint("WrongConstant")
     @Override
     public void setCommentMinimumCharacterCount(@NonNull Long limit, @Nullable List<String> reportTypes) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setCommentMinimumCharacterCount] phase=enter limit=" + limit
-                        + " reportTypesCount=" + (reportTypes != null ? reportTypes.size() : 0));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setCommentMinimumCharacterCount] phase=enter limit=" + limit
+                            + " reportTypesCount=" + (reportTypes != null ? reportTypes.size() : 0));
+        }
         int[] reportTypesArray = reportTypes == null ? new int[0] : new int[reportTypes.size()];
         if(reportTypes != null){
         for (int i = 0; i < reportTypes.size(); i++) {
@@ -248,12 +280,14 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void addUserConsents(String key, String description, Boolean mandatory, Boolean checked, String actionType) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.addUserConsents] phase=enter keyLength=" + (key == null ? -1 : key.length())
-                        + " descriptionLength=" + (description == null ? -1 : description.length())
-                        + " mandatory=" + mandatory
-                        + " checked=" + checked
-                        + " actionTypePresent=" + (actionType != null));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.addUserConsents] phase=enter keyLength=" + (key == null ? -1 : key.length())
+                            + " descriptionLength=" + (description == null ? -1 : description.length())
+                            + " mandatory=" + mandatory
+                            + " checked=" + checked
+                            + " actionTypePresent=" + (actionType != null));
+        }
         ThreadManager.runOnMainThread(new Runnable() {
             @Override
             public void run() {
@@ -279,10 +313,12 @@ public class BugReportingApi implements BugReportingPigeon.BugReportingHostApi {
 
     @Override
     public void setProactiveReportingConfigurations(@NonNull Boolean enabled, @NonNull Long gapBetweenModals, @NonNull Long modalDelayAfterDetection) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
-                "[BR.setProactiveReportingConfigurations] phase=enter enabled=" + enabled
-                        + " gapBetweenModals=" + gapBetweenModals
-                        + " modalDelayAfterDetection=" + modalDelayAfterDetection);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.BUG_REPORTING,
+                    "[BR.setProactiveReportingConfigurations] phase=enter enabled=" + enabled
+                            + " gapBetweenModals=" + gapBetweenModals
+                            + " modalDelayAfterDetection=" + modalDelayAfterDetection);
+        }
         ThreadManager.runOnMainThread(new Runnable() {
             @Override
             public void run() {
@@ -31,8 +31,10 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
 
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CRASH_REPORTING,
-                "[CR.setEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CRASH_REPORTING,
+                    "[CR.setEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         if (isEnabled) {
             CrashReporting.setState(Feature.State.ENABLED);
         } else {
@@ -44,9 +46,11 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
 
     @Override
     public void send(@NonNull String jsonCrash, @NonNull Boolean isHandled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CRASH_REPORTING,
-                "[CR.send] phase=enter jsonCrashLength=" + jsonCrash.length()
-                        + " isHandled=" + isHandled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CRASH_REPORTING,
+                    "[CR.send] phase=enter jsonCrashLength=" + jsonCrash.length()
+                            + " isHandled=" + isHandled);
+        }
         try {
             final JSONObject exceptionObject = new JSONObject(jsonCrash);
             Method method = Reflection.getMethod(Class.forName("ai.luciq.crash.CrashReporting"), "reportException",
@@ -67,11 +71,13 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
 
     @Override
     public void sendNonFatalError(@NonNull String jsonCrash, @Nullable Map<String, String> userAttributes, @Nullable String fingerprint, @NonNull String nonFatalExceptionLevel) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CRASH_REPORTING,
-                "[CR.sendNonFatalError] phase=enter jsonCrashLength=" + jsonCrash.length()
-                        + " userAttributesPresent=" + (userAttributes != null)
-                        + " fingerprintPresent=" + (fingerprint != null)
-                        + " nonFatalExceptionLevel=" + nonFatalExceptionLevel);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CRASH_REPORTING,
+                    "[CR.sendNonFatalError] phase=enter jsonCrashLength=" + jsonCrash.length()
+                            + " userAttributesPresent=" + (userAttributes != null)
+                            + " fingerprintPresent=" + (fingerprint != null)
+                            + " nonFatalExceptionLevel=" + nonFatalExceptionLevel);
+        }
         try {
             Method method = Reflection.getMethod(Class.forName("ai.luciq.crash.CrashReporting"), "reportException", JSONObject.class, boolean.class,
                     Map.class, JSONObject.class, LuciqNonFatalException.Level.class);
@@ -83,9 +89,11 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
             }
             LuciqNonFatalException.Level nonFatalExceptionLevelType = ArgsRegistry.nonFatalExceptionLevel.get(nonFatalExceptionLevel);
             if (nonFatalExceptionLevelType == null) {
-                LuciqFlutterLogger.w(LuciqFlutterDebugTags.CRASH_REPORTING,
-                        "[CR.sendNonFatalError] phase=warn errorType=UnknownEnum nonFatalExceptionLevel="
-                                + nonFatalExceptionLevel);
+                if (LuciqFlutterLogger.isDebugEnabled()) {
+                    LuciqFlutterLogger.w(LuciqFlutterDebugTags.CRASH_REPORTING,
+                            "[CR.sendNonFatalError] phase=warn errorType=UnknownEnum nonFatalExceptionLevel="
+                                    + nonFatalExceptionLevel);
+                }
             }
             if (method == null) {
                 LuciqFlutterLogger.e(LuciqFlutterDebugTags.CRASH_REPORTING,
@@ -103,8 +111,10 @@ public class CrashReportingApi implements CrashReportingPigeon.CrashReportingHos
 
     @Override
     public void setNDKEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CRASH_REPORTING,
-                "[CR.setNDKEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CRASH_REPORTING,
+                    "[CR.setNDKEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         if (isEnabled) {
             CrashReporting.setNDKCrashesState(Feature.State.ENABLED);
         } else {
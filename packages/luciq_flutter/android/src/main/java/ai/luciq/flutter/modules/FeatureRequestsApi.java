@@ -33,16 +33,20 @@ public class FeatureRequestsApi implements FeatureRequestsPigeon.FeatureRequests
     @SuppressLint("WrongConstant")
     @Override
     public void setEmailFieldRequired(@NonNull Boolean isRequired, @NonNull List<String> actionTypes) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_REQUESTS,
-                "[FR.setEmailFieldRequired] phase=enter isRequired=" + isRequired
-                        + " actionTypesCount=" + actionTypes.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_REQUESTS,
+                    "[FR.setEmailFieldRequired] phase=enter isRequired=" + isRequired
+                            + " actionTypesCount=" + actionTypes.size());
+        }
         int[] actions = new int[actionTypes.size()];
         for (int i = 0; i < actionTypes.size(); i++) {
             Integer mapped = ArgsRegistry.actionTypes.get(actionTypes.get(i));
             if (mapped == null) {
-                LuciqFlutterLogger.w(LuciqFlutterDebugTags.FEATURE_REQUESTS,
-                        "[FR.setEmailFieldRequired] phase=warn errorType=UnknownEnum actionType="
-                                + actionTypes.get(i));
+                if (LuciqFlutterLogger.isDebugEnabled()) {
+                    LuciqFlutterLogger.w(LuciqFlutterDebugTags.FEATURE_REQUESTS,
+                            "[FR.setEmailFieldRequired] phase=warn errorType=UnknownEnum actionType="
+                                    + actionTypes.get(i));
+                }
                 continue;
             }
             actions[i] = mapped;
@@ -13,7 +13,6 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import org.jetbrains.annotations.NotNull;
-import org.json.JSONObject;
 
 import java.io.File;
 import java.io.IOException;
@@ -29,6 +28,8 @@ import java.util.concurrent.Callable;
 
 import ai.luciq.flutter.generated.LuciqPigeon;
 import ai.luciq.flutter.util.ArgsRegistry;
+import ai.luciq.flutter.util.HeaderSerializer;
+import ai.luciq.flutter.util.HostCallWatchdog;
 import ai.luciq.flutter.util.LuciqFlutterDebugTags;
 import ai.luciq.flutter.util.LuciqFlutterLogger;
 import ai.luciq.flutter.util.Reflection;
@@ -98,7 +99,9 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             if (isEnabled)
                 Luciq.enable();
@@ -117,7 +120,9 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
     public Boolean isEnabled() {
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.isEnabled] phase=enter");
         Boolean enabled = Luciq.isEnabled();
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.isEnabled] phase=exit result=" + enabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.isEnabled] phase=exit result=" + enabled);
+        }
         return enabled;
     }
 
@@ -126,7 +131,9 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
     public Boolean isBuilt() {
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.isBuilt] phase=enter");
         Boolean built = Luciq.isBuilt();
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.isBuilt] phase=exit result=" + built);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.isBuilt] phase=exit result=" + built);
+        }
         return built;
     }
 
@@ -141,11 +148,13 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
             parsedLogLevel = ArgsRegistry.sdkLogLevels.getOrDefault(debugLogsLevel, LogLevel.ERROR);
         }
         LuciqFlutterLogger.setLevel(parsedLogLevel);
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.init] phase=enter tokenPresent=" + (token != null && !token.isEmpty())
-                        + " invocationEventsCount=" + invocationEvents.size()
-                        + " debugLogsLevel=" + debugLogsLevel
-                        + " appVariantPresent=" + (appVariant != null));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.init] phase=enter tokenPresent=" + (token != null && !token.isEmpty())
+                            + " invocationEventsCount=" + invocationEvents.size()
+                            + " debugLogsLevel=" + debugLogsLevel
+                            + " appVariantPresent=" + (appVariant != null));
+        }
 
         setCurrentPlatform();
 
@@ -181,8 +190,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void enableAutoMasking(@NonNull List<String> autoMasking) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.enableAutoMasking] phase=enter autoMaskingCount=" + autoMasking.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.enableAutoMasking] phase=enter autoMaskingCount=" + autoMasking.size());
+        }
         int[] autoMaskingArray = new int[autoMasking.size()];
         for (int i = 0; i < autoMasking.size(); i++) {
             String key = autoMasking.get(i);
@@ -202,8 +213,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void showWelcomeMessageWithMode(@NonNull String mode) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.showWelcomeMessageWithMode] phase=enter mode=" + mode);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.showWelcomeMessageWithMode] phase=enter mode=" + mode);
+        }
         WelcomeMessage.State resolvedMode = ArgsRegistry.welcomeMessageStates.get(mode);
         Luciq.showWelcomeMessage(resolvedMode);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.showWelcomeMessageWithMode] phase=exit");
@@ -211,26 +224,32 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void identifyUser(@Nullable String email, @Nullable String name, @Nullable String userId) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.identifyUser] phase=enter emailPresent=" + (email != null && !email.isEmpty())
-                        + " namePresent=" + (name != null && !name.isEmpty())
-                        + " userIdPresent=" + (userId != null && !userId.isEmpty()));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.identifyUser] phase=enter emailPresent=" + (email != null && !email.isEmpty())
+                            + " namePresent=" + (name != null && !name.isEmpty())
+                            + " userIdPresent=" + (userId != null && !userId.isEmpty()));
+        }
         Luciq.identifyUser(name, email, userId);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.identifyUser] phase=exit");
     }
 
     @Override
     public void setUserData(@NonNull String data) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setUserData] phase=enter length=" + data.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setUserData] phase=enter length=" + data.length());
+        }
         Luciq.setUserData(data);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setUserData] phase=exit");
     }
 
     @Override
     public void setAppVariant(@NonNull String appVariant) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setAppVariant] phase=enter length=" + appVariant.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setAppVariant] phase=enter length=" + appVariant.length());
+        }
         try {
             Luciq.setAppVariant(appVariant);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setAppVariant] phase=exit");
@@ -244,8 +263,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void logUserEvent(@NonNull String name) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.logUserEvent] phase=enter length=" + name.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.logUserEvent] phase=enter length=" + name.length());
+        }
         Luciq.logUserEvent(name);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.logUserEvent] phase=exit");
     }
@@ -259,8 +280,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setEnableUserSteps(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setEnableUserSteps] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setEnableUserSteps] phase=enter isEnabled=" + isEnabled);
+        }
         Luciq.setTrackingUserStepsState(isEnabled ? Feature.State.ENABLED : Feature.State.DISABLED);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setEnableUserSteps] phase=exit");
     }
@@ -268,10 +291,12 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
     @Override
 
     public void logUserSteps(@NonNull String gestureType, @NonNull String message, @Nullable String viewName) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.logUserSteps] phase=enter gestureType=" + gestureType
-                        + " messageLength=" + message.length()
-                        + " viewNamePresent=" + (viewName != null));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.logUserSteps] phase=enter gestureType=" + gestureType
+                            + " messageLength=" + message.length()
+                            + " viewNamePresent=" + (viewName != null));
+        }
         try {
             final String stepType = ArgsRegistry.gestureStepType.get(gestureType);
             final long timeStamp = System.currentTimeMillis();
@@ -299,7 +324,9 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setLocale(@NonNull String locale) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setLocale] phase=enter locale=" + locale);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setLocale] phase=enter locale=" + locale);
+        }
         final LuciqLocale resolvedLocale = ArgsRegistry.locales.get(locale);
         Luciq.setLocale(new Locale(resolvedLocale.getCode(), resolvedLocale.getCountry()));
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setLocale] phase=exit");
@@ -307,7 +334,9 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setColorTheme(@NonNull String theme) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setColorTheme] phase=enter theme=" + theme);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setColorTheme] phase=enter theme=" + theme);
+        }
         LuciqColorTheme resolvedTheme = ArgsRegistry.colorThemes.get(theme);
         Luciq.setColorTheme(resolvedTheme);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setColorTheme] phase=exit");
@@ -315,7 +344,9 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setWelcomeMessageMode(@NonNull String mode) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setWelcomeMessageMode] phase=enter mode=" + mode);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setWelcomeMessageMode] phase=enter mode=" + mode);
+        }
         WelcomeMessage.State resolvedMode = ArgsRegistry.welcomeMessageStates.get(mode);
         Luciq.setWelcomeMessageState(resolvedMode);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setWelcomeMessageMode] phase=exit");
@@ -324,8 +355,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setSessionProfilerEnabled(@NonNull Boolean enabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setSessionProfilerEnabled] phase=enter enabled=" + enabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setSessionProfilerEnabled] phase=enter enabled=" + enabled);
+        }
         if (enabled) {
             Luciq.setSessionProfilerState(Feature.State.ENABLED);
         } else {
@@ -336,23 +369,29 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setValueForStringWithKey(@NonNull String value, @NonNull String key) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setValueForStringWithKey] phase=enter key=" + key + " valueLength=" + value.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setValueForStringWithKey] phase=enter key=" + key + " valueLength=" + value.length());
+        }
         if (ArgsRegistry.placeholders.containsKey(key)) {
             LuciqCustomTextPlaceHolder.Key resolvedKey = ArgsRegistry.placeholders.get(key);
             placeHolder.set(resolvedKey, value);
             Luciq.setCustomTextPlaceHolders(placeHolder);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setValueForStringWithKey] phase=exit");
         } else {
-            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                    "[Luciq.setValueForStringWithKey] phase=exit iosOnly=true key=" + key);
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                        "[Luciq.setValueForStringWithKey] phase=exit iosOnly=true key=" + key);
+            }
         }
     }
 
     @Override
     public void appendTags(@NonNull List<String> tags) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.appendTags] phase=enter count=" + tags.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.appendTags] phase=enter count=" + tags.size());
+        }
         Luciq.addTags(tags.toArray(new String[0]));
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.appendTags] phase=exit");
     }
@@ -373,12 +412,14 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
                     public void run() {
                         final List<String> tags = Luciq.getTags();
 
-                        ThreadManager.runOnMainThread(new Runnable() {
+                        ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                             @Override
                             public void run() {
-                                LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                                        "[Luciq.getTags] phase=exit resultPresent=" + (tags != null)
-                                                + " resultCount=" + (tags != null ? tags.size() : 0));
+                                if (LuciqFlutterLogger.isDebugEnabled()) {
+                                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                                            "[Luciq.getTags] phase=exit resultPresent=" + (tags != null)
+                                                    + " resultCount=" + (tags != null ? tags.size() : 0));
+                                }
                                 result.success(tags);
                             }
                         });
@@ -391,8 +432,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void addFeatureFlags(@NonNull Map<String, String> featureFlags) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_FLAGS,
-                "[Luciq.addFeatureFlags] phase=enter count=" + featureFlags.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_FLAGS,
+                    "[Luciq.addFeatureFlags] phase=enter count=" + featureFlags.size());
+        }
         try {
             List<LuciqFeatureFlag> features = new ArrayList<>();
             for (Map.Entry<String, String> entry : featureFlags.entrySet()) {
@@ -409,8 +452,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void removeFeatureFlags(@NonNull List<String> featureFlags) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_FLAGS,
-                "[Luciq.removeFeatureFlags] phase=enter count=" + featureFlags.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_FLAGS,
+                    "[Luciq.removeFeatureFlags] phase=enter count=" + featureFlags.size());
+        }
         try {
             Luciq.removeFeatureFlag(featureFlags);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_FLAGS, "[Luciq.removeFeatureFlags] phase=exit");
@@ -436,16 +481,20 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setUserAttribute(@NonNull String value, @NonNull String key) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setUserAttribute] phase=enter key=" + key + " valueLength=" + value.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setUserAttribute] phase=enter key=" + key + " valueLength=" + value.length());
+        }
         Luciq.setUserAttribute(key, value);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setUserAttribute] phase=exit");
     }
 
     @Override
     public void removeUserAttribute(@NonNull String key) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.removeUserAttribute] phase=enter key=" + key);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.removeUserAttribute] phase=enter key=" + key);
+        }
         Luciq.removeUserAttribute(key);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.removeUserAttribute] phase=exit");
     }
@@ -453,20 +502,24 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void getUserAttributeForKey(@NonNull String key, LuciqPigeon.Result<String> result) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.getUserAttributeForKey] phase=enter key=" + key);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.getUserAttributeForKey] phase=enter key=" + key);
+        }
         ThreadManager.runOnBackground(
                 new Runnable() {
                     @Override
                     public void run() {
                         final String attribute = Luciq.getUserAttribute(key);
 
-                        ThreadManager.runOnMainThread(new Runnable() {
+                        ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                             @Override
                             public void run() {
-                                LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                                        "[Luciq.getUserAttributeForKey] phase=exit resultPresent=" + (attribute != null)
-                                                + " resultLength=" + (attribute != null ? attribute.length() : 0));
+                                if (LuciqFlutterLogger.isDebugEnabled()) {
+                                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                                            "[Luciq.getUserAttributeForKey] phase=exit resultPresent=" + (attribute != null)
+                                                    + " resultLength=" + (attribute != null ? attribute.length() : 0));
+                                }
                                 result.success(attribute);
                             }
                         });
@@ -484,12 +537,14 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
                     public void run() {
                         final Map<String, String> attributes = Luciq.getAllUserAttributes();
 
-                        ThreadManager.runOnMainThread(new Runnable() {
+                        ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                             @Override
                             public void run() {
-                                LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                                        "[Luciq.getUserAttributes] phase=exit resultPresent=" + (attributes != null)
-                                                + " resultCount=" + (attributes != null ? attributes.size() : 0));
+                                if (LuciqFlutterLogger.isDebugEnabled()) {
+                                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                                            "[Luciq.getUserAttributes] phase=exit resultPresent=" + (attributes != null)
+                                                    + " resultCount=" + (attributes != null ? attributes.size() : 0));
+                                }
                                 result.success(attributes);
                             }
                         });
@@ -500,10 +555,12 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setReproStepsConfig(@Nullable String bugMode, @Nullable String crashMode, @Nullable String sessionReplayMode) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setReproStepsConfig] phase=enter bugMode=" + bugMode
-                        + " crashMode=" + crashMode
-                        + " sessionReplayMode=" + sessionReplayMode);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setReproStepsConfig] phase=enter bugMode=" + bugMode
+                            + " crashMode=" + crashMode
+                            + " sessionReplayMode=" + sessionReplayMode);
+        }
         try {
             final ReproConfigurations.Builder builder = new ReproConfigurations.Builder();
 
@@ -535,8 +592,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void reportScreenChange(@NonNull String screenName) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SCREEN_TRACKING,
-                "[Luciq.reportScreenChange] phase=enter screenNameLength=" + screenName.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SCREEN_TRACKING,
+                    "[Luciq.reportScreenChange] phase=enter screenNameLength=" + screenName.length());
+        }
         try {
             Method method = Reflection.getMethod(Class.forName("ai.luciq.library.Luciq"), "reportScreenChange",
                     Bitmap.class, String.class, Long.class);
@@ -572,9 +631,11 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setCustomBrandingImage(@NonNull String light, @NonNull String dark) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setCustomBrandingImage] phase=enter lightLength=" + light.length()
-                        + " darkLength=" + dark.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setCustomBrandingImage] phase=enter lightLength=" + light.length()
+                            + " darkLength=" + dark.length());
+        }
         try {
             Bitmap lightLogoVariant = getBitmapForAsset(light);
             Bitmap darkLogoVariant = getBitmapForAsset(dark);
@@ -604,17 +665,21 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setFont(@NonNull String font) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setFont] phase=enter fontLength=" + font.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setFont] phase=enter fontLength=" + font.length());
+        }
         // iOS Only
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setFont] phase=exit iosOnly=true");
     }
 
     @Override
     public void addFileAttachmentWithURL(@NonNull String filePath, @NonNull String fileName) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.addFileAttachmentWithURL] phase=enter filePathLength=" + filePath.length()
-                        + " fileNameLength=" + fileName.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.addFileAttachmentWithURL] phase=enter filePathLength=" + filePath.length()
+                            + " fileNameLength=" + fileName.length());
+        }
         final File file = new File(filePath);
         if (file.exists()) {
             Luciq.addFileAttachment(Uri.fromFile(file), fileName);
@@ -628,9 +693,11 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void addFileAttachmentWithData(@NonNull byte[] data, @NonNull String fileName) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.addFileAttachmentWithData] phase=enter dataLength=" + data.length
-                        + " fileNameLength=" + fileName.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.addFileAttachmentWithData] phase=enter dataLength=" + data.length
+                            + " fileNameLength=" + fileName.length());
+        }
         Luciq.addFileAttachment(data, fileName);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.addFileAttachmentWithData] phase=exit");
     }
@@ -644,10 +711,12 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void networkLog(@NonNull Map<String, Object> data) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
-                "[Luciq.networkLog] phase=enter url=" + LuciqFlutterLogger.redactUrl((String) data.get("url"))
-                        + " method=" + data.get("method")
-                        + " responseCode=" + data.get("responseCode"));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
+                    "[Luciq.networkLog] phase=enter url=" + LuciqFlutterLogger.redactUrl((String) data.get("url"))
+                            + " method=" + data.get("method")
+                            + " responseCode=" + data.get("responseCode"));
+        }
         try {
             NetworkLog networkLog = new NetworkLog();
             String date = System.currentTimeMillis() + "";
@@ -658,8 +727,8 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
             networkLog.setResponse((String) data.get("responseBody"));
             networkLog.setMethod((String) data.get("method"));
             networkLog.setResponseCode((Integer) data.get("responseCode"));
-            networkLog.setRequestHeaders((new JSONObject((HashMap<String, String>) data.get("requestHeaders"))).toString(4));
-            networkLog.setResponseHeaders((new JSONObject((HashMap<String, String>) data.get("responseHeaders"))).toString(4));
+            networkLog.setRequestHeaders(HeaderSerializer.serialize((Map<?, ?>) data.get("requestHeaders")));
+            networkLog.setResponseHeaders(HeaderSerializer.serialize((Map<?, ?>) data.get("responseHeaders")));
             networkLog.setTotalDuration(((Number) data.get("duration")).longValue() / 1000);
 
             networkLog.insert();
@@ -679,7 +748,7 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
             InternalCore.INSTANCE._setFeaturesStateListener(new FeaturesStateListener() {
                 @Override
                 public void invoke(@NonNull CoreFeaturesState featuresState) {
-                    ThreadManager.runOnMainThread(new Runnable() {
+                    ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                         @Override
                         public void run() {
                             featureFlagsFlutterApi.onW3CFeatureFlagChange(featuresState.isW3CExternalTraceIdEnabled(),
@@ -720,8 +789,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
         params.put("isW3cExternalGeneratedHeaderEnabled", InternalCore.INSTANCE._isFeatureEnabled(CoreFeature.W3C_ATTACHING_GENERATED_HEADER));
         params.put("isW3cCaughtHeaderEnabled", InternalCore.INSTANCE._isFeatureEnabled(CoreFeature.W3C_ATTACHING_CAPTURED_HEADER));
 
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_FLAGS,
-                "[Luciq.isW3CFeatureFlagsEnabled] phase=exit resultCount=" + params.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.FEATURE_FLAGS,
+                    "[Luciq.isW3CFeatureFlagsEnabled] phase=exit resultCount=" + params.size());
+        }
         return params;
     }
 
@@ -753,8 +824,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setNetworkLogBodyEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
-                "[Luciq.setNetworkLogBodyEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
+                    "[Luciq.setNetworkLogBodyEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             Luciq.setNetworkLogBodyEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK, "[Luciq.setNetworkLogBodyEnabled] phase=exit");
@@ -765,10 +838,23 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
         }
     }
 
+    @Override
+    public void setNetworkLogHeaderFilters(@Nullable List<String> allowList, @Nullable List<String> denyList) {
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
+                    "[Luciq.setNetworkLogHeaderFilters] phase=enter allowListCount=" + (allowList != null ? allowList.size() : -1)
+                            + " denyListCount=" + (denyList != null ? denyList.size() : -1));
+        }
+        HeaderSerializer.setHeaderFilters(allowList, denyList);
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK, "[Luciq.setNetworkLogHeaderFilters] phase=exit");
+    }
+
     @Override
     public void setTheme(@NonNull Map<String, Object> themeConfig) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setTheme] phase=enter keyCount=" + themeConfig.size());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setTheme] phase=enter keyCount=" + themeConfig.size());
+        }
         try {
             ai.luciq.library.model.LuciqTheme.Builder builder = new ai.luciq.library.model.LuciqTheme.Builder();
 
@@ -829,8 +915,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
                 return android.graphics.Color.parseColor(colorString);
             }
         } catch (Exception e) {
-            LuciqFlutterLogger.w(LuciqFlutterDebugTags.CORE,
-                    "[Luciq.setTheme.color] phase=warn errorType=" + e.getClass().getSimpleName() + " key=" + key);
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.w(LuciqFlutterDebugTags.CORE,
+                        "[Luciq.setTheme.color] phase=warn errorType=" + e.getClass().getSimpleName() + " key=" + key);
+            }
         }
         return android.graphics.Color.BLACK;
     }
@@ -859,8 +947,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
                 }
             }
         } catch (Exception e) {
-            LuciqFlutterLogger.w(LuciqFlutterDebugTags.CORE,
-                    "[Luciq.setTheme.textStyle] phase=warn errorType=" + e.getClass().getSimpleName() + " key=" + key);
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.w(LuciqFlutterDebugTags.CORE,
+                        "[Luciq.setTheme.textStyle] phase=warn errorType=" + e.getClass().getSimpleName() + " key=" + key);
+            }
         }
         return Typeface.NORMAL;
     }
@@ -914,8 +1004,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
             try {
                 return Typeface.create(fontName, Typeface.NORMAL);
             } catch (Exception e2) {
-                LuciqFlutterLogger.w(LuciqFlutterDebugTags.CORE,
-                        "[Luciq.setTheme.typeface] phase=warn errorType=" + e2.getClass().getSimpleName());
+                if (LuciqFlutterLogger.isDebugEnabled()) {
+                    LuciqFlutterLogger.w(LuciqFlutterDebugTags.CORE,
+                            "[Luciq.setTheme.typeface] phase=warn errorType=" + e2.getClass().getSimpleName());
+                }
                 return Typeface.DEFAULT;
             }
         }
@@ -926,8 +1018,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
      */
     @Override
     public void setFullscreen(@NonNull final Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setFullscreen] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setFullscreen] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             Luciq.setFullscreen(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setFullscreen] phase=exit");
@@ -947,8 +1041,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
                 public void run() {
                     try {
                         double networkCharLimit = InternalCore.INSTANCE.get_networkLogCharLimit();
-                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
-                                "[Luciq.getNetworkBodyMaxSize] phase=exit result=" + networkCharLimit);
+                        if (LuciqFlutterLogger.isDebugEnabled()) {
+                            LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
+                                    "[Luciq.getNetworkBodyMaxSize] phase=exit result=" + networkCharLimit);
+                        }
                         result.success(networkCharLimit);
                     } catch (Exception e) {
                         LuciqFlutterLogger.e(LuciqFlutterDebugTags.NETWORK,
@@ -959,10 +1055,59 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
             }
         );
     }
+
+    @Override
+    public void setHostCallWatchdogEnabled(@NonNull Boolean isEnabled, @NonNull Long budgetMs) {
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setHostCallWatchdogEnabled] phase=enter isEnabled=" + isEnabled + " budgetMs=" + budgetMs);
+        }
+        HostCallWatchdog.setEnabled(isEnabled, budgetMs);
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setHostCallWatchdogEnabled] phase=exit");
+    }
+
+    @NonNull
+    @Override
+    public Map<String, Double> getHostCallMetrics() {
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.getHostCallMetrics] phase=enter");
+        final Map<String, Double> metrics = HostCallWatchdog.toMap();
+        metrics.putAll(ThreadManager.getLaneMetrics());
+        metrics.putAll(Reflection.toMap());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.getHostCallMetrics] phase=exit " + HostCallWatchdog.summarize()
+                            + " " + ThreadManager.summarizeLanes()
+                            + " reflection.cacheHits=" + Reflection.getCacheHitCount()
+                            + " reflection.cacheMisses=" + Reflection.getCacheMissCount());
+        }
+        return metrics;
+    }
+
+    @Override
+    public void resetHostCallMetrics() {
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.resetHostCallMetrics] phase=enter");
+        HostCallWatchdog.reset();
+        ThreadManager.resetLaneMetrics();
+        Reflection.resetCacheStats();
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.resetHostCallMetrics] phase=exit");
+    }
+
+    @Override
+    public void setMainThreadCoalescingEnabled(@NonNull Boolean isEnabled) {
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setMainThreadCoalescingEnabled] phase=enter isEnabled=" + isEnabled);
+        }
+        ThreadManager.setMainThreadCoalescingEnabled(isEnabled);
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setMainThreadCoalescingEnabled] phase=exit");
+    }
+
     @Override
     public void setNetworkAutoMaskingEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
-                "[Luciq.setNetworkAutoMaskingEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.NETWORK,
+                    "[Luciq.setNetworkAutoMaskingEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             if (isEnabled)
                 Luciq.setNetworkAutoMaskingState(Feature.State.ENABLED);
@@ -978,8 +1123,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setWebViewMonitoringEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setWebViewMonitoringEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setWebViewMonitoringEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             Luciq.setWebViewMonitoringEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE, "[Luciq.setWebViewMonitoringEnabled] phase=exit");
@@ -992,8 +1139,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setWebViewUserInteractionsTrackingEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setWebViewUserInteractionsTrackingEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setWebViewUserInteractionsTrackingEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             Luciq.setWebViewUserInteractionsTrackingEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
@@ -1007,8 +1156,10 @@ public class LuciqApi implements LuciqPigeon.LuciqHostApi {
 
     @Override
     public void setWebViewNetworkTrackingEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
-                "[Luciq.setWebViewNetworkTrackingEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[Luciq.setWebViewNetworkTrackingEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         try {
             Luciq.setWebViewNetworkTrackingEnabled(isEnabled);
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
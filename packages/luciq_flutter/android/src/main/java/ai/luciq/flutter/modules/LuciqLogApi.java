@@ -17,8 +17,10 @@ public class LuciqLogApi implements LuciqLogPigeon.LuciqLogHostApi {
 
     @Override
     public void logVerbose(@NonNull String message) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
-                "[LOG.logVerbose] phase=enter length=" + message.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
+                    "[LOG.logVerbose] phase=enter length=" + message.length());
+        }
         LuciqLog.v(message);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
                 "[LOG.logVerbose] phase=exit");
@@ -26,8 +28,10 @@ public class LuciqLogApi implements LuciqLogPigeon.LuciqLogHostApi {
 
     @Override
     public void logDebug(@NonNull String message) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
-                "[LOG.logDebug] phase=enter length=" + message.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
+                    "[LOG.logDebug] phase=enter length=" + message.length());
+        }
         LuciqLog.d(message);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
                 "[LOG.logDebug] phase=exit");
@@ -35,8 +39,10 @@ public class LuciqLogApi implements LuciqLogPigeon.LuciqLogHostApi {
 
     @Override
     public void logInfo(@NonNull String message) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
-                "[LOG.logInfo] phase=enter length=" + message.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
+                    "[LOG.logInfo] phase=enter length=" + message.length());
+        }
         LuciqLog.i(message);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
                 "[LOG.logInfo] phase=exit");
@@ -44,8 +50,10 @@ public class LuciqLogApi implements LuciqLogPigeon.LuciqLogHostApi {
 
     @Override
     public void logWarn(@NonNull String message) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
-                "[LOG.logWarn] phase=enter length=" + message.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
+                    "[LOG.logWarn] phase=enter length=" + message.length());
+        }
         LuciqLog.w(message);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
                 "[LOG.logWarn] phase=exit");
@@ -53,8 +61,10 @@ public class LuciqLogApi implements LuciqLogPigeon.LuciqLogHostApi {
 
     @Override
     public void logError(@NonNull String message) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
-                "[LOG.logError] phase=enter length=" + message.length());
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
+                    "[LOG.logError] phase=enter length=" + message.length());
+        }
         LuciqLog.e(message);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.LUCIQ_LOG,
                 "[LOG.logError] phase=exit");
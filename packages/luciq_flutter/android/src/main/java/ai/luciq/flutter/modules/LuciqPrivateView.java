@@ -1,9 +1,11 @@
 package ai.luciq.flutter.modules;
 
-import android.os.Handler;
-import android.os.Looper;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import ai.luciq.flutter.generated.LuciqPrivateViewPigeon;
+import ai.luciq.flutter.modules.capturing.CaptureMetrics;
+import ai.luciq.flutter.modules.capturing.FrameCaptureScheduler;
 import ai.luciq.flutter.util.LuciqFlutterDebugTags;
 import ai.luciq.flutter.util.LuciqFlutterLogger;
 import ai.luciq.flutter.util.privateViews.ScreenshotCaptor;
@@ -11,21 +13,43 @@ import ai.luciq.library.internal.crossplatform.InternalCore;
 
 import io.flutter.plugin.common.BinaryMessenger;
 
+import java.util.concurrent.Callable;
+
 public class LuciqPrivateView implements LuciqPrivateViewPigeon.LuciqPrivateViewHostApi {
     PrivateViewManager privateViewManager;
+    private final FrameCaptureScheduler frameCaptureScheduler;
+    @Nullable
+    private final Callable<PrivateViewManager> captureTargetProvider;
 
     public static void init(BinaryMessenger messenger, PrivateViewManager privateViewManager) {
-        final LuciqPrivateView api = new LuciqPrivateView(messenger, privateViewManager);
+        init(messenger, privateViewManager, null);
+    }
+
+    /**
+     * @param captureTargetProvider picks the manager of the engine on screen when the app runs
+     *                              several engines, falling back to this engine's when it returns
+     *                              null and this engine is still attached
+     */
+    public static void init(BinaryMessenger messenger, PrivateViewManager privateViewManager, @Nullable Callable<PrivateViewManager> captureTargetProvider) {
+        final LuciqPrivateView api = new LuciqPrivateView(messenger, privateViewManager, new FrameCaptureScheduler(), captureTargetProvider);
         LuciqPrivateViewPigeon.LuciqPrivateViewHostApi.setup(messenger, api);
     }
 
     public LuciqPrivateView(BinaryMessenger messenger, PrivateViewManager privateViewManager) {
+        this(messenger, privateViewManager, new FrameCaptureScheduler());
+    }
+
+    public LuciqPrivateView(BinaryMessenger messenger, PrivateViewManager privateViewManager, FrameCaptureScheduler frameCaptureScheduler) {
+        this(messenger, privateViewManager, frameCaptureScheduler, null);
+    }
+
+    public LuciqPrivateView(BinaryMessenger messenger, PrivateViewManager privateViewManager, FrameCaptureScheduler frameCaptureScheduler, @Nullable Callable<PrivateViewManager> captureTargetProvider) {
         this.privateViewManager = privateViewManager;
+        this.frameCaptureScheduler = frameCaptureScheduler;
+        this.captureTargetProvider = captureTargetProvider;
         LuciqPrivateViewPigeon.LuciqPrivateViewHostApi.setup(messenger, this);
     }
 
-    static long time = System.currentTimeMillis();
-
     @Override
     public void init() {
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
@@ -34,20 +58,66 @@ public class LuciqPrivateView implements LuciqPrivateViewPigeon.LuciqPrivateView
             @Override
             public void capture(CapturingCallback listener) {
                 String callId = LuciqFlutterLogger.nextCallId();
-                LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
-                        "[PRIV.capture] #" + callId + " phase=fire delayMs=300");
-                (new Handler(Looper.getMainLooper())).postDelayed(new Runnable() {
+                final long requestedAt = System.nanoTime();
+                if (LuciqFlutterLogger.isDebugEnabled()) {
+                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                            "[PRIV.capture] #" + callId + " phase=fire schedule=nextFrame");
+                }
+                frameCaptureScheduler.scheduleAfterNextFrame(new FrameCaptureScheduler.Callback() {
                     @Override
-                    public void run() {
-                        time = System.currentTimeMillis();
-                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
-                                "[PRIV.capture.mask] #" + callId + " phase=enter");
-                        privateViewManager.mask(listener);
+                    public void onFrameRendered(long frameNumber, long frameTimeMicros) {
+                        final PrivateViewManager privateViewManager = getCaptureTarget();
+                        if (privateViewManager == null) {
+                            listener.onCapturingFailure(new Exception(PrivateViewManager.EXCEPTION_MESSAGE));
+                            return;
+                        }
+                        privateViewManager.getCaptureMetrics().record(CaptureMetrics.Stage.SCHEDULE, System.nanoTime() - requestedAt);
+                        if (LuciqFlutterLogger.isDebugEnabled()) {
+                            LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                                    "[PRIV.capture.mask] #" + callId + " phase=enter frameNumber=" + frameNumber);
+                        }
+                        privateViewManager.mask(listener, frameTimeMicros);
                     }
-                }, 300);
+                });
             }
         }, InternalCore.INSTANCE);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
                 "[PRIV.init] phase=exit");
     }
+
+    /**
+     * @return the manager of the engine to capture, this engine's unless another one is on screen,
+     * or null if no engine is attached. The captor outlives the engine that registered it, whose
+     * manager is disposed once it detached.
+     */
+    @Nullable
+    private PrivateViewManager getCaptureTarget() {
+        final PrivateViewManager fallback = privateViewManager.isDisposed() ? null : privateViewManager;
+        if (captureTargetProvider == null) {
+            return fallback;
+        }
+        try {
+            final PrivateViewManager target = captureTargetProvider.call();
+            return target != null ? target : fallback;
+        } catch (Exception e) {
+            LuciqFlutterLogger.e(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                    "[PRIV.capture] phase=error errorType=" + e.getClass().getSimpleName(), e);
+            return fallback;
+        }
+    }
+
+    @Override
+    @NonNull
+    public Boolean updatePrivateViews(@NonNull Long layoutVersion, @NonNull Long frameTimeMicros, @Nullable double[] rects) {
+        // Called after every frame Dart builds while captures are requested, so only layout
+        // changes are logged
+        if (rects != null) {
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                        "[PRIV.updatePrivateViews] layoutVersion=" + layoutVersion + " frameTimeMicros=" + frameTimeMicros
+                                + " rectCount=" + rects.length / 4);
+            }
+        }
+        return privateViewManager.updatePrivateViews(layoutVersion, frameTimeMicros, rects);
+    }
 }
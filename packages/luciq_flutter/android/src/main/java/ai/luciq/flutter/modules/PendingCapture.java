@@ -0,0 +1,177 @@
+package ai.luciq.flutter.modules;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import ai.luciq.flutter.model.ScreenshotResult;
+import ai.luciq.flutter.util.privateViews.ScreenshotCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Joins the two independent halves of a masked capture, the screenshot and the private views
+ * reply from Dart, without parking a thread on either of them.
+ * <p>
+ * Requests for the same frame that arrive while the capture is in flight {@link #join} it and
+ * share its result instead of taking a capture of their own. Only requests of the same kind share
+ * a capture, since only full quality requests ignore the capture scale.
+ * <p>
+ * Whichever half arrives last hands the pair to the {@link Listener}. The capture completes at
+ * most once: after a failure, timeout or {@link #cancel()}, late screenshots are handed to
+ * {@link Listener#onDiscarded(ScreenshotResult)} so their bitmaps can be reclaimed.
+ */
+class PendingCapture {
+    interface Listener {
+        void onReady(@NonNull PendingCapture capture, @NonNull ScreenshotResult screenshot, @Nullable double[] privateViews);
+
+        void onDiscarded(@NonNull ScreenshotResult screenshot);
+    }
+
+    final String callId;
+    final long frameTimeMicros;
+    // Whether the requesters need a full resolution screenshot, see ScreenshotCaptor.FullQualityCapturingCallback
+    final boolean fullQuality;
+    final long startedAtNanos = System.nanoTime();
+    private final List<ScreenshotCaptor.CapturingCallback> callbacks = new ArrayList<>();
+    private final Listener listener;
+    private final AtomicBoolean done = new AtomicBoolean(false);
+
+    private ScreenshotResult screenshot;
+    private double[] privateViews;
+    private boolean hasPrivateViews = false;
+    private Future<?> deadline;
+
+    PendingCapture(String callId, long frameTimeMicros, ScreenshotCaptor.CapturingCallback callback, Listener listener) {
+        this.callId = callId;
+        this.frameTimeMicros = frameTimeMicros;
+        this.fullQuality = isFullQuality(callback);
+        this.callbacks.add(callback);
+        this.listener = listener;
+    }
+
+    static boolean isFullQuality(ScreenshotCaptor.CapturingCallback callback) {
+        return callback instanceof ScreenshotCaptor.FullQualityCapturingCallback;
+    }
+
+    /**
+     * Adds another requester to the capture.
+     *
+     * @return false if the capture already completed or is of a different kind of request, and
+     * the requester has to capture on its own
+     */
+    synchronized boolean join(ScreenshotCaptor.CapturingCallback callback) {
+        if (done.get() || isFullQuality(callback) != fullQuality) {
+            return false;
+        }
+        callbacks.add(callback);
+        return true;
+    }
+
+    /**
+     * @return the requesters sharing this capture; only stable once the capture is done
+     */
+    synchronized List<ScreenshotCaptor.CapturingCallback> getCallbacks() {
+        return new ArrayList<>(callbacks);
+    }
+
+    synchronized void setDeadline(Future<?> deadline) {
+        if (done.get()) {
+            deadline.cancel(false);
+            return;
+        }
+        this.deadline = deadline;
+    }
+
+    void onScreenshot(@NonNull ScreenshotResult result) {
+        boolean late;
+        boolean ready;
+        synchronized (this) {
+            late = done.get();
+            if (!late) {
+                screenshot = result;
+            }
+            ready = !late && hasPrivateViews;
+        }
+
+        if (late) {
+            listener.onDiscarded(result);
+        } else if (ready) {
+            complete();
+        }
+    }
+
+    void onPrivateViews(@Nullable double[] result) {
+        boolean ready;
+        synchronized (this) {
+            if (done.get()) {
+                return;
+            }
+            privateViews = result;
+            hasPrivateViews = true;
+            ready = screenshot != null;
+        }
+
+        if (ready) {
+            complete();
+        }
+    }
+
+    /**
+     * Fails the capture unless it already completed.
+     *
+     * @return whether this call failed the capture
+     */
+    boolean fail(@NonNull Throwable throwable) {
+        if (!done.compareAndSet(false, true)) {
+            return false;
+        }
+
+        ScreenshotResult captured;
+        synchronized (this) {
+            cancelDeadline();
+            captured = screenshot;
+            screenshot = null;
+        }
+        if (captured != null) {
+            listener.onDiscarded(captured);
+        }
+        for (ScreenshotCaptor.CapturingCallback callback : getCallbacks()) {
+            callback.onCapturingFailure(throwable);
+        }
+        return true;
+    }
+
+    boolean cancel() {
+        return fail(new CancellationException(PrivateViewManager.EXCEPTION_MESSAGE));
+    }
+
+    boolean isDone() {
+        return done.get();
+    }
+
+    private void complete() {
+        if (!done.compareAndSet(false, true)) {
+            return;
+        }
+
+        ScreenshotResult captured;
+        double[] views;
+        synchronized (this) {
+            cancelDeadline();
+            captured = screenshot;
+            views = privateViews;
+        }
+        listener.onReady(this, captured, views);
+    }
+
+    private void cancelDeadline() {
+        if (deadline != null) {
+            deadline.cancel(false);
+            deadline = null;
+        }
+    }
+}
@@ -2,39 +2,68 @@ package ai.luciq.flutter.modules;
 
 import android.app.Activity;
 import android.graphics.Bitmap;
-import android.graphics.Canvas;
-import android.graphics.Paint;
 import android.os.Build;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import ai.luciq.flutter.generated.LuciqPrivateViewPigeon;
 import ai.luciq.flutter.model.ScreenshotResult;
+import ai.luciq.flutter.modules.capturing.BandMasker;
+import ai.luciq.flutter.modules.capturing.BitmapPool;
 import ai.luciq.flutter.modules.capturing.CaptureManager;
+import ai.luciq.flutter.modules.capturing.CaptureMetrics;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
+import ai.luciq.flutter.modules.capturing.CaptureStrategyCache;
 import ai.luciq.flutter.modules.capturing.ScreenshotResultCallback;
 import ai.luciq.flutter.util.LuciqFlutterDebugTags;
 import ai.luciq.flutter.util.LuciqFlutterLogger;
 import ai.luciq.flutter.util.ThreadManager;
 import ai.luciq.flutter.util.privateViews.ScreenshotCaptor;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CountDownLatch;
-import java.util.concurrent.ExecutorService;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class PrivateViewManager {
     private static final String THREAD_NAME = "LCQ-Flutter-Screenshot";
     public static final String EXCEPTION_MESSAGE = "LCQ-Flutter-Screenshot: error capturing screenshot";
 
-    private final ExecutorService screenshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+    public static final long DEFAULT_CAPTURE_DEADLINE_MS = 2000;
+    public static final long NO_FRAME = 0;
+
+    public static final String STRATEGY_WINDOW = "windowPixelCopy";
+    public static final String STRATEGY_SURFACE = "surfacePixelCopy";
+    public static final String STRATEGY_BOUNDRY = "boundry";
+    // Dart stops pushing private view geometry once no capture was requested for this long
+    public static final long GEOMETRY_PUSH_IDLE_MS = 5000;
+
+    private final ScheduledExecutorService screenshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
         Thread thread = new Thread(runnable);
         thread.setName(THREAD_NAME);
         return thread;
     });
 
+    private final Set<PendingCapture> pendingCaptures = Collections.newSetFromMap(new ConcurrentHashMap<PendingCapture, Boolean>());
+    private volatile long captureDeadlineMs = DEFAULT_CAPTURE_DEADLINE_MS;
+
     private final LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi luciqPrivateViewApi;
+    private final BitmapPool bitmapPool;
+    private final CaptureSettings captureSettings;
+    private final CaptureMetrics captureMetrics = new CaptureMetrics();
+    private final CaptureStrategyCache strategyCache = new CaptureStrategyCache(captureMetrics);
+    private final BandMasker bandMasker = new BandMasker();
+    private volatile GeometrySnapshot geometry;
+    private volatile long lastCaptureRequestedAtMs = 0;
+    private volatile boolean disposed = false;
     private Activity activity;
     final CaptureManager windowPixelCopyScreenshotCaptor;
     final CaptureManager pixelCopyScreenshotCaptor;
@@ -45,98 +74,378 @@ public class PrivateViewManager {
     }
 
     public PrivateViewManager(@NonNull LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi luciqPrivateViewApi, CaptureManager windowPixelCopyCaptureManager, CaptureManager pixelCopyCaptureManager, CaptureManager boundryCaptureManager) {
+        this(luciqPrivateViewApi, windowPixelCopyCaptureManager, pixelCopyCaptureManager, boundryCaptureManager, new BitmapPool());
+    }
+
+    public PrivateViewManager(@NonNull LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi luciqPrivateViewApi, CaptureManager windowPixelCopyCaptureManager, CaptureManager pixelCopyCaptureManager, CaptureManager boundryCaptureManager, @NonNull BitmapPool bitmapPool) {
+        this(luciqPrivateViewApi, windowPixelCopyCaptureManager, pixelCopyCaptureManager, boundryCaptureManager, bitmapPool, new CaptureSettings());
+    }
+
+    public PrivateViewManager(@NonNull LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi luciqPrivateViewApi, CaptureManager windowPixelCopyCaptureManager, CaptureManager pixelCopyCaptureManager, CaptureManager boundryCaptureManager, @NonNull BitmapPool bitmapPool, @NonNull CaptureSettings captureSettings) {
         this.luciqPrivateViewApi = luciqPrivateViewApi;
         this.windowPixelCopyScreenshotCaptor = windowPixelCopyCaptureManager;
         this.pixelCopyScreenshotCaptor = pixelCopyCaptureManager;
         this.boundryScreenshotCaptor = boundryCaptureManager;
+        this.bitmapPool = bitmapPool;
+        this.captureSettings = captureSettings;
+    }
 
+    private final PendingCapture.Listener pendingCaptureListener = new PendingCapture.Listener() {
+        @Override
+        public void onReady(@NonNull PendingCapture capture, @NonNull ScreenshotResult screenshot, @Nullable double[] privateViews) {
+            pendingCaptures.remove(capture);
+            processScreenshot(capture, screenshot, privateViews);
+        }
 
-    }
+        @Override
+        public void onDiscarded(@NonNull ScreenshotResult screenshot) {
+            bitmapPool.release(screenshot.getScreenshot());
+        }
+    };
 
     public void setActivity(Activity activity) {
         this.activity = activity;
+        if (activity == null) {
+            cancelPendingCaptures();
+        }
+        geometry = null;
+    }
+
+    /**
+     * The private views Dart last pushed, and the range of frames they describe: from the frame
+     * they were pushed for, until the next frame Dart built.
+     */
+    private static class GeometrySnapshot {
+        final long layoutVersion;
+        final long validFromMicros;
+        final long validUntilMicros;
+        final double[] rects;
+
+        GeometrySnapshot(long layoutVersion, long validFromMicros, long validUntilMicros, double[] rects) {
+            this.layoutVersion = layoutVersion;
+            this.validFromMicros = validFromMicros;
+            this.validUntilMicros = validUntilMicros;
+            this.rects = rects;
+        }
+    }
+
+    /**
+     * Takes the private views Dart pushes, so captures can be masked without asking Dart for them.
+     * Pushed rects stay valid, including for frames Dart doesn't build on an idle screen, until
+     * Dart reports it built another frame.
+     *
+     * @param layoutVersion   increases with every pushed rects
+     * @param frameTimeMicros vsync timestamp of the frame Dart built
+     * @param rects           the packed rects of that frame, or null if Dart built a frame after
+     *                        the rects of this version were pushed
+     * @return whether Dart should keep pushing, false once captures stopped being requested
+     */
+    public boolean updatePrivateViews(long layoutVersion, long frameTimeMicros, @Nullable double[] rects) {
+        if (System.currentTimeMillis() - lastCaptureRequestedAtMs >= GEOMETRY_PUSH_IDLE_MS) {
+            // Dart stops pushing, so nothing would tell native once the rects are outdated
+            geometry = null;
+            return false;
+        }
+
+        final GeometrySnapshot current = geometry;
+        if (current != null && layoutVersion < current.layoutVersion) {
+            // Outdated push, a newer layout was already received
+            return true;
+        }
+
+        if (rects != null) {
+            geometry = new GeometrySnapshot(layoutVersion, frameTimeMicros, Long.MAX_VALUE, rects);
+        } else if (current != null && current.layoutVersion == layoutVersion) {
+            geometry = new GeometrySnapshot(layoutVersion, current.validFromMicros,
+                    Math.min(frameTimeMicros, current.validUntilMicros), current.rects);
+        } else {
+            // The rects of this version were never received, so nothing describes the frame
+            geometry = null;
+        }
+        return true;
     }
 
+    /**
+     * @return the pushed private views if they describe the given frame, or null if Dart has to
+     * be asked for them
+     */
+    @Nullable
+    private double[] getCachedPrivateViews(long frameTimeMicros) {
+        final GeometrySnapshot snapshot = geometry;
+        if (frameTimeMicros == NO_FRAME || snapshot == null
+                || frameTimeMicros < snapshot.validFromMicros || frameTimeMicros >= snapshot.validUntilMicros) {
+            return null;
+        }
+        return snapshot.rects;
+    }
+
+    /**
+     * @return the latency histograms of the capture pipeline stages
+     */
+    public CaptureMetrics getCaptureMetrics() {
+        return captureMetrics;
+    }
+
+    /**
+     * @return the cache of the capture strategy in use per activity
+     */
+    public CaptureStrategyCache getStrategyCache() {
+        return strategyCache;
+    }
+
+    /**
+     * Sets how long a capture may wait for both the screenshot and the private views
+     * before it fails closed and the screenshot is dropped.
+     */
+    public void setCaptureDeadlineMs(long captureDeadlineMs) {
+        this.captureDeadlineMs = captureDeadlineMs;
+    }
+
+    /**
+     * Cancels all in-flight captures, failing their callbacks and dropping any screenshot
+     * that was already taken for them.
+     */
+    public void cancelPendingCaptures() {
+        for (PendingCapture capture : pendingCaptures) {
+            capture.cancel();
+        }
+        pendingCaptures.clear();
+    }
+
+    /**
+     * Releases the threads of this manager once its engine detached. Pending captures are
+     * cancelled and later ones fail right away.
+     */
+    public void dispose() {
+        disposed = true;
+        cancelPendingCaptures();
+        screenshotExecutor.shutdown();
+        bandMasker.dispose();
+    }
+
+    public boolean isDisposed() {
+        return disposed;
+    }
 
     public void mask(ScreenshotCaptor.CapturingCallback capturingCallback) {
+        mask(capturingCallback, NO_FRAME);
+    }
+
+    /**
+     * Captures and masks the current screen.
+     *
+     * @param frameTimeMicros vsync timestamp of the frame being captured, forwarded to Dart so it
+     *                        answers with the private views of that frame, or {@link #NO_FRAME}
+     */
+    public void mask(ScreenshotCaptor.CapturingCallback capturingCallback, long frameTimeMicros) {
         final Activity captureActivity = activity;
-        if (isActivityValid(captureActivity)) {
-            CountDownLatch latch = new CountDownLatch(1);
-            AtomicReference<List<Double>> privateViews = new AtomicReference<>();
-            final ScreenshotResultCallback boundryScreenshotResult = new ScreenshotResultCallback() {
+        if (disposed || !isActivityValid(captureActivity)) {
+            capturingCallback.onCapturingFailure(new Exception(EXCEPTION_MESSAGE));
+            return;
+        }
 
-                @Override
-                public void onScreenshotResult(ScreenshotResult screenshotResult) {
-                    processScreenshot(screenshotResult, privateViews, latch, capturingCallback);
+        if (joinPendingCapture(capturingCallback, frameTimeMicros)) {
+            return;
+        }
 
-                }
+        final String callId = LuciqFlutterLogger.nextCallId();
+        final PendingCapture capture = new PendingCapture(callId, frameTimeMicros, capturingCallback, pendingCaptureListener);
+        pendingCaptures.add(capture);
 
+        try {
+            capture.setDeadline(screenshotExecutor.schedule(new Runnable() {
                 @Override
-                public void onError() {
-                    capturingCallback.onCapturingFailure(new Exception(EXCEPTION_MESSAGE));
-                }
-            };
-
-            try {
-                final String callId = LuciqFlutterLogger.nextCallId();
-                ThreadManager.runOnMainThread(new Runnable() {
-                    @Override
-                    public void run() {
-                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
-                                "[PRIV.capture] #" + callId + " phase=fire");
-                        luciqPrivateViewApi.getPrivateViews(callId, result -> {
-                            privateViews.set(result);
-                            latch.countDown();
-                        });
+                public void run() {
+                    if (capture.fail(new TimeoutException(EXCEPTION_MESSAGE))) {
+                        LuciqFlutterLogger.e(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                                "[PRIV.capture] #" + callId + " phase=error errorType=TimeoutException deadlineMs=" + captureDeadlineMs);
                     }
-                });
+                    pendingCaptures.remove(capture);
+                }
+            }, captureDeadlineMs, TimeUnit.MILLISECONDS));
+
+            lastCaptureRequestedAtMs = System.currentTimeMillis();
+            // Resolved once the screenshot is taken, so a frame Dart reports meanwhile is seen
+            final boolean usePushedPrivateViews = getCachedPrivateViews(frameTimeMicros) != null;
+            if (!usePushedPrivateViews) {
+                if (frameTimeMicros != NO_FRAME) {
+                    captureMetrics.increment(CaptureMetrics.Counter.GEOMETRY_CACHE_MISS);
+                }
+                requestPrivateViews(callId, frameTimeMicros, capture);
+            }
 
+            final int startStrategy = strategyCache.getStartStrategy(captureActivity);
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                        "[PRIV.capture] #" + callId + " phase=strategy start=" + getStrategyName(startStrategy));
+            }
+            captureWith(startStrategy, startStrategy, captureActivity, capture, usePushedPrivateViews);
 
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                    ScreenshotResultCallback pixelCopyScreenshotResult = new ScreenshotResultCallback() {
-                        @Override
-                        public void onScreenshotResult(ScreenshotResult result) {
-                            processScreenshot(result, privateViews, latch, capturingCallback);
+        } catch (Exception e) {
+            failCapture(capture, e);
+        }
+    }
 
-                        }
+    /**
+     * Masks a capture with the private views Dart pushed, or asks Dart for them if it built
+     * another frame since.
+     */
+    private void resolvePushedPrivateViews(PendingCapture capture) {
+        final double[] cachedPrivateViews = getCachedPrivateViews(capture.frameTimeMicros);
+        if (cachedPrivateViews == null) {
+            captureMetrics.increment(CaptureMetrics.Counter.GEOMETRY_CACHE_MISS);
+            requestPrivateViews(capture.callId, capture.frameTimeMicros, capture);
+            return;
+        }
 
-                        @Override
-                        public void onError() {
-                            if (isActivityValid(captureActivity)) {
-                                boundryScreenshotCaptor.capture(captureActivity, boundryScreenshotResult);
-                            } else {
-                                capturingCallback.onCapturingFailure(new Exception(EXCEPTION_MESSAGE));
-                            }
+        captureMetrics.increment(CaptureMetrics.Counter.GEOMETRY_CACHE_HIT);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                    "[PRIV.capture] #" + capture.callId + " phase=cached frameTimeMicros=" + capture.frameTimeMicros);
+        }
+        captureMetrics.record(CaptureMetrics.Stage.PRIVATE_VIEWS, 0);
+        capture.onPrivateViews(cachedPrivateViews);
+    }
 
-                        }
-                    };
+    /**
+     * Asks Dart for the private views of the captured frame.
+     */
+    private void requestPrivateViews(final String callId, final long frameTimeMicros, final PendingCapture capture) {
+        ThreadManager.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                if (capture.isDone()) {
+                    return;
+                }
+                if (LuciqFlutterLogger.isDebugEnabled()) {
+                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                            "[PRIV.capture] #" + callId + " phase=fire frameTimeMicros=" + frameTimeMicros);
+                }
+                final long privateViewsStartedAt = System.nanoTime();
+                luciqPrivateViewApi.getPrivateViews(callId, frameTimeMicros, privateViews -> {
+                    captureMetrics.record(CaptureMetrics.Stage.PRIVATE_VIEWS, System.nanoTime() - privateViewsStartedAt);
+                    capture.onPrivateViews(privateViews);
+                });
+            }
+        });
+    }
 
-                    windowPixelCopyScreenshotCaptor.capture(captureActivity, new ScreenshotResultCallback() {
-                        @Override
-                        public void onScreenshotResult(ScreenshotResult result) {
-                          processScreenshot(result, privateViews, latch, capturingCallback);
-                        }
+    /**
+     * Lets a request share the in-flight capture of the same frame, so requests arriving within
+     * one frame window (e.g. a bug report and a repro step) take a single capture.
+     *
+     * @return whether the request joined a capture
+     */
+    private boolean joinPendingCapture(ScreenshotCaptor.CapturingCallback capturingCallback, long frameTimeMicros) {
+        if (frameTimeMicros == NO_FRAME) {
+            return false;
+        }
 
-                        @Override
-                        public void onError() {
-                          if (isActivityValid(captureActivity)) {
-                            pixelCopyScreenshotCaptor.capture(captureActivity, pixelCopyScreenshotResult);
-                          } else {
-                            capturingCallback.onCapturingFailure(new Exception(EXCEPTION_MESSAGE));
-                          }
+        for (PendingCapture pending : pendingCaptures) {
+            if (pending.frameTimeMicros == frameTimeMicros && pending.join(capturingCallback)) {
+                captureMetrics.increment(CaptureMetrics.Counter.COALESCED_REQUEST);
+                if (LuciqFlutterLogger.isDebugEnabled()) {
+                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                            "[PRIV.capture] #" + pending.callId + " phase=join frameTimeMicros=" + frameTimeMicros);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
 
-                        }
-                      });
+    /**
+     * Captures with the given step of the fallback chain, falling through to the next step
+     * when it fails.
+     *
+     * @param startStrategy         the step the capture started at, see {@link #getNextStrategy}
+     * @param usePushedPrivateViews whether to mask with the private views Dart pushed, instead of
+     *                              the ones already requested from Dart
+     */
+    private void captureWith(final int strategy, final int startStrategy, final Activity captureActivity, final PendingCapture capture, final boolean usePushedPrivateViews) {
+        final List<CaptureManager> captureChain = getCaptureChain();
+        final CaptureSettings.Quality quality = capture.fullQuality ? CaptureSettings.Quality.FULL : captureSettings.getQuality();
+        captureChain.get(strategy).capture(captureActivity, quality, new ScreenshotResultCallback() {
+            @Override
+            public void onScreenshotResult(ScreenshotResult result) {
+                strategyCache.onSuccess(captureActivity, strategy);
+                captureMetrics.increment(getStrategySuccessCounter(strategy));
+                captureMetrics.record(CaptureMetrics.Stage.CAPTURE, System.nanoTime() - capture.startedAtNanos);
+                if (usePushedPrivateViews && !capture.isDone()) {
+                    resolvePushedPrivateViews(capture);
+                }
+                capture.onScreenshot(result);
+            }
 
+            @Override
+            public void onError() {
+                strategyCache.onFailure(captureActivity, strategy);
+                captureMetrics.increment(CaptureMetrics.Counter.STRATEGY_FAILURE);
+                final int next = getNextStrategy(strategy, startStrategy, captureChain.size());
+                if (next != CaptureStrategyCache.NO_STRATEGY && !capture.isDone() && isActivityValid(captureActivity)) {
+                    captureWith(next, startStrategy, captureActivity, capture, usePushedPrivateViews);
                 } else {
-                    boundryScreenshotCaptor.capture(captureActivity, boundryScreenshotResult);
+                    failCapture(capture, new Exception(EXCEPTION_MESSAGE));
                 }
-
-            } catch (Exception e) {
-                capturingCallback.onCapturingFailure(e);
             }
-        } else {
-            capturingCallback.onCapturingFailure(new Exception(EXCEPTION_MESSAGE));
+        });
+    }
+
+    /**
+     * Picks the step to fall back to. A capture starting at the cached step falls back to the
+     * whole chain from the top, skipping the step that already failed, so a cached slow step
+     * never rules out the faster ones.
+     *
+     * @return the next step, or {@link CaptureStrategyCache#NO_STRATEGY} if every step was tried
+     */
+    private static int getNextStrategy(int strategy, int startStrategy, int chainSize) {
+        int next = strategy == startStrategy ? 0 : strategy + 1;
+        if (next == startStrategy) {
+            next++;
+        }
+        return next < chainSize ? next : CaptureStrategyCache.NO_STRATEGY;
+    }
+
+    /**
+     * @return the capture managers in the order they are tried
+     */
+    private List<CaptureManager> getCaptureChain() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            return Arrays.asList(windowPixelCopyScreenshotCaptor, pixelCopyScreenshotCaptor, boundryScreenshotCaptor);
+        }
+        return Collections.singletonList(boundryScreenshotCaptor);
+    }
+
+    /**
+     * @return the name of a step of the capture fallback chain, for logs and metrics
+     */
+    public static String getStrategyName(int strategy) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.O) {
+            return strategy == 0 ? STRATEGY_BOUNDRY : "none";
+        }
+        switch (strategy) {
+            case 0:
+                return STRATEGY_WINDOW;
+            case 1:
+                return STRATEGY_SURFACE;
+            case 2:
+                return STRATEGY_BOUNDRY;
+            default:
+                return "none";
+        }
+    }
+
+    /**
+     * @return the counter of the captures that succeeded with a step of the capture fallback chain
+     */
+    private static CaptureMetrics.Counter getStrategySuccessCounter(int strategy) {
+        switch (getStrategyName(strategy)) {
+            case STRATEGY_WINDOW:
+                return CaptureMetrics.Counter.WINDOW_PIXEL_COPY_SUCCESS;
+            case STRATEGY_SURFACE:
+                return CaptureMetrics.Counter.SURFACE_PIXEL_COPY_SUCCESS;
+            default:
+                return CaptureMetrics.Counter.BOUNDRY_SUCCESS;
         }
     }
 
@@ -148,43 +457,114 @@ public class PrivateViewManager {
         return Build.VERSION.SDK_INT < Build.VERSION_CODES.JELLY_BEAN_MR1 || !activity.isDestroyed();
     }
 
+    private void failCapture(PendingCapture capture, Throwable throwable) {
+        capture.fail(throwable);
+        pendingCaptures.remove(capture);
+    }
 
-    private void processScreenshot(ScreenshotResult result, AtomicReference<List<Double>> privateViews, CountDownLatch latch, ScreenshotCaptor.CapturingCallback capturingCallback) {
-        screenshotExecutor.execute(() -> {
-            try {
-                latch.await();  // Wait
-                Bitmap bitmap = result.getScreenshot();
-                maskPrivateViews(result, privateViews.get());
-                capturingCallback.onCapturingSuccess(bitmap);
-                long lastTime = System.currentTimeMillis();
-                System.out.println("Time:" + (lastTime - LuciqPrivateView.time));
+    private void processScreenshot(PendingCapture capture, ScreenshotResult result, double[] privateViews) {
+        try {
+            screenshotExecutor.execute(() -> {
+                final List<ScreenshotCaptor.CapturingCallback> callbacks = capture.getCallbacks();
+                final Bitmap bitmap = result.getScreenshot();
+                long maskStartedAt = System.nanoTime();
+                try {
+                    maskPrivateViews(result, privateViews);
+                } catch (Exception e) {
+                    LuciqFlutterLogger.e(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                            "[PRIV.capture.mask] #" + capture.callId + " phase=error errorType=" + e.getClass().getSimpleName(), e);
+                    // A partially masked screenshot may show private views, so it is never delivered
+                    bitmapPool.release(bitmap);
+                    for (ScreenshotCaptor.CapturingCallback callback : callbacks) {
+                        callback.onCapturingFailure(e);
+                    }
+                    return;
+                }
+                long maskDuration = System.nanoTime() - maskStartedAt;
+                captureMetrics.record(CaptureMetrics.Stage.MASK, maskDuration);
+
+                long deliveryStartedAt = System.nanoTime();
+
+                // Every requester shares one copy of the masked bitmap. The copy is handed over
+                // to them for good, since consumers such as the core SDK may still be encoding it
+                // after the callback returned, see CapturingCallback#onCapturingSuccess
+                final Bitmap delivered = copyForDelivery(bitmap);
+                for (ScreenshotCaptor.CapturingCallback callback : callbacks) {
+                    try {
+                        callback.onCapturingSuccess(delivered);
+                    } catch (Exception e) {
+                        LuciqFlutterLogger.e(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                                "[PRIV.capture] #" + capture.callId + " phase=error errorType=" + e.getClass().getSimpleName(), e);
+                    }
+                }
 
-            } catch (InterruptedException e) {
-                capturingCallback.onCapturingFailure(e);
+                long deliveredAt = System.nanoTime();
+                captureMetrics.record(CaptureMetrics.Stage.DELIVERY, deliveredAt - deliveryStartedAt);
+                captureMetrics.record(CaptureMetrics.Stage.TOTAL, deliveredAt - capture.startedAtNanos);
+                if (LuciqFlutterLogger.isDebugEnabled()) {
+                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                            "[PRIV.capture] #" + capture.callId + " phase=exit requesters=" + callbacks.size()
+                                    + " maskMs=" + toMillis(maskDuration)
+                                    + " deliveryMs=" + toMillis(deliveredAt - deliveryStartedAt)
+                                    + " totalMs=" + toMillis(deliveredAt - capture.startedAtNanos));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            bitmapPool.release(result.getScreenshot());
+            for (ScreenshotCaptor.CapturingCallback callback : capture.getCallbacks()) {
+                callback.onCapturingFailure(e);
             }
-        });
+        }
     }
 
-    @VisibleForTesting
-    public void maskPrivateViews(ScreenshotResult result, List<Double> privateViews) {
+    /**
+     * Copies the masked capture buffer for its requesters and hands the buffer back to the pool,
+     * so the next capture renders into it instead of allocating a new one. Falls back to handing
+     * over the buffer itself if the copy can't be allocated.
+     */
+    private Bitmap copyForDelivery(Bitmap bitmap) {
+        Bitmap copy = null;
         try {
-            if (privateViews == null || privateViews.isEmpty()) return;
-
-            Bitmap bitmap = result.getScreenshot();
-            float pixelRatio = result.getPixelRatio();
-            Canvas canvas = new Canvas(bitmap);
-            Paint paint = new Paint();  // Default color is black
-
-            for (int i = 0; i < privateViews.size(); i += 4) {
-                float left = (privateViews.get(i).floatValue() + result.getOffsetX()) * pixelRatio;
-                float top = (privateViews.get(i + 1).floatValue() + result.getOffsetY()) * pixelRatio;
-                float right = (privateViews.get(i + 2).floatValue() + result.getOffsetX()) * pixelRatio;
-                float bottom = (privateViews.get(i + 3).floatValue() + result.getOffsetY()) * pixelRatio;
-                canvas.drawRect(left, top, right, bottom, paint);  // Mask private view
-            }
-        } catch (Exception e) {
+            copy = bitmap.copy(bitmap.getConfig(), false);
+        } catch (OutOfMemoryError e) {
             LuciqFlutterLogger.e(LuciqFlutterDebugTags.PRIVATE_VIEW,
-                    "[PRIV.capture.mask] phase=error errorType=" + e.getClass().getSimpleName(), e);
+                    "[PRIV.capture] phase=error errorType=" + e.getClass().getSimpleName(), e);
+        }
+        if (copy == null) {
+            return bitmap;
         }
+        bitmapPool.release(bitmap);
+        return copy;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Masks the private views on the screenshot.
+     *
+     * @param privateViews packed rects, each as 4 consecutive values: left, top, right, bottom
+     * @throws RuntimeException if masking failed, in which case the screenshot must not be used
+     */
+    @VisibleForTesting
+    public void maskPrivateViews(ScreenshotResult result, double[] privateViews) {
+        if (privateViews == null || privateViews.length < 4) return;
+
+        Bitmap bitmap = result.getScreenshot();
+        // Rects are in logical pixels, the screenshot may be captured below device resolution
+        float pixelRatio = result.getPixelRatio() * result.getScale();
+        float offsetX = result.getOffsetX();
+        float offsetY = result.getOffsetY();
+
+        float[] rects = new float[privateViews.length - privateViews.length % 4];
+        for (int i = 0; i + 3 < privateViews.length; i += 4) {
+            rects[i] = ((float) privateViews[i] + offsetX) * pixelRatio;
+            rects[i + 1] = ((float) privateViews[i + 1] + offsetY) * pixelRatio;
+            rects[i + 2] = ((float) privateViews[i + 2] + offsetX) * pixelRatio;
+            rects[i + 3] = ((float) privateViews[i + 3] + offsetY) * pixelRatio;
+        }
+
+        bandMasker.mask(bitmap, rects);  // Mask private views
     }
 }
@@ -26,8 +26,10 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
 
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                "[REP.setEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                    "[REP.setEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         if (isEnabled) {
             Replies.setState(Feature.State.ENABLED);
         } else {
@@ -39,17 +41,23 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
 
     @Override
     public void show(@NonNull String callId) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                "[REP.show] #" + callId + " phase=enter");
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                    "[REP.show] #" + callId + " phase=enter");
+        }
         Replies.show();
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                "[REP.show] #" + callId + " phase=exit");
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                    "[REP.show] #" + callId + " phase=exit");
+        }
     }
 
     @Override
     public void setInAppNotificationsEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                "[REP.setInAppNotificationsEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                    "[REP.setInAppNotificationsEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         Replies.setInAppNotificationEnabled(isEnabled);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
                 "[REP.setInAppNotificationsEnabled] phase=exit");
@@ -57,8 +65,10 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
 
     @Override
     public void setInAppNotificationSound(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                "[REP.setInAppNotificationSound] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                    "[REP.setInAppNotificationSound] phase=enter isEnabled=" + isEnabled);
+        }
         Replies.setInAppNotificationSound(isEnabled);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
                 "[REP.setInAppNotificationSound] phase=exit");
@@ -66,19 +76,23 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
 
     @Override
     public void getUnreadRepliesCount(@NonNull String callId, RepliesPigeon.Result<Long> result) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                "[REP.getUnreadRepliesCount] #" + callId + " phase=enter");
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                    "[REP.getUnreadRepliesCount] #" + callId + " phase=enter");
+        }
         ThreadManager.runOnBackground(
                 new Runnable() {
                     @Override
                     public void run() {
                         final long count = Replies.getUnreadRepliesCount();
 
-                        ThreadManager.runOnMainThread(new Runnable() {
+                        ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                             @Override
                             public void run() {
-                                LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                                        "[REP.getUnreadRepliesCount] #" + callId + " phase=exit result=" + count);
+                                if (LuciqFlutterLogger.isDebugEnabled()) {
+                                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                                            "[REP.getUnreadRepliesCount] #" + callId + " phase=exit result=" + count);
+                                }
                                 result.success(count);
                             }
                         });
@@ -89,19 +103,23 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
 
     @Override
     public void hasChats(@NonNull String callId, RepliesPigeon.Result<Boolean> result) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                "[REP.hasChats] #" + callId + " phase=enter");
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                    "[REP.hasChats] #" + callId + " phase=enter");
+        }
         ThreadManager.runOnBackground(
                 new Runnable() {
                     @Override
                     public void run() {
                         final boolean hasChats = Replies.hasChats();
 
-                        ThreadManager.runOnMainThread(new Runnable() {
+                        ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                             @Override
                             public void run() {
-                                LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                                        "[REP.hasChats] #" + callId + " phase=exit result=" + hasChats);
+                                if (LuciqFlutterLogger.isDebugEnabled()) {
+                                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                                            "[REP.hasChats] #" + callId + " phase=exit result=" + hasChats);
+                                }
                                 result.success(hasChats);
                             }
                         });
@@ -117,12 +135,14 @@ public class RepliesApi implements RepliesPigeon.RepliesHostApi {
         Replies.setOnNewReplyReceivedCallback(new Runnable() {
             @Override
             public void run() {
-                ThreadManager.runOnMainThread(new Runnable() {
+                ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                     @Override
                     public void run() {
                         String callId = LuciqFlutterLogger.nextCallId();
-                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
-                                "[REP.onNewReply] #" + callId + " phase=fire");
+                        if (LuciqFlutterLogger.isDebugEnabled()) {
+                            LuciqFlutterLogger.d(LuciqFlutterDebugTags.REPLIES,
+                                    "[REP.onNewReply] #" + callId + " phase=fire");
+                        }
                         flutterApi.onNewReply(callId, new RepliesPigeon.RepliesFlutterApi.Reply<Void>() {
                             @Override
                             public void reply(Void reply) {
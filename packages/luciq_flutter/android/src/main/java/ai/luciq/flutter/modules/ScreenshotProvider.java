@@ -0,0 +1,132 @@
+package ai.luciq.flutter.modules;
+
+import android.graphics.Bitmap;
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import ai.luciq.flutter.util.LuciqFlutterDebugTags;
+import ai.luciq.flutter.util.LuciqFlutterLogger;
+import ai.luciq.flutter.util.privateViews.ScreenshotCaptor;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Provides bug report screenshots through the asynchronous PixelCopy pipeline of
+ * {@link PrivateViewManager}, so the capture doesn't block on the raster thread and private
+ * views are masked like in session replay. Screenshots are always taken at full resolution and
+ * never skipped as unchanged.
+ * <p>
+ * The SDK expects the screenshot synchronously, so the calling thread waits for the pipeline up
+ * to a timeout. When the pipeline fails, the fallback provider is used instead. The pipeline needs
+ * the main thread to make progress, so waiting for it there would deadlock: on the main thread
+ * the fallback provider, which only waits for the raster thread, is used right away.
+ */
+public class ScreenshotProvider implements Callable<Bitmap> {
+    public static final long DEFAULT_TIMEOUT_MS = 1500;
+
+    private final Callable<PrivateViewManager> captureTargetProvider;
+    private final Callable<Bitmap> fallbackProvider;
+    private final long timeoutMs;
+
+    public ScreenshotProvider(@NonNull Callable<PrivateViewManager> captureTargetProvider, @NonNull Callable<Bitmap> fallbackProvider) {
+        this(captureTargetProvider, fallbackProvider, DEFAULT_TIMEOUT_MS);
+    }
+
+    public ScreenshotProvider(@NonNull Callable<PrivateViewManager> captureTargetProvider, @NonNull Callable<Bitmap> fallbackProvider, long timeoutMs) {
+        this.captureTargetProvider = captureTargetProvider;
+        this.fallbackProvider = fallbackProvider;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Nullable
+    @Override
+    public Bitmap call() throws Exception {
+        final String callId = LuciqFlutterLogger.nextCallId();
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                    "[PRIV.screenshotProvider] #" + callId + " phase=enter");
+        }
+
+        if (isMainThread()) {
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                        "[PRIV.screenshotProvider] #" + callId + " phase=fallback reason=mainThread");
+            }
+            return fallbackProvider.call();
+        }
+
+        final PrivateViewManager privateViewManager = captureTargetProvider.call();
+        if (privateViewManager == null) {
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                        "[PRIV.screenshotProvider] #" + callId + " phase=fallback reason=noEngine");
+            }
+            return fallbackProvider.call();
+        }
+
+        final Request request = new Request();
+        privateViewManager.mask(request);
+
+        if (!request.await(timeoutMs)) {
+            LuciqFlutterLogger.e(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                    "[PRIV.screenshotProvider] #" + callId + " phase=error errorType=TimeoutException timeoutMs=" + timeoutMs);
+            return null;
+        }
+
+        if (request.bitmap == null) {
+            LuciqFlutterLogger.e(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                    "[PRIV.screenshotProvider] #" + callId + " phase=fallback reason=captureFailed", request.error);
+            return fallbackProvider.call();
+        }
+
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                    "[PRIV.screenshotProvider] #" + callId + " phase=exit width=" + request.bitmap.getWidth()
+                            + " height=" + request.bitmap.getHeight());
+        }
+        return request.bitmap;
+    }
+
+    @VisibleForTesting
+    boolean isMainThread() {
+        return Looper.myLooper() == Looper.getMainLooper();
+    }
+
+    /**
+     * Waits for a single capture.
+     */
+    private static class Request implements ScreenshotCaptor.FullQualityCapturingCallback {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private final AtomicBoolean abandoned = new AtomicBoolean(false);
+        private volatile Bitmap bitmap;
+        private volatile Throwable error;
+
+        @Override
+        public void onCapturingFailure(Throwable throwable) {
+            error = throwable;
+            latch.countDown();
+        }
+
+        @Override
+        public void onCapturingSuccess(Bitmap bitmap) {
+            if (!abandoned.get()) {
+                this.bitmap = bitmap;
+            }
+            latch.countDown();
+        }
+
+        boolean await(long timeoutMs) throws InterruptedException {
+            if (latch.await(timeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            abandoned.set(true);
+            return false;
+        }
+    }
+}
@@ -2,23 +2,36 @@ package ai.luciq.flutter.modules;
 
 import androidx.annotation.NonNull;
 import ai.luciq.flutter.generated.SessionReplayPigeon;
+import ai.luciq.flutter.modules.capturing.CaptureMetrics;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
 import ai.luciq.flutter.util.ArgsRegistry;
 import ai.luciq.flutter.util.LuciqFlutterDebugTags;
 import ai.luciq.flutter.util.LuciqFlutterLogger;
 import ai.luciq.library.sessionreplay.SessionReplay;
 import io.flutter.plugin.common.BinaryMessenger;
 
+import java.util.Map;
+
 public class SessionReplayApi implements SessionReplayPigeon.SessionReplayHostApi {
+    private final CaptureSettings captureSettings;
+    private final CaptureMetrics captureMetrics;
 
-    public static void init(BinaryMessenger messenger) {
-        final SessionReplayApi api = new SessionReplayApi();
+    public static void init(BinaryMessenger messenger, CaptureSettings captureSettings, CaptureMetrics captureMetrics) {
+        final SessionReplayApi api = new SessionReplayApi(captureSettings, captureMetrics);
         SessionReplayPigeon.SessionReplayHostApi.setup(messenger, api);
     }
 
+    public SessionReplayApi(CaptureSettings captureSettings, CaptureMetrics captureMetrics) {
+        this.captureSettings = captureSettings;
+        this.captureMetrics = captureMetrics;
+    }
+
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                "[SR.setEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         SessionReplay.setEnabled(isEnabled);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
                 "[SR.setEnabled] phase=exit");
@@ -26,8 +39,10 @@ public class SessionReplayApi implements SessionReplayPigeon.SessionReplayHostAp
 
     @Override
     public void setNetworkLogsEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                "[SR.setNetworkLogsEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setNetworkLogsEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         SessionReplay.setNetworkLogsEnabled(isEnabled);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
                 "[SR.setNetworkLogsEnabled] phase=exit");
@@ -35,8 +50,10 @@ public class SessionReplayApi implements SessionReplayPigeon.SessionReplayHostAp
 
     @Override
     public void setLuciqLogsEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                "[SR.setLuciqLogsEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setLuciqLogsEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         SessionReplay.setLuciqLogsEnabled(isEnabled);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
                 "[SR.setLuciqLogsEnabled] phase=exit");
@@ -44,8 +61,10 @@ public class SessionReplayApi implements SessionReplayPigeon.SessionReplayHostAp
 
     @Override
     public void setUserStepsEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                "[SR.setUserStepsEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setUserStepsEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         SessionReplay.setUserStepsEnabled(isEnabled);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
                 "[SR.setUserStepsEnabled] phase=exit");
@@ -53,21 +72,27 @@ public class SessionReplayApi implements SessionReplayPigeon.SessionReplayHostAp
 
     @Override
     public void getSessionReplayLink(@NonNull String callId, @NonNull SessionReplayPigeon.Result<String> result) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                "[SR.getSessionReplayLink] #" + callId + " phase=enter");
-        SessionReplay.getSessionReplayLink(link -> {
+        if (LuciqFlutterLogger.isDebugEnabled()) {
             LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                    "[SR.getSessionReplayLink] #" + callId + " phase=exit resultLength="
-                            + (link != null ? link.length() : 0)
-                            + " resultPresent=" + (link != null && !link.isEmpty()));
+                    "[SR.getSessionReplayLink] #" + callId + " phase=enter");
+        }
+        SessionReplay.getSessionReplayLink(link -> {
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                        "[SR.getSessionReplayLink] #" + callId + " phase=exit resultLength="
+                                + (link != null ? link.length() : 0)
+                                + " resultPresent=" + (link != null && !link.isEmpty()));
+            }
             result.success(link);
         });
     }
 
     @Override
     public void setScreenshotCapturingMode(@NonNull String mode) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                "[SR.setScreenshotCapturingMode] phase=enter mode=" + mode);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setScreenshotCapturingMode] phase=enter mode=" + mode);
+        }
         final Integer capturingMode = ArgsRegistry.screenshotCapturingModes.get(mode);
         if (capturingMode == null) {
             LuciqFlutterLogger.e(LuciqFlutterDebugTags.SESSION_REPLAY,
@@ -81,22 +106,28 @@ public class SessionReplayApi implements SessionReplayPigeon.SessionReplayHostAp
 
     @Override
     public void setScreenshotCaptureInterval(@NonNull Long intervalMs) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                "[SR.setScreenshotCaptureInterval] phase=enter intervalMs=" + intervalMs);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setScreenshotCaptureInterval] phase=enter intervalMs=" + intervalMs);
+        }
         if (intervalMs < 500L) {
             LuciqFlutterLogger.e(LuciqFlutterDebugTags.SESSION_REPLAY,
                     "[SR.setScreenshotCaptureInterval] phase=error errorType=InvalidArgument intervalMs=" + intervalMs);
             return;
         }
-        SessionReplay.setScreenshotCaptureInterval(intervalMs.intValue());
+        // Stored so the interval can be stretched and restored under memory pressure
+        captureSettings.setCaptureIntervalMs(intervalMs.intValue());
+        SessionReplay.setScreenshotCaptureInterval(captureSettings.getCaptureIntervalMs());
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
                 "[SR.setScreenshotCaptureInterval] phase=exit");
     }
 
     @Override
     public void setScreenshotQualityMode(@NonNull String mode) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
-                "[SR.setScreenshotQualityMode] phase=enter mode=" + mode);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setScreenshotQualityMode] phase=enter mode=" + mode);
+        }
         final Integer quality = ArgsRegistry.screenshotQualityModes.get(mode);
         if (quality == null) {
             LuciqFlutterLogger.e(LuciqFlutterDebugTags.SESSION_REPLAY,
@@ -108,4 +139,42 @@ public class SessionReplayApi implements SessionReplayPigeon.SessionReplayHostAp
                 "[SR.setScreenshotQualityMode] phase=exit");
     }
 
+    @Override
+    public void setScreenshotCaptureScale(@NonNull Double scale) {
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setScreenshotCaptureScale] phase=enter scale=" + scale);
+        }
+        if (!(scale > 0 && scale <= CaptureSettings.FULL_SCALE)) {
+            LuciqFlutterLogger.e(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.setScreenshotCaptureScale] phase=error errorType=InvalidArgument scale=" + scale);
+            return;
+        }
+        captureSettings.setScale(scale.floatValue());
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                "[SR.setScreenshotCaptureScale] phase=exit");
+    }
+
+    @NonNull
+    @Override
+    public Map<String, Double> getScreenshotCaptureMetrics() {
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                "[SR.getScreenshotCaptureMetrics] phase=enter");
+        final Map<String, Double> metrics = captureMetrics.toMap();
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.getScreenshotCaptureMetrics] phase=exit " + captureMetrics.summarize());
+        }
+        return metrics;
+    }
+
+    @Override
+    public void resetScreenshotCaptureMetrics() {
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                "[SR.resetScreenshotCaptureMetrics] phase=enter");
+        captureMetrics.reset();
+        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                "[SR.resetScreenshotCaptureMetrics] phase=exit");
+    }
+
 }
@@ -32,8 +32,10 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
 
     @Override
     public void setEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                "[SUR.setEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                    "[SUR.setEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         if (isEnabled) {
             Surveys.setState(Feature.State.ENABLED);
         } else {
@@ -54,17 +56,23 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
 
     @Override
     public void showSurvey(@NonNull String callId, @NonNull String surveyToken) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                "[SUR.showSurvey] #" + callId + " phase=enter surveyTokenPresent=" + (surveyToken != null && !surveyToken.isEmpty()));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                    "[SUR.showSurvey] #" + callId + " phase=enter surveyTokenPresent=" + (surveyToken != null && !surveyToken.isEmpty()));
+        }
         Surveys.showSurvey(surveyToken);
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                "[SUR.showSurvey] #" + callId + " phase=exit");
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                    "[SUR.showSurvey] #" + callId + " phase=exit");
+        }
     }
 
     @Override
     public void setAutoShowingEnabled(@NonNull Boolean isEnabled) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                "[SUR.setAutoShowingEnabled] phase=enter isEnabled=" + isEnabled);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                    "[SUR.setAutoShowingEnabled] phase=enter isEnabled=" + isEnabled);
+        }
         Surveys.setAutoShowingEnabled(isEnabled);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
                 "[SUR.setAutoShowingEnabled] phase=exit");
@@ -72,8 +80,10 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
 
     @Override
     public void setShouldShowWelcomeScreen(@NonNull Boolean shouldShowWelcomeScreen) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                "[SUR.setShouldShowWelcomeScreen] phase=enter shouldShowWelcomeScreen=" + shouldShowWelcomeScreen);
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                    "[SUR.setShouldShowWelcomeScreen] phase=enter shouldShowWelcomeScreen=" + shouldShowWelcomeScreen);
+        }
         Surveys.setShouldShowWelcomeScreen(shouldShowWelcomeScreen);
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
                 "[SUR.setShouldShowWelcomeScreen] phase=exit");
@@ -81,8 +91,10 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
 
     @Override
     public void setAppStoreURL(@NonNull String appStoreURL) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                "[SUR.setAppStoreURL] phase=enter url=" + LuciqFlutterLogger.redactUrl(appStoreURL));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                    "[SUR.setAppStoreURL] phase=enter url=" + LuciqFlutterLogger.redactUrl(appStoreURL));
+        }
         // iOS Only
         LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
                 "[SUR.setAppStoreURL] phase=exit");
@@ -90,19 +102,23 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
 
     @Override
     public void hasRespondedToSurvey(@NonNull String callId, @NonNull String surveyToken, SurveysPigeon.Result<Boolean> result) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                "[SUR.hasRespondedToSurvey] #" + callId + " phase=enter surveyTokenPresent=" + (surveyToken != null && !surveyToken.isEmpty()));
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                    "[SUR.hasRespondedToSurvey] #" + callId + " phase=enter surveyTokenPresent=" + (surveyToken != null && !surveyToken.isEmpty()));
+        }
         ThreadManager.runOnBackground(
                 new Runnable() {
                     @Override
                     public void run() {
                         final boolean hasResponded = Surveys.hasRespondToSurvey(surveyToken);
 
-                        ThreadManager.runOnMainThread(new Runnable() {
+                        ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                             @Override
                             public void run() {
-                                LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                                        "[SUR.hasRespondedToSurvey] #" + callId + " phase=exit result=" + hasResponded);
+                                if (LuciqFlutterLogger.isDebugEnabled()) {
+                                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                                            "[SUR.hasRespondedToSurvey] #" + callId + " phase=exit result=" + hasResponded);
+                                }
                                 result.success(hasResponded);
                             }
                         });
@@ -113,8 +129,10 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
 
     @Override
     public void getAvailableSurveys(@NonNull String callId, SurveysPigeon.Result<List<String>> result) {
-        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                "[SUR.getAvailableSurveys] #" + callId + " phase=enter");
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                    "[SUR.getAvailableSurveys] #" + callId + " phase=enter");
+        }
         ThreadManager.runOnBackground(
                 new Runnable() {
                     @Override
@@ -126,11 +144,13 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
                             titles.add(survey.getTitle());
                         }
 
-                        ThreadManager.runOnMainThread(new Runnable() {
+                        ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                             @Override
                             public void run() {
-                                LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                                        "[SUR.getAvailableSurveys] #" + callId + " phase=exit resultCount=" + titles.size());
+                                if (LuciqFlutterLogger.isDebugEnabled()) {
+                                    LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                                            "[SUR.getAvailableSurveys] #" + callId + " phase=exit resultCount=" + titles.size());
+                                }
                                 result.success(titles);
                             }
                         });
@@ -146,12 +166,14 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
         Surveys.setOnShowCallback(new OnShowCallback() {
             @Override
             public void onShow() {
-                ThreadManager.runOnMainThread(new Runnable() {
+                ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                     @Override
                     public void run() {
                         String callId = LuciqFlutterLogger.nextCallId();
-                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                                "[SUR.onShowSurvey] #" + callId + " phase=fire");
+                        if (LuciqFlutterLogger.isDebugEnabled()) {
+                            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                                    "[SUR.onShowSurvey] #" + callId + " phase=fire");
+                        }
                         flutterApi.onShowSurvey(callId, new SurveysPigeon.SurveysFlutterApi.Reply<Void>() {
                             @Override
                             public void reply(Void reply) {
@@ -170,12 +192,14 @@ public class SurveysApi implements SurveysPigeon.SurveysHostApi {
         Surveys.setOnDismissCallback(new OnDismissCallback() {
             @Override
             public void onDismiss() {
-                ThreadManager.runOnMainThread(new Runnable() {
+                ThreadManager.runOnMainThreadCoalesced(new Runnable() {
                     @Override
                     public void run() {
                         String callId = LuciqFlutterLogger.nextCallId();
-                        LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
-                                "[SUR.onDismissSurvey] #" + callId + " phase=fire");
+                        if (LuciqFlutterLogger.isDebugEnabled()) {
+                            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SURVEYS,
+                                    "[SUR.onDismissSurvey] #" + callId + " phase=fire");
+                        }
                         flutterApi.onDismissSurvey(callId, new SurveysPigeon.SurveysFlutterApi.Reply<Void>() {
                             @Override
                             public void reply(Void reply) {
@@ -0,0 +1,225 @@
+package ai.luciq.flutter.modules.capturing;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills private view rects on a captured bitmap.
+ * <p>
+ * Bitmaps of at least {@link #getParallelThresholdPixels()} pixels are split into horizontal
+ * bands that are masked in parallel, each on its own {@link Canvas} clipped to the band, with
+ * only the rects crossing it. Smaller bitmaps are masked on the calling thread, where the cost of
+ * handing bands to other threads outweighs the gain.
+ * <p>
+ * The bands share the bitmap's pixels but never its rows: band bounds are whole, disjoint rows,
+ * each band's rects are cut to its rows, and its canvas is clipped to them, so raster drawing
+ * (which writes only pixels inside the clip) never touches a pixel another band writes. Each
+ * band gets its own {@link Canvas}, {@link Path} and {@link Paint}, as those aren't thread safe.
+ * Anti-aliasing stays off so a rect cut at a band edge fills the same pixels as when masked whole.
+ * <p>
+ * The band threads exit once idle for {@link #IDLE_TIMEOUT_SECONDS}, and {@link #dispose()} stops
+ * them for good, after which every bitmap is masked serially.
+ */
+public class BandMasker {
+    private static final String THREAD_NAME = "LCQ-Flutter-Mask-";
+    // Roughly a 1600x1600 frame, foldables and tablets at full resolution go above it
+    public static final long DEFAULT_PARALLEL_THRESHOLD_PIXELS = 2_560_000;
+    public static final int MIN_BAND_HEIGHT = 256;
+    private static final int MAX_PARALLELISM = 4;
+    public static final long IDLE_TIMEOUT_SECONDS = 30;
+
+    private final ThreadPoolExecutor bandExecutor;
+    private final int parallelism;
+    private final long parallelThresholdPixels;
+
+    private final AtomicLong serialMasks = new AtomicLong();
+    private final AtomicLong parallelMasks = new AtomicLong();
+
+    public BandMasker() {
+        this(Math.min(MAX_PARALLELISM, Runtime.getRuntime().availableProcessors()), DEFAULT_PARALLEL_THRESHOLD_PIXELS);
+    }
+
+    public BandMasker(int parallelism, long parallelThresholdPixels) {
+        this.parallelism = Math.max(1, parallelism);
+        this.parallelThresholdPixels = parallelThresholdPixels;
+        // The calling thread masks one band itself, the pool takes the rest
+        this.bandExecutor = this.parallelism > 1 ? createExecutor(this.parallelism - 1) : null;
+    }
+
+    /**
+     * Fills the given rects black.
+     *
+     * @param rects left, top, right, bottom quadruples in bitmap pixels
+     */
+    public void mask(@NonNull Bitmap bitmap, @NonNull float[] rects) {
+        if (rects.length < 4) {
+            return;
+        }
+
+        final int bands = getBandCount(bitmap);
+        if (bands <= 1) {
+            serialMasks.incrementAndGet();
+            maskSerial(bitmap, rects);
+            return;
+        }
+
+        parallelMasks.incrementAndGet();
+        maskParallel(bitmap, rects, bands);
+    }
+
+    /**
+     * Stops the band threads. Bitmaps masked afterwards are masked serially.
+     */
+    public void dispose() {
+        if (bandExecutor != null) {
+            bandExecutor.shutdown();
+        }
+    }
+
+    @VisibleForTesting
+    public void maskSerial(@NonNull Bitmap bitmap, @NonNull float[] rects) {
+        maskBand(bitmap, rects, 0, bitmap.getHeight());
+    }
+
+    /**
+     * @throws IllegalStateException if any band failed, once every band finished
+     */
+    @VisibleForTesting
+    public void maskParallel(@NonNull Bitmap bitmap, @NonNull float[] rects, int bands) {
+        final int height = bitmap.getHeight();
+        final int bandHeight = (height + bands - 1) / bands;
+
+        final List<Future<?>> futures = new ArrayList<>(bands - 1);
+        Throwable failure = null;
+        try {
+            for (int top = bandHeight; top < height; top += bandHeight) {
+                final int bandTop = top;
+                final int bandBottom = Math.min(height, top + bandHeight);
+                futures.add(bandExecutor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() {
+                        maskBand(bitmap, rects, bandTop, bandBottom);
+                        return null;
+                    }
+                }));
+            }
+
+            maskBand(bitmap, rects, 0, Math.min(height, bandHeight));
+        } catch (RuntimeException e) {
+            failure = e;
+        } finally {
+            // The other bands still draw into the bitmap, so wait for all of them whatever happened
+            for (Future<?> future : futures) {
+                final Throwable bandFailure = await(future);
+                if (failure == null) {
+                    failure = bandFailure;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw new IllegalStateException("failed to mask a band", failure);
+        }
+    }
+
+    /**
+     * Waits for a band without giving up on interrupts, restoring the interrupt flag afterwards.
+     *
+     * @return the band's failure, or null if it succeeded
+     */
+    private static Throwable await(Future<?> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    future.get();
+                    return null;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    return e.getCause();
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return how many bands the bitmap is masked in, 1 meaning it is masked serially
+     */
+    @VisibleForTesting
+    public int getBandCount(@NonNull Bitmap bitmap) {
+        if (bandExecutor == null || bandExecutor.isShutdown()
+                || (long) bitmap.getWidth() * bitmap.getHeight() < parallelThresholdPixels) {
+            return 1;
+        }
+        return Math.max(1, Math.min(parallelism, bitmap.getHeight() / MIN_BAND_HEIGHT));
+    }
+
+    public long getParallelThresholdPixels() {
+        return parallelThresholdPixels;
+    }
+
+    public long getSerialMaskCount() {
+        return serialMasks.get();
+    }
+
+    public long getParallelMaskCount() {
+        return parallelMasks.get();
+    }
+
+    private static void maskBand(Bitmap bitmap, float[] rects, int bandTop, int bandBottom) {
+        // Batch the rects crossing the band into one path so the canvas fills them in a single draw
+        final Path path = new Path();
+        boolean empty = true;
+        for (int i = 0; i + 3 < rects.length; i += 4) {
+            final float top = Math.max(rects[i + 1], bandTop);
+            final float bottom = Math.min(rects[i + 3], bandBottom);
+            if (bottom <= top) {
+                continue;
+            }
+            path.addRect(rects[i], top, rects[i + 2], bottom, Path.Direction.CW);
+            empty = false;
+        }
+        if (empty) {
+            return;
+        }
+
+        final Canvas canvas = new Canvas(bitmap);
+        canvas.clipRect(0, bandTop, bitmap.getWidth(), bandBottom);
+        canvas.drawPath(path, new Paint());  // Default color is black
+    }
+
+    private static ThreadPoolExecutor createExecutor(int threads) {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+                IDLE_TIMEOUT_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), runnable -> {
+            Thread thread = new Thread(runnable);
+            thread.setName(THREAD_NAME + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Captures are periodic at best, so don't keep the threads around between them
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
@@ -0,0 +1,178 @@
+package ai.luciq.flutter.modules.capturing;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import ai.luciq.library.util.memory.MemoryUtils;
+
+import java.util.Iterator;
+import java.util.LinkedList;
+
+/**
+ * Size- and config-keyed pool of mutable bitmaps shared by the {@link CaptureManager}
+ * implementations, so periodic captures (e.g. session replay) reuse the same full-screen
+ * buffers instead of allocating a fresh one for every frame.
+ * <p>
+ * The pool is bounded by {@link #getMaxSizeBytes()}; when a released bitmap would push it over
+ * the cap, the least recently released bitmaps are evicted. Evicted bitmaps are only dropped
+ * (never {@link Bitmap#recycle() recycled}) since a consumer may still be reading from them.
+ * <p>
+ * Consumers are handed a copy of the masked capture, so capture buffers go back to the pool
+ * once delivered as well as after failed or discarded captures. A delivered copy belongs to its
+ * consumers for good and is never released.
+ */
+public class BitmapPool {
+    // Roughly two 1440x3200 ARGB_8888 frames.
+    public static final long DEFAULT_MAX_SIZE_BYTES = 36L * 1024 * 1024;
+
+    private final LinkedList<Bitmap> bitmaps = new LinkedList<>();
+    private final long maxSizeBytes;
+    private long currentSizeBytes = 0;
+
+    public BitmapPool() {
+        this(DEFAULT_MAX_SIZE_BYTES);
+    }
+
+    public BitmapPool(long maxSizeBytes) {
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    /**
+     * Returns a bitmap of the given size, preferring ARGB_8888 when there is enough free memory
+     * for it and falling back to RGB_565 otherwise.
+     *
+     * @return a pooled or newly allocated bitmap, or null if the size is invalid or allocation failed
+     */
+    @Nullable
+    public Bitmap acquire(Context context, int width, int height) {
+        return acquire(context, width, height, false);
+    }
+
+    /**
+     * Same as {@link #acquire(Context, int, int)}, but always uses RGB_565 when
+     * {@code preferRgb565} is set, e.g. while the app is under memory pressure.
+     */
+    @Nullable
+    public Bitmap acquire(Context context, int width, int height, boolean preferRgb565) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+
+        try {
+            if (preferRgb565) {
+                return acquire(width, height, Bitmap.Config.RGB_565);
+            }
+            if (((long) width * height * 4) < MemoryUtils.getFreeMemory(context)) {
+                // ARGB_8888 stores each pixel in 4 bytes
+                return acquire(width, height, Bitmap.Config.ARGB_8888);
+            }
+
+            // A pooled ARGB_8888 buffer is already allocated, so prefer it over a new RGB_565 one
+            Bitmap pooled = take(width, height, Bitmap.Config.ARGB_8888);
+            if (pooled != null) {
+                return pooled;
+            }
+            // RGB_565 stores each pixel in 2 bytes
+            return acquire(width, height, Bitmap.Config.RGB_565);
+        } catch (IllegalArgumentException | OutOfMemoryError e) {
+            clear();
+            try {
+                return Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
+            } catch (IllegalArgumentException | OutOfMemoryError ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Returns a pooled bitmap matching the given size and config, or allocates a new one.
+     */
+    @NonNull
+    public Bitmap acquire(int width, int height, @NonNull Bitmap.Config config) {
+        Bitmap pooled = take(width, height, config);
+        if (pooled != null) {
+            return pooled;
+        }
+
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Hands a bitmap back to the pool once its consumer is done with it. Immutable or
+     * recycled bitmaps, and bitmaps larger than the whole pool, are ignored.
+     */
+    public synchronized void release(@Nullable Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled() || !bitmap.isMutable()) {
+            return;
+        }
+
+        long size = getSize(bitmap);
+        if (size > maxSizeBytes) {
+            return;
+        }
+
+        for (Bitmap pooled : bitmaps) {
+            if (pooled == bitmap) {
+                return;
+            }
+        }
+
+        bitmaps.addLast(bitmap);
+        currentSizeBytes += size;
+        trimToSize(maxSizeBytes);
+    }
+
+    /**
+     * Drops every pooled bitmap.
+     */
+    public synchronized void clear() {
+        trimToSize(0);
+    }
+
+    public synchronized long getSizeBytes() {
+        return currentSizeBytes;
+    }
+
+    public long getMaxSizeBytes() {
+        return maxSizeBytes;
+    }
+
+    @VisibleForTesting
+    public synchronized int getCount() {
+        return bitmaps.size();
+    }
+
+    @Nullable
+    private synchronized Bitmap take(int width, int height, @NonNull Bitmap.Config config) {
+        Iterator<Bitmap> iterator = bitmaps.descendingIterator();
+        while (iterator.hasNext()) {
+            Bitmap bitmap = iterator.next();
+            if (bitmap.isRecycled()) {
+                currentSizeBytes -= getSize(bitmap);
+                iterator.remove();
+                continue;
+            }
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height && bitmap.getConfig() == config) {
+                currentSizeBytes -= getSize(bitmap);
+                iterator.remove();
+                return bitmap;
+            }
+        }
+        return null;
+    }
+
+    private void trimToSize(long size) {
+        while (currentSizeBytes > size && !bitmaps.isEmpty()) {
+            Bitmap evicted = bitmaps.removeFirst();
+            currentSizeBytes -= getSize(evicted);
+        }
+    }
+
+    private static long getSize(Bitmap bitmap) {
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+}
@@ -0,0 +1,87 @@
+package ai.luciq.flutter.modules.capturing;
+
+import android.graphics.Bitmap;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Detects captures that came back (almost) entirely black, e.g. a window PixelCopy taken before
+ * the Flutter surface was composited into it.
+ * <p>
+ * Pixels are sampled on a grid of {@link #getSampledRows()} by {@link #getSampledColumns()}. Each
+ * sampled row is read with a single bulk {@link Bitmap#getPixels} call into a reused buffer, so
+ * the cost is one native call per row rather than one per sampled pixel.
+ */
+public class BlankFrameDetector {
+    public static final int DEFAULT_SAMPLED_ROWS = 10;
+    public static final int DEFAULT_SAMPLED_COLUMNS = 10;
+    // Share of sampled pixels that must be empty for the frame to count as blank
+    private static final float BLANK_THRESHOLD = 0.98f;
+    private static final int EMPTY_CHANNEL_MAX = 8;
+
+    private final int sampledRows;
+    private final int sampledColumns;
+    private int[] rowBuffer;
+
+    public BlankFrameDetector() {
+        this(DEFAULT_SAMPLED_ROWS, DEFAULT_SAMPLED_COLUMNS);
+    }
+
+    /**
+     * @param sampledRows    how many rows are sampled, spread evenly over the height
+     * @param sampledColumns how many pixels are sampled per row, spread evenly over the width
+     */
+    public BlankFrameDetector(int sampledRows, int sampledColumns) {
+        if (sampledRows <= 0 || sampledColumns <= 0) {
+            throw new IllegalArgumentException("sampling density must be positive, got " + sampledRows + "x" + sampledColumns);
+        }
+        this.sampledRows = sampledRows;
+        this.sampledColumns = sampledColumns;
+    }
+
+    /**
+     * @return whether the bitmap is missing, empty, or has (almost) no non-black pixels
+     */
+    public synchronized boolean isBlank(@Nullable Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled() || bitmap.getWidth() <= 0 || bitmap.getHeight() <= 0) {
+            return true;
+        }
+
+        final int width = bitmap.getWidth();
+        final int height = bitmap.getHeight();
+        final int stepX = Math.max(1, width / sampledColumns);
+        final int stepY = Math.max(1, height / sampledRows);
+        if (rowBuffer == null || rowBuffer.length < width) {
+            rowBuffer = new int[width];
+        }
+
+        int samples = 0;
+        int emptySamples = 0;
+        for (int y = 0; y < height; y += stepY) {
+            bitmap.getPixels(rowBuffer, 0, width, 0, y, width, 1);
+            for (int x = 0; x < width; x += stepX) {
+                if (isEmptyPixel(rowBuffer[x])) {
+                    emptySamples++;
+                }
+                samples++;
+            }
+        }
+
+        return samples > 0 && emptySamples >= samples * BLANK_THRESHOLD;
+    }
+
+    public int getSampledRows() {
+        return sampledRows;
+    }
+
+    public int getSampledColumns() {
+        return sampledColumns;
+    }
+
+    private static boolean isEmptyPixel(int pixel) {
+        int red = (pixel >> 16) & 0xff;
+        int green = (pixel >> 8) & 0xff;
+        int blue = pixel & 0xff;
+        return red <= EMPTY_CHANNEL_MAX && green <= EMPTY_CHANNEL_MAX && blue <= EMPTY_CHANNEL_MAX;
+    }
+}
@@ -2,6 +2,8 @@ package ai.luciq.flutter.modules.capturing;
 
 import android.app.Activity;
 import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
 import android.util.DisplayMetrics;
 import android.view.View;
 
@@ -18,7 +20,7 @@ public class BoundryCaptureManager implements CaptureManager {
     }
 
     @Override
-    public void capture(Activity activity, ScreenshotResultCallback screenshotResultCallback) {
+    public void capture(Activity activity, CaptureSettings.Quality quality, ScreenshotResultCallback screenshotResultCallback) {
         ThreadManager.runOnMainThread(new Runnable() {
             @Override
             public void run() {
@@ -31,8 +33,18 @@ public class BoundryCaptureManager implements CaptureManager {
                     rootView.setDrawingCacheEnabled(true);
                     Bitmap bitmap = renderer.getBitmap();
                     rootView.setDrawingCacheEnabled(false);
+
+                    // The renderer only snapshots at full resolution in ARGB_8888, so convert afterwards
+                    final float scale = quality.getScale();
+                    if (bitmap != null && (scale < CaptureSettings.FULL_SCALE || quality.shouldPreferRgb565())) {
+                        Bitmap converted = convert(bitmap, scale, quality.shouldPreferRgb565());
+                        if (converted != bitmap) {
+                            bitmap.recycle();
+                        }
+                        bitmap = converted;
+                    }
                     DisplayMetrics displayMetrics = activity.getResources().getDisplayMetrics();
-                    screenshotResultCallback.onScreenshotResult(new ScreenshotResult(displayMetrics.density, bitmap));
+                    screenshotResultCallback.onScreenshotResult(new ScreenshotResult(displayMetrics.density, bitmap, 0, 0, scale));
 
                 } catch (Exception e) {
                     screenshotResultCallback.onError();
@@ -40,4 +52,18 @@ public class BoundryCaptureManager implements CaptureManager {
             }
         });
     }
+
+    private static Bitmap convert(Bitmap bitmap, float scale, boolean preferRgb565) {
+        final int width = CaptureSettings.scaleSize(bitmap.getWidth(), scale);
+        final int height = CaptureSettings.scaleSize(bitmap.getHeight(), scale);
+        if (!preferRgb565) {
+            return Bitmap.createScaledBitmap(bitmap, width, height, true);
+        }
+
+        Bitmap converted = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
+        Canvas canvas = new Canvas(converted);
+        canvas.scale(width / (float) bitmap.getWidth(), height / (float) bitmap.getHeight());
+        canvas.drawBitmap(bitmap, 0, 0, new Paint(Paint.FILTER_BITMAP_FLAG));
+        return converted;
+    }
 }
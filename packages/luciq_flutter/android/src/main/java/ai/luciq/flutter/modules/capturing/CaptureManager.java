@@ -3,5 +3,8 @@ package ai.luciq.flutter.modules.capturing;
 import android.app.Activity;
 
 public interface CaptureManager {
-    void capture(Activity activity, ScreenshotResultCallback screenshotResultCallback);
+    /**
+     * @param quality the resolution and pixel format to capture at
+     */
+    void capture(Activity activity, CaptureSettings.Quality quality, ScreenshotResultCallback screenshotResultCallback);
 }
@@ -0,0 +1,161 @@
+package ai.luciq.flutter.modules.capturing;
+
+import androidx.annotation.NonNull;
+
+import ai.luciq.flutter.util.LatencyHistogram;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histograms for each stage of the screenshot capture pipeline, and counters of how
+ * captures were served.
+ */
+public class CaptureMetrics {
+    public enum Stage {
+        /** From the capture request to the frame it waits for being rendered. */
+        SCHEDULE("schedule"),
+        /** Taking the screenshot, including any fallback strategies. */
+        CAPTURE("capture"),
+        /** Round-trip to Dart for the private views. */
+        PRIVATE_VIEWS("privateViews"),
+        /** Drawing the private view masks. */
+        MASK("mask"),
+        /** Handing the masked screenshot to the native SDK. */
+        DELIVERY("delivery"),
+        /** From the start of the capture to the end of delivery. */
+        TOTAL("total");
+
+        private final String key;
+
+        Stage(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    public enum Counter {
+        /** Captures masked with the private views Dart pushed, without a round trip. */
+        GEOMETRY_CACHE_HIT("geometryCache.hits"),
+        /** Captures that had to ask Dart for the private views. */
+        GEOMETRY_CACHE_MISS("geometryCache.misses"),
+        /** Captures that started at the step of the fallback chain remembered for the activity. */
+        STRATEGY_CACHE_HIT("strategyCache.hits"),
+        /** Captures that probed the fallback chain from the start. */
+        STRATEGY_CACHE_PROBE("strategyCache.probes"),
+        /** Failed steps of the fallback chain. */
+        STRATEGY_FAILURE("strategy.failures"),
+        WINDOW_PIXEL_COPY_SUCCESS("strategy.windowPixelCopy.successes"),
+        SURFACE_PIXEL_COPY_SUCCESS("strategy.surfacePixelCopy.successes"),
+        BOUNDRY_SUCCESS("strategy.boundry.successes"),
+        /** Capture requests that shared the in-flight capture of the same frame. */
+        COALESCED_REQUEST("coalescedRequests");
+
+        private final String key;
+
+        Counter(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Stage.values().length];
+    private final AtomicLong[] counters = new AtomicLong[Counter.values().length];
+
+    public CaptureMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new AtomicLong();
+        }
+    }
+
+    public void record(@NonNull Stage stage, long durationNanos) {
+        histograms[stage.ordinal()].recordNanos(durationNanos);
+    }
+
+    public void increment(@NonNull Counter counter) {
+        counters[counter.ordinal()].incrementAndGet();
+    }
+
+    public long getCount(@NonNull Counter counter) {
+        return counters[counter.ordinal()].get();
+    }
+
+    /**
+     * @return the share of captures masked with pushed private views, in [0, 1]
+     */
+    public double getGeometryCacheHitRate() {
+        final long hits = getCount(Counter.GEOMETRY_CACHE_HIT);
+        final long total = hits + getCount(Counter.GEOMETRY_CACHE_MISS);
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @NonNull
+    public LatencyHistogram get(@NonNull Stage stage) {
+        return histograms[stage.ordinal()];
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        for (AtomicLong counter : counters) {
+            counter.set(0);
+        }
+    }
+
+    /**
+     * Flattens the histograms into {@code "<stage>.<stat>"} entries, e.g. {@code "mask.p95Ms"},
+     * plus an entry per counter and {@code "geometryCache.hitRate"}.
+     */
+    @NonNull
+    public Map<String, Double> toMap() {
+        Map<String, Double> map = new HashMap<>();
+        for (Stage stage : Stage.values()) {
+            LatencyHistogram histogram = get(stage);
+            String key = stage.getKey();
+            map.put(key + ".count", (double) histogram.getCount());
+            map.put(key + ".meanMs", histogram.getMeanMs());
+            map.put(key + ".p50Ms", histogram.getPercentileMs(0.5));
+            map.put(key + ".p95Ms", histogram.getPercentileMs(0.95));
+            map.put(key + ".maxMs", histogram.getMaxMs());
+        }
+        for (Counter counter : Counter.values()) {
+            map.put(counter.getKey(), (double) getCount(counter));
+        }
+        map.put("geometryCache.hitRate", getGeometryCacheHitRate());
+        return map;
+    }
+
+    /**
+     * @return a single line summary of the p50/p95 of each stage and the counters, for the debug
+     * logger
+     */
+    @NonNull
+    public String summarize() {
+        StringBuilder builder = new StringBuilder();
+        for (Stage stage : Stage.values()) {
+            LatencyHistogram histogram = get(stage);
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(String.format(Locale.US, "%s=%d/%.1f/%.1fms", stage.getKey(), histogram.getCount(),
+                    histogram.getPercentileMs(0.5), histogram.getPercentileMs(0.95)));
+        }
+        for (Counter counter : Counter.values()) {
+            builder.append(' ').append(counter.getKey()).append('=').append(getCount(counter));
+        }
+        builder.append(String.format(Locale.US, " geometryCache.hitRate=%.2f", getGeometryCacheHitRate()));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,131 @@
+package ai.luciq.flutter.modules.capturing;
+
+/**
+ * Capture options, resolved into a {@link Quality} for every capture a {@link CaptureManager} takes.
+ */
+public class CaptureSettings {
+    public static final float FULL_SCALE = 1f;
+
+    private volatile float scale = FULL_SCALE;
+    private volatile int captureIntervalMs = NO_INTERVAL;
+    private volatile MemoryPressure memoryPressure = MemoryPressure.NONE;
+
+    public static final int NO_INTERVAL = 0;
+
+    /**
+     * How far captures are degraded to relieve memory pressure, see {@link MemoryPressurePolicy}.
+     */
+    public enum MemoryPressure {
+        NONE(FULL_SCALE, false, 1),
+        MODERATE(0.5f, true, 2),
+        CRITICAL(0.25f, true, 4);
+
+        final float scaleFactor;
+        final boolean preferRgb565;
+        final int intervalMultiplier;
+
+        MemoryPressure(float scaleFactor, boolean preferRgb565, int intervalMultiplier) {
+            this.scaleFactor = scaleFactor;
+            this.preferRgb565 = preferRgb565;
+            this.intervalMultiplier = intervalMultiplier;
+        }
+    }
+
+    /**
+     * The resolution and pixel format of a single capture.
+     */
+    public static class Quality {
+        public static final Quality FULL = new Quality(FULL_SCALE, false);
+
+        private final float scale;
+        private final boolean preferRgb565;
+
+        public Quality(float scale, boolean preferRgb565) {
+            this.scale = scale;
+            this.preferRgb565 = preferRgb565;
+        }
+
+        /**
+         * @return the factor the capture is rendered at relative to the device resolution, in (0, 1]
+         */
+        public float getScale() {
+            return scale;
+        }
+
+        /**
+         * @return whether the capture should use an RGB_565 bitmap, which takes half the memory
+         * of ARGB_8888
+         */
+        public boolean shouldPreferRgb565() {
+            return preferRgb565;
+        }
+    }
+
+    /**
+     * @return the quality to capture at, degraded under memory pressure. Requests that need a
+     * full resolution screenshot use {@link Quality#FULL} instead.
+     */
+    public Quality getQuality() {
+        final MemoryPressure pressure = memoryPressure;
+        return new Quality(scale * pressure.scaleFactor, pressure.preferRgb565);
+    }
+
+    /**
+     * @return the factor set through {@link #setScale(float)}, ignoring memory pressure
+     */
+    public float getRequestedScale() {
+        return scale;
+    }
+
+    /**
+     * Sets the factor captures are rendered at. Values below 1 make the capture managers copy
+     * straight into a smaller bitmap rather than downscaling a full resolution one afterwards.
+     *
+     * @param scale a factor in (0, 1]
+     * @throws IllegalArgumentException if the scale is out of range
+     */
+    public void setScale(float scale) {
+        if (!(scale > 0f && scale <= FULL_SCALE)) {
+            throw new IllegalArgumentException("scale must be in (0, 1], got " + scale);
+        }
+        this.scale = scale;
+    }
+
+    /**
+     * @return the session replay capture interval in milliseconds, stretched under memory
+     * pressure, or {@link #NO_INTERVAL} if the app never set one
+     */
+    public int getCaptureIntervalMs() {
+        final int interval = captureIntervalMs;
+        if (interval == NO_INTERVAL) {
+            return NO_INTERVAL;
+        }
+        return interval * memoryPressure.intervalMultiplier;
+    }
+
+    /**
+     * Records the capture interval the app asked for, so it can be stretched and restored as
+     * memory pressure changes.
+     */
+    public void setCaptureIntervalMs(int captureIntervalMs) {
+        this.captureIntervalMs = captureIntervalMs;
+    }
+
+    public MemoryPressure getMemoryPressure() {
+        return memoryPressure;
+    }
+
+    public void setMemoryPressure(MemoryPressure memoryPressure) {
+        this.memoryPressure = memoryPressure;
+    }
+
+    /**
+     * Scales a size in pixels, never returning less than 1 for a positive size.
+     */
+    public static int scaleSize(int size, float scale) {
+        if (size <= 0) {
+            return size;
+        }
+        return Math.max(1, Math.round(size * scale));
+    }
+}
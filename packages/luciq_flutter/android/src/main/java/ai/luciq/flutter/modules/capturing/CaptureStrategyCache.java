@@ -0,0 +1,125 @@
+package ai.luciq.flutter.modules.capturing;
+
+import android.app.Activity;
+import android.content.res.Configuration;
+
+import androidx.annotation.NonNull;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Remembers, per activity, which step of the capture fallback chain last succeeded so the next
+ * capture starts there instead of paying for the steps that are known to fail.
+ * <p>
+ * Strategies are identified by their index in the fallback chain. A remembered strategy is
+ * forgotten, and the next capture re-probes the chain from the start, when the activity's
+ * configuration changes, after the strategy failed {@link #getMaxFailures()} times, or after it
+ * was used {@link #getMaxHits()} times, so a fallback that only won because of a transient
+ * failure of an earlier step doesn't stick.
+ * <p>
+ * Captures starting at a remembered strategy and captures probing the chain are counted in
+ * {@link CaptureMetrics}.
+ */
+public class CaptureStrategyCache {
+    public static final int DEFAULT_MAX_FAILURES = 3;
+    public static final int DEFAULT_MAX_HITS = 50;
+    public static final int NO_STRATEGY = -1;
+
+    private static class Entry {
+        final int strategy;
+        final Configuration configuration;
+        int failures = 0;
+        int hits = 0;
+
+        Entry(int strategy, Configuration configuration) {
+            this.strategy = strategy;
+            this.configuration = configuration;
+        }
+    }
+
+    private final Map<Activity, Entry> entries = new WeakHashMap<>();
+    private final CaptureMetrics captureMetrics;
+    private final int maxFailures;
+    private final int maxHits;
+
+    public CaptureStrategyCache(@NonNull CaptureMetrics captureMetrics) {
+        this(captureMetrics, DEFAULT_MAX_FAILURES, DEFAULT_MAX_HITS);
+    }
+
+    public CaptureStrategyCache(@NonNull CaptureMetrics captureMetrics, int maxFailures, int maxHits) {
+        this.captureMetrics = captureMetrics;
+        this.maxFailures = maxFailures;
+        this.maxHits = maxHits;
+    }
+
+    /**
+     * @return the strategy the next capture of the activity should start at, 0 to probe the whole chain
+     */
+    public synchronized int getStartStrategy(@NonNull Activity activity) {
+        Entry entry = entries.get(activity);
+        if (entry != null && (entry.configuration.diff(getConfiguration(activity)) != 0
+                || (entry.strategy != 0 && entry.hits >= maxHits))) {
+            // The first step of the chain is the preferred one, so only fallbacks expire
+            entries.remove(activity);
+            entry = null;
+        }
+
+        if (entry == null) {
+            captureMetrics.increment(CaptureMetrics.Counter.STRATEGY_CACHE_PROBE);
+            return 0;
+        }
+
+        captureMetrics.increment(CaptureMetrics.Counter.STRATEGY_CACHE_HIT);
+        entry.hits++;
+        return entry.strategy;
+    }
+
+    public synchronized void onSuccess(@NonNull Activity activity, int strategy) {
+        Entry entry = entries.get(activity);
+        if (entry != null && entry.strategy == strategy) {
+            entry.failures = 0;
+            return;
+        }
+        entries.put(activity, new Entry(strategy, new Configuration(getConfiguration(activity))));
+    }
+
+    public synchronized void onFailure(@NonNull Activity activity, int strategy) {
+        Entry entry = entries.get(activity);
+        if (entry == null || entry.strategy != strategy) {
+            return;
+        }
+
+        entry.failures++;
+        if (entry.failures >= maxFailures) {
+            entries.remove(activity);
+        }
+    }
+
+    /**
+     * Forgets every remembered strategy.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return the strategy remembered for the activity, or {@link #NO_STRATEGY}
+     */
+    public synchronized int getCachedStrategy(@NonNull Activity activity) {
+        Entry entry = entries.get(activity);
+        return entry == null ? NO_STRATEGY : entry.strategy;
+    }
+
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    public int getMaxHits() {
+        return maxHits;
+    }
+
+    private static Configuration getConfiguration(Activity activity) {
+        return activity.getResources().getConfiguration();
+    }
+}
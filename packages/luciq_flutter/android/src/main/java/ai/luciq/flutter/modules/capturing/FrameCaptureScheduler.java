@@ -0,0 +1,48 @@
+package ai.luciq.flutter.modules.capturing;
+
+import android.view.Choreographer;
+
+import ai.luciq.flutter.util.ThreadManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedules captures on Flutter's frame pipeline instead of a fixed delay.
+ * <p>
+ * The Flutter engine drives its frames off the same {@link Choreographer} vsync, so the capture
+ * waits for the next vsync (the frame to be captured) and then one more, by which time the raster
+ * thread has presented that frame. The captured frame is identified by its vsync timestamp, which
+ * is the same value the engine hands Dart as the frame's `currentSystemFrameTimeStamp`.
+ */
+public class FrameCaptureScheduler {
+    public interface Callback {
+        /**
+         * @param frameNumber    sequence number of the captured frame, for log correlation
+         * @param frameTimeMicros vsync timestamp of the captured frame, in microseconds
+         */
+        void onFrameRendered(long frameNumber, long frameTimeMicros);
+    }
+
+    private final AtomicLong frameCounter = new AtomicLong(0);
+
+    public void scheduleAfterNextFrame(final Callback callback) {
+        ThreadManager.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                final Choreographer choreographer = Choreographer.getInstance();
+                choreographer.postFrameCallback(new Choreographer.FrameCallback() {
+                    @Override
+                    public void doFrame(long frameTimeNanos) {
+                        final long frameNumber = frameCounter.incrementAndGet();
+                        choreographer.postFrameCallback(new Choreographer.FrameCallback() {
+                            @Override
+                            public void doFrame(long nextFrameTimeNanos) {
+                                callback.onFrameRendered(frameNumber, frameTimeNanos / 1000);
+                            }
+                        });
+                    }
+                });
+            }
+        });
+    }
+}
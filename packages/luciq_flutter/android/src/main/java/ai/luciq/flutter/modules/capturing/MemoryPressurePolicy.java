@@ -0,0 +1,110 @@
+package ai.luciq.flutter.modules.capturing;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+import android.os.Handler;
+
+import androidx.annotation.NonNull;
+
+import ai.luciq.flutter.util.LuciqFlutterDebugTags;
+import ai.luciq.flutter.util.LuciqFlutterLogger;
+import ai.luciq.library.sessionreplay.SessionReplay;
+
+/**
+ * Degrades captures while the system reports memory pressure, so session replay does not push
+ * the app towards the low memory killer.
+ * <p>
+ * A trim callback raises the {@link CaptureSettings.MemoryPressure} level, which lowers the
+ * scale of the captures taken for the core SDK, switches them to RGB_565 and stretches the
+ * session replay capture interval, and drains the
+ * {@link BitmapPool}. The system never reports that pressure cleared, so quality is restored one
+ * level at a time once no trim callback arrived for {@link #RECOVERY_DELAY_MS}.
+ */
+public class MemoryPressurePolicy implements ComponentCallbacks2 {
+    public static final long RECOVERY_DELAY_MS = 30_000;
+
+    private final CaptureSettings captureSettings;
+    private final BitmapPool bitmapPool;
+    private final Handler handler;
+    private final Runnable recovery = new Runnable() {
+        @Override
+        public void run() {
+            final CaptureSettings.MemoryPressure pressure = captureSettings.getMemoryPressure();
+            if (pressure == CaptureSettings.MemoryPressure.NONE) {
+                return;
+            }
+            apply(CaptureSettings.MemoryPressure.values()[pressure.ordinal() - 1]);
+            if (captureSettings.getMemoryPressure() != CaptureSettings.MemoryPressure.NONE) {
+                handler.postDelayed(this, RECOVERY_DELAY_MS);
+            }
+        }
+    };
+
+    public MemoryPressurePolicy(@NonNull CaptureSettings captureSettings, @NonNull BitmapPool bitmapPool, @NonNull Handler handler) {
+        this.captureSettings = captureSettings;
+        this.bitmapPool = bitmapPool;
+        this.handler = handler;
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        // Pooled buffers are only an optimization, give them back at any level
+        bitmapPool.clear();
+
+        final CaptureSettings.MemoryPressure pressure = getPressure(level);
+        if (pressure == null) {
+            return;
+        }
+        if (pressure.ordinal() > captureSettings.getMemoryPressure().ordinal()) {
+            apply(pressure);
+        }
+        handler.removeCallbacks(recovery);
+        handler.postDelayed(recovery, RECOVERY_DELAY_MS);
+    }
+
+    @Override
+    public void onLowMemory() {
+        onTrimMemory(TRIM_MEMORY_COMPLETE);
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    }
+
+    /**
+     * Drops any degradation immediately, e.g. when the policy is unregistered.
+     */
+    public void reset() {
+        handler.removeCallbacks(recovery);
+        if (captureSettings.getMemoryPressure() != CaptureSettings.MemoryPressure.NONE) {
+            apply(CaptureSettings.MemoryPressure.NONE);
+        }
+    }
+
+    /**
+     * Maps a trim level to the degradation it calls for, or null for levels that only mean the
+     * app left the foreground, where no captures are taken.
+     */
+    private static CaptureSettings.MemoryPressure getPressure(int level) {
+        if (level == TRIM_MEMORY_RUNNING_CRITICAL || level >= TRIM_MEMORY_COMPLETE) {
+            return CaptureSettings.MemoryPressure.CRITICAL;
+        }
+        if (level == TRIM_MEMORY_RUNNING_MODERATE || level == TRIM_MEMORY_RUNNING_LOW) {
+            return CaptureSettings.MemoryPressure.MODERATE;
+        }
+        return null;
+    }
+
+    private void apply(CaptureSettings.MemoryPressure pressure) {
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.SESSION_REPLAY,
+                    "[SR.memoryPressure] from=" + captureSettings.getMemoryPressure() + " to=" + pressure);
+        }
+        captureSettings.setMemoryPressure(pressure);
+
+        final int intervalMs = captureSettings.getCaptureIntervalMs();
+        if (intervalMs != CaptureSettings.NO_INTERVAL) {
+            SessionReplay.setScreenshotCaptureInterval(intervalMs);
+        }
+    }
+}
@@ -14,17 +14,25 @@ import android.view.SurfaceView;
 import androidx.annotation.RequiresApi;
 
 import ai.luciq.flutter.model.ScreenshotResult;
-import ai.luciq.library.util.memory.MemoryUtils;
 
 import io.flutter.embedding.android.FlutterActivity;
 import io.flutter.embedding.android.FlutterFragment;
 import io.flutter.embedding.android.FlutterView;
 
 public class PixelCopyCaptureManager implements CaptureManager {
+    private final BitmapPool bitmapPool;
+
+    public PixelCopyCaptureManager() {
+        this(new BitmapPool());
+    }
+
+    public PixelCopyCaptureManager(BitmapPool bitmapPool) {
+        this.bitmapPool = bitmapPool;
+    }
 
     @RequiresApi(api = Build.VERSION_CODES.N)
     @Override
-    public void capture(Activity activity, ScreenshotResultCallback screenshotResultCallback) {
+    public void capture(Activity activity, CaptureSettings.Quality quality, ScreenshotResultCallback screenshotResultCallback) {
         FlutterView flutterView = getFlutterView(activity);
         if (flutterView == null || !isValidFlutterView(flutterView)) {
             screenshotResultCallback.onError();
@@ -37,7 +45,12 @@ public class PixelCopyCaptureManager implements CaptureManager {
             return;
         }
 
-        Bitmap bitmap = createBitmapFromSurface(surfaceView);
+        // PixelCopy scales the surface into the destination bitmap
+        final float scale = quality.getScale();
+        Bitmap bitmap = bitmapPool.acquire(surfaceView.getContext(),
+                CaptureSettings.scaleSize(surfaceView.getWidth(), scale),
+                CaptureSettings.scaleSize(surfaceView.getHeight(), scale),
+                quality.shouldPreferRgb565());
 
         if (bitmap == null) {
             screenshotResultCallback.onError();
@@ -49,8 +62,9 @@ public class PixelCopyCaptureManager implements CaptureManager {
                 try {
                     if (copyResult == PixelCopy.SUCCESS) {
                         DisplayMetrics displayMetrics = activity.getResources().getDisplayMetrics();
-                        screenshotResultCallback.onScreenshotResult(new ScreenshotResult(displayMetrics.density, bitmap));
+                        screenshotResultCallback.onScreenshotResult(new ScreenshotResult(displayMetrics.density, bitmap, 0, 0, scale));
                     } else {
+                        bitmapPool.release(bitmap);
                         screenshotResultCallback.onError();
                     }
                 } catch (Exception e) {
@@ -58,6 +72,7 @@ public class PixelCopyCaptureManager implements CaptureManager {
                 }
             }, new Handler(Looper.getMainLooper()));
         } catch (Exception e) {
+            bitmapPool.release(bitmap);
             screenshotResultCallback.onError();
         }
     }
@@ -83,29 +98,4 @@ public class PixelCopyCaptureManager implements CaptureManager {
         Surface surface = holder.getSurface();
         return surface != null && surface.isValid();
     }
-
-    private Bitmap createBitmapFromSurface(SurfaceView surfaceView) {
-        int width = surfaceView.getWidth();
-        int height = surfaceView.getHeight();
-
-        if (width <= 0 || height <= 0) {
-            return null;
-        }
-        Bitmap bitmap;
-        try {
-            if (((long) width * height * 4) < MemoryUtils.getFreeMemory(surfaceView.getContext())) {
-                // ARGB_8888 store each pixel in 4 bytes
-                bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
-            } else {
-                // RGB_565 store each pixel in 2 bytes
-                bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
-            }
-
-        } catch (IllegalArgumentException | OutOfMemoryError e) {
-            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
-        }
-
-
-        return bitmap;
-    }
 }
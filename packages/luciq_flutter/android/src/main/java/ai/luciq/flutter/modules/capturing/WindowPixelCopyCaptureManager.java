@@ -12,76 +12,116 @@ import android.view.View;
 import androidx.annotation.RequiresApi;
 
 import ai.luciq.flutter.model.ScreenshotResult;
-import ai.luciq.library.util.memory.MemoryUtils;
+import ai.luciq.flutter.util.LaneExecutor;
+import ai.luciq.flutter.util.LuciqFlutterDebugTags;
+import ai.luciq.flutter.util.LuciqFlutterLogger;
+import ai.luciq.flutter.util.ThreadManager;
 
 import io.flutter.embedding.android.FlutterActivity;
 import io.flutter.embedding.android.FlutterFragment;
 import io.flutter.embedding.android.FlutterView;
 
+import java.util.concurrent.Executor;
+
 public class WindowPixelCopyCaptureManager implements CaptureManager {
+    private final BitmapPool bitmapPool;
+    private final BlankFrameDetector blankFrameDetector;
+    private final Executor frameCheckExecutor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+    public WindowPixelCopyCaptureManager() {
+        this(new BitmapPool());
+    }
+
+    public WindowPixelCopyCaptureManager(BitmapPool bitmapPool) {
+        this(bitmapPool, new BlankFrameDetector(), runnable -> ThreadManager.runOnBackground(runnable, ThreadManager.Lane.CPU));
+    }
+
+    /**
+     * @param frameCheckExecutor runs the blank frame check off the main thread, the check is a
+     *                           {@link LaneExecutor.Droppable} the executor may drop
+     */
+    public WindowPixelCopyCaptureManager(BitmapPool bitmapPool, BlankFrameDetector blankFrameDetector, Executor frameCheckExecutor) {
+        this.bitmapPool = bitmapPool;
+        this.blankFrameDetector = blankFrameDetector;
+        this.frameCheckExecutor = frameCheckExecutor;
+    }
+
     @RequiresApi(api = Build.VERSION_CODES.O)
     @Override
-    public void capture(Activity activity, ScreenshotResultCallback screenshotResultCallback) {
+    public void capture(Activity activity, CaptureSettings.Quality quality, ScreenshotResultCallback screenshotResultCallback) {
         if (activity == null || activity.getWindow() == null) {
             screenshotResultCallback.onError();
             return;
         }
 
         View rootView = activity.getWindow().getDecorView().getRootView();
-        Bitmap bitmap = createBitmapFromWindow(rootView);
+        // PixelCopy scales the window into the destination bitmap
+        final float scale = quality.getScale();
+        Bitmap bitmap = bitmapPool.acquire(rootView.getContext(),
+                CaptureSettings.scaleSize(rootView.getWidth(), scale),
+                CaptureSettings.scaleSize(rootView.getHeight(), scale),
+                quality.shouldPreferRgb565());
 
         if (bitmap == null) {
             screenshotResultCallback.onError();
             return;
         }
 
+        final DisplayMetrics displayMetrics = activity.getResources().getDisplayMetrics();
+        // Views are only safe to read here on the main thread, before the check moves off it
+        final float[] flutterViewOffset = getFlutterViewOffset(activity, rootView, displayMetrics.density);
+
         try {
             PixelCopy.request(activity.getWindow(), null, bitmap, copyResult -> {
+                if (copyResult != PixelCopy.SUCCESS) {
+                    bitmapPool.release(bitmap);
+                    screenshotResultCallback.onError();
+                    return;
+                }
+
                 try {
-                    if (copyResult == PixelCopy.SUCCESS) {
-                        if (isInvalidWindowCapture(bitmap)) {
-                            screenshotResultCallback.onError();
-                            return;
+                    frameCheckExecutor.execute(new LaneExecutor.Droppable() {
+                        @Override
+                        public void run() {
+                            boolean blank;
+                            try {
+                                blank = blankFrameDetector.isBlank(bitmap);
+                            } catch (Exception e) {
+                                // A frame that couldn't be checked is treated like a blank one
+                                LuciqFlutterLogger.e(LuciqFlutterDebugTags.PRIVATE_VIEW,
+                                        "[PRIV.capture.window] phase=error errorType=" + e.getClass().getSimpleName(), e);
+                                blank = true;
+                            }
+                            if (blank) {
+                                fail();
+                                return;
+                            }
+                            screenshotResultCallback.onScreenshotResult(new ScreenshotResult(displayMetrics.density, bitmap, flutterViewOffset[0], flutterViewOffset[1], scale));
+                        }
+
+                        @Override
+                        public void onDropped() {
+                            fail();
                         }
-                        DisplayMetrics displayMetrics = activity.getResources().getDisplayMetrics();
-                        float[] flutterViewOffset = getFlutterViewOffset(activity, rootView, displayMetrics.density);
-                        screenshotResultCallback.onScreenshotResult(new ScreenshotResult(displayMetrics.density, bitmap, flutterViewOffset[0], flutterViewOffset[1]));
-                    } else {
-                        screenshotResultCallback.onError();
-                    }
+
+                        private void fail() {
+                            bitmapPool.release(bitmap);
+                            // Fallback captures read views, so report the error on the main thread
+                            mainHandler.post(screenshotResultCallback::onError);
+                        }
+                    });
                 } catch (Exception e) {
+                    bitmapPool.release(bitmap);
                     screenshotResultCallback.onError();
                 }
-            }, new Handler(Looper.getMainLooper()));
+            }, mainHandler);
         } catch (Exception e) {
+            bitmapPool.release(bitmap);
             screenshotResultCallback.onError();
         }
     }
 
-    private Bitmap createBitmapFromWindow(View view) {
-        int width = view.getWidth();
-        int height = view.getHeight();
-
-        if (width <= 0 || height <= 0) {
-            return null;
-        }
-
-        Bitmap bitmap;
-        try {
-            if (((long) width * height * 4) < MemoryUtils.getFreeMemory(view.getContext())) {
-                // ARGB_8888 stores each pixel in 4 bytes
-                bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
-            } else {
-                // RGB_565 stores each pixel in 2 bytes
-                bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
-            }
-        } catch (IllegalArgumentException | OutOfMemoryError e) {
-            bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.RGB_565);
-        }
-
-        return bitmap;
-    }
-
     private float[] getFlutterViewOffset(Activity activity, View rootView, float pixelRatio) {
         FlutterView flutterView = getFlutterView(activity);
         if (flutterView == null) {
@@ -104,37 +144,4 @@ public class WindowPixelCopyCaptureManager implements CaptureManager {
         FlutterView flutterViewInFragment = activity.findViewById(FlutterFragment.FLUTTER_VIEW_ID);
         return flutterViewInActivity != null ? flutterViewInActivity : flutterViewInFragment;
     }
-
-    private static boolean isInvalidWindowCapture(Bitmap bitmap) {
-        if (bitmap == null || bitmap.getWidth() <= 0 || bitmap.getHeight() <= 0) {
-            return true;
-        }
-
-        return hasInsufficientPixelData(bitmap);
-    }
-
-    private static boolean hasInsufficientPixelData(Bitmap bitmap) {
-        int samples = 0;
-        int emptySamples = 0;
-        int sampleStepX = Math.max(1, bitmap.getWidth() / 10);
-        int sampleStepY = Math.max(1, bitmap.getHeight() / 10);
-
-        for (int y = 0; y < bitmap.getHeight(); y += sampleStepY) {
-            for (int x = 0; x < bitmap.getWidth(); x += sampleStepX) {
-                if (isEmptyPixel(bitmap.getPixel(x, y))) {
-                    emptySamples++;
-                }
-                samples++;
-            }
-        }
-
-        return samples > 0 && emptySamples >= samples * 0.98f;
-    }
-
-    private static boolean isEmptyPixel(int pixel) {
-        int red = (pixel >> 16) & 0xff;
-        int green = (pixel >> 8) & 0xff;
-        int blue = pixel & 0xff;
-        return red <= 8 && green <= 8 && blue <= 8;
-    }
 }
@@ -0,0 +1,181 @@
+package ai.luciq.flutter.util;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serializes network log headers to compact JSON, writing straight into a per-thread reusable
+ * StringBuilder instead of copying the map into a JSONObject and pretty-printing it.
+ * <p>
+ * Headers are filtered by name before serialization: when an allow-list is set only the headers
+ * it names are kept, and headers on the deny-list are always dropped. Names are matched
+ * case-insensitively, like HTTP header names.
+ */
+public class HeaderSerializer {
+    /**
+     * Builders that grew past this are dropped after use, so one huge header map doesn't pin
+     * its buffer for the lifetime of the thread.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> builders = new ThreadLocal<StringBuilder>() {
+        @Override
+        protected StringBuilder initialValue() {
+            return new StringBuilder(512);
+        }
+    };
+
+    /**
+     * The allow-list and deny-list, published together so a reader never sees one set from a
+     * {@link #setHeaderFilters} call and the other from the previous one.
+     */
+    private static final class HeaderFilters {
+        static final HeaderFilters NONE = new HeaderFilters(null, Collections.<String>emptySet());
+
+        @Nullable
+        final Set<String> allowed;
+        @NonNull
+        final Set<String> denied;
+
+        HeaderFilters(@Nullable Set<String> allowed, @NonNull Set<String> denied) {
+            this.allowed = allowed;
+            this.denied = denied;
+        }
+
+        boolean isAllowed(@NonNull String name) {
+            if (allowed == null && denied.isEmpty()) {
+                return true;
+            }
+
+            final String key = name.toLowerCase(Locale.ROOT);
+            return (allowed == null || allowed.contains(key)) && !denied.contains(key);
+        }
+    }
+
+    private static volatile HeaderFilters filters = HeaderFilters.NONE;
+
+    /**
+     * Sets the headers kept in network logs.
+     *
+     * @param allowList names of the only headers to keep, or null to keep all headers
+     * @param denyList  names of headers to drop, or null to drop none
+     */
+    public static void setHeaderFilters(@Nullable Collection<String> allowList, @Nullable Collection<String> denyList) {
+        filters = new HeaderFilters(
+                allowList != null ? toLowerCase(allowList) : null,
+                denyList != null ? toLowerCase(denyList) : Collections.<String>emptySet()
+        );
+    }
+
+    /**
+     * @return whether the header passes the allow-list and deny-list
+     */
+    public static boolean isAllowed(@NonNull String name) {
+        return filters.isAllowed(name);
+    }
+
+    /**
+     * @return the headers that pass the filters as a compact JSON object, "{}" if there are none
+     */
+    @NonNull
+    public static String serialize(@Nullable Map<?, ?> headers) {
+        if (headers == null || headers.isEmpty()) {
+            return "{}";
+        }
+
+        // Read the filters once so the whole map is filtered against the same lists
+        final HeaderFilters headerFilters = filters;
+        StringBuilder builder = builders.get();
+        builder.setLength(0);
+        builder.append('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> header : headers.entrySet()) {
+            final Object name = header.getKey();
+            final Object value = header.getValue();
+            // JSONObject drops null values too
+            if (name == null || value == null || !headerFilters.isAllowed(name.toString())) {
+                continue;
+            }
+
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            appendString(builder, name.toString());
+            builder.append(':');
+            appendValue(builder, value);
+        }
+        builder.append('}');
+
+        final String json = builder.toString();
+        if (builder.capacity() > MAX_RETAINED_CAPACITY) {
+            builders.remove();
+        }
+        return json;
+    }
+
+    private static void appendValue(StringBuilder builder, Object value) {
+        if (value instanceof Boolean
+                || value instanceof Integer
+                || value instanceof Long
+                || (value instanceof Double && !((Double) value).isNaN() && !((Double) value).isInfinite())) {
+            builder.append(value);
+        } else {
+            appendString(builder, value.toString());
+        }
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        builder.append('"');
+    }
+
+    private static Set<String> toLowerCase(Collection<String> names) {
+        final Set<String> lowerCase = new HashSet<>();
+        for (String name : names) {
+            if (name != null) {
+                lowerCase.add(name.toLowerCase(Locale.ROOT));
+            }
+        }
+        return Collections.unmodifiableSet(lowerCase);
+    }
+}
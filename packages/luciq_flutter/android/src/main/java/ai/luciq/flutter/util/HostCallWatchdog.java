@@ -0,0 +1,205 @@
+package ai.luciq.flutter.util;
+
+import android.os.Looper;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+/**
+ * Opt-in watchdog timing every host API handler, to find SDK calls that block the main thread.
+ * <p>
+ * Handlers are timed by wrapping them with {@link #wrap(String, BinaryMessenger.BinaryMessageHandler)},
+ * or by registering them through {@link #wrap(BinaryMessenger)}, so every pigeon host API is
+ * covered without touching the generated code. Each method gets a latency histogram, and calls
+ * on the main thread that run longer than the budget are counted as stalls and logged. While
+ * disabled, handlers are called straight through.
+ */
+public class HostCallWatchdog {
+    public static final long DEFAULT_BUDGET_MS = 16;
+
+    private static volatile boolean enabled = false;
+    private static volatile long budgetNanos = DEFAULT_BUDGET_MS * 1_000_000;
+
+    private static final ConcurrentHashMap<String, MethodStats> stats = new ConcurrentHashMap<>();
+
+    private static class MethodStats {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final AtomicLong stalls = new AtomicLong();
+    }
+
+    /**
+     * @param isEnabled whether host calls are timed
+     * @param budgetMs  how long a call may block the main thread before it counts as a stall
+     */
+    public static void setEnabled(boolean isEnabled, long budgetMs) {
+        budgetNanos = Math.max(0, budgetMs) * 1_000_000;
+        enabled = isEnabled;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return a messenger registering every message handler through the watchdog. It is a proxy
+     * forwarding every other call as is, so it works with whichever methods the Flutter embedding
+     * the app is built with declares.
+     */
+    @NonNull
+    public static BinaryMessenger wrap(@NonNull BinaryMessenger messenger) {
+        return (BinaryMessenger) Proxy.newProxyInstance(BinaryMessenger.class.getClassLoader(),
+                new Class<?>[]{BinaryMessenger.class}, new TimedMessenger(messenger));
+    }
+
+    /**
+     * @return the handler timed under the method name of the channel it handles
+     */
+    @NonNull
+    public static BinaryMessenger.BinaryMessageHandler wrap(@NonNull String channel, @NonNull BinaryMessenger.BinaryMessageHandler handler) {
+        return new TimedHandler(methodName(channel), handler);
+    }
+
+    /**
+     * Records a host call that took {@code durationNanos}.
+     */
+    public static void record(@NonNull String method, long durationNanos, boolean isMainThread) {
+        MethodStats methodStats = stats.get(method);
+        if (methodStats == null) {
+            final MethodStats created = new MethodStats();
+            final MethodStats existing = stats.putIfAbsent(method, created);
+            methodStats = existing != null ? existing : created;
+        }
+
+        methodStats.histogram.recordNanos(durationNanos);
+        if (isMainThread && durationNanos > budgetNanos) {
+            methodStats.stalls.incrementAndGet();
+            if (LuciqFlutterLogger.isDebugEnabled()) {
+                LuciqFlutterLogger.w(LuciqFlutterDebugTags.CORE,
+                        String.format(Locale.US, "[HostCallWatchdog] phase=stall method=%s durationMs=%.1f budgetMs=%d",
+                                method, durationNanos / 1_000_000.0, budgetNanos / 1_000_000));
+            }
+        }
+    }
+
+    /**
+     * Flattens the stats into {@code "<method>.<stat>"} entries, e.g.
+     * {@code "LuciqHostApi.init.p95Ms"}, with the {@code count}, {@code meanMs}, {@code p50Ms},
+     * {@code p95Ms}, {@code maxMs} and {@code stalls} of every method called so far.
+     */
+    @NonNull
+    public static Map<String, Double> toMap() {
+        Map<String, Double> map = new HashMap<>();
+        for (Map.Entry<String, MethodStats> entry : stats.entrySet()) {
+            final String key = entry.getKey();
+            final LatencyHistogram histogram = entry.getValue().histogram;
+            map.put(key + ".count", (double) histogram.getCount());
+            map.put(key + ".meanMs", histogram.getMeanMs());
+            map.put(key + ".p50Ms", histogram.getPercentileMs(0.5));
+            map.put(key + ".p95Ms", histogram.getPercentileMs(0.95));
+            map.put(key + ".maxMs", histogram.getMaxMs());
+            map.put(key + ".stalls", (double) entry.getValue().stalls.get());
+        }
+        return map;
+    }
+
+    /**
+     * @return a single line summary of the methods that stalled the main thread, for the debug logger
+     */
+    @NonNull
+    public static String summarize() {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, MethodStats> entry : stats.entrySet()) {
+            final long stalls = entry.getValue().stalls.get();
+            if (stalls == 0) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(String.format(Locale.US, "%s=%d/%.1fms", entry.getKey(), stalls,
+                    entry.getValue().histogram.getMaxMs()));
+        }
+        return builder.length() > 0 ? builder.toString() : "stalls=0";
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    /**
+     * @return the method name of a pigeon channel, e.g. {@code "LuciqHostApi.init"} for
+     * {@code "dev.flutter.pigeon.luciq_flutter.LuciqHostApi.init"}
+     */
+    @NonNull
+    static String methodName(@NonNull String channel) {
+        final int methodDot = channel.lastIndexOf('.');
+        if (methodDot <= 0) {
+            return channel;
+        }
+        final int apiDot = channel.lastIndexOf('.', methodDot - 1);
+        return channel.substring(apiDot + 1);
+    }
+
+    private static class TimedHandler implements BinaryMessenger.BinaryMessageHandler {
+        private final String method;
+        private final BinaryMessenger.BinaryMessageHandler handler;
+
+        TimedHandler(String method, BinaryMessenger.BinaryMessageHandler handler) {
+            this.method = method;
+            this.handler = handler;
+        }
+
+        @Override
+        public void onMessage(@Nullable ByteBuffer message, @NonNull BinaryMessenger.BinaryReply reply) {
+            if (!enabled) {
+                handler.onMessage(message, reply);
+                return;
+            }
+
+            final long start = System.nanoTime();
+            try {
+                handler.onMessage(message, reply);
+            } finally {
+                record(method, System.nanoTime() - start, Looper.myLooper() == Looper.getMainLooper());
+            }
+        }
+    }
+
+    /**
+     * Wraps the handler of every {@code setMessageHandler} overload, whose first two parameters
+     * are always the channel and the handler.
+     */
+    private static class TimedMessenger implements InvocationHandler {
+        private final BinaryMessenger messenger;
+
+        TimedMessenger(BinaryMessenger messenger) {
+            this.messenger = messenger;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("setMessageHandler".equals(method.getName()) && args != null && args.length >= 2
+                    && args[0] instanceof String && args[1] instanceof BinaryMessenger.BinaryMessageHandler) {
+                args[1] = wrap((String) args[0], (BinaryMessenger.BinaryMessageHandler) args[1]);
+            }
+            try {
+                return method.invoke(messenger, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package ai.luciq.flutter.util;
+
+import androidx.annotation.NonNull;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A named thread pool used as one lane of {@link ThreadManager}.
+ * <p>
+ * Tasks beyond the lane's threads wait in a queue of at most {@code capacity} tasks, and never
+ * run on the submitting thread, which is often the main thread. When the queue is full, the
+ * oldest queued {@link Droppable} task is dropped to make room. If none is queued, a new
+ * droppable task is dropped, and any other task is rejected with a
+ * {@link RejectedExecutionException}, which pigeon answers Dart with as an error instead of
+ * leaving its call pending. Idle threads time out, so an unused lane holds no threads.
+ */
+public class LaneExecutor {
+    private static final long KEEP_ALIVE_SECONDS = 30;
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /**
+     * A task the lane may drop when its queue is full, such as work a capture deadline covers.
+     */
+    public interface Droppable extends Runnable {
+        /**
+         * Called on the submitting thread instead of {@link #run()} once the task is dropped.
+         */
+        void onDropped();
+    }
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public LaneExecutor(@NonNull final String name, int threads) {
+        this(name, threads, DEFAULT_CAPACITY);
+    }
+
+    public LaneExecutor(@NonNull final String name, int threads, int capacity) {
+        this.name = name;
+        this.executor = new ThreadPoolExecutor(threads, threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<Runnable>(capacity),
+                new ThreadFactory() {
+                    private final AtomicInteger count = new AtomicInteger();
+
+                    @Override
+                    public Thread newThread(@NonNull Runnable runnable) {
+                        final Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                },
+                new RejectedExecutionHandler() {
+                    @Override
+                    public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+                        onQueueFull((Task) runnable);
+                    }
+                });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * @throws RejectedExecutionException if the queue is full and the task isn't {@link Droppable}
+     */
+    public void execute(@NonNull final Runnable runnable) {
+        executor.execute(new Task(runnable));
+    }
+
+    private void onQueueFull(Task task) {
+        // Iterates from the oldest task
+        for (Runnable queued : executor.getQueue()) {
+            final Task queuedTask = (Task) queued;
+            if (queuedTask.runnable instanceof Droppable && executor.remove(queuedTask)) {
+                drop(queuedTask);
+                executor.execute(task);
+                return;
+            }
+        }
+
+        if (task.runnable instanceof Droppable) {
+            drop(task);
+            return;
+        }
+
+        rejected.incrementAndGet();
+        LuciqFlutterLogger.e(LuciqFlutterDebugTags.CORE,
+                "[ThreadManager.execute] phase=error errorType=RejectedExecutionException lane=" + name);
+        throw new RejectedExecutionException("Lane " + name + " is full");
+    }
+
+    private void drop(Task task) {
+        dropped.incrementAndGet();
+        if (LuciqFlutterLogger.isDebugEnabled()) {
+            LuciqFlutterLogger.d(LuciqFlutterDebugTags.CORE,
+                    "[ThreadManager.execute] phase=drop lane=" + name);
+        }
+        ((Droppable) task.runnable).onDropped();
+    }
+
+    private void recordWait(long waitNanos) {
+        executed.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        long max;
+        do {
+            max = maxWaitNanos.get();
+        } while (waitNanos > max && !maxWaitNanos.compareAndSet(max, waitNanos));
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return how many tasks are waiting for a thread
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    /**
+     * @return how many tasks started running
+     */
+    public long getExecutedCount() {
+        return executed.get();
+    }
+
+    /**
+     * @return the mean time tasks waited between being submitted and starting, in milliseconds
+     */
+    public double getMeanWaitMs() {
+        final long count = executed.get();
+        return count == 0 ? 0 : totalWaitNanos.get() / 1_000_000.0 / count;
+    }
+
+    /**
+     * @return the longest time a task waited between being submitted and starting, in milliseconds
+     */
+    public double getMaxWaitMs() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * @return how many {@link Droppable} tasks were dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * @return how many tasks were rejected because the queue was full of tasks that can't be dropped
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * Clears the wait time stats and the dropped and rejected counts.
+     */
+    public void reset() {
+        executed.set(0);
+        totalWaitNanos.set(0);
+        maxWaitNanos.set(0);
+        dropped.set(0);
+        rejected.set(0);
+    }
+
+    /**
+     * Flattens the stats into {@code "<prefix>.<stat>"} entries, e.g. {@code "lane.io.maxWaitMs"}.
+     */
+    @NonNull
+    public Map<String, Double> toMap(@NonNull String prefix) {
+        final Map<String, Double> map = new HashMap<>();
+        map.put(prefix + ".queueDepth", (double) getQueueDepth());
+        map.put(prefix + ".executed", (double) getExecutedCount());
+        map.put(prefix + ".meanWaitMs", getMeanWaitMs());
+        map.put(prefix + ".maxWaitMs", getMaxWaitMs());
+        map.put(prefix + ".dropped", (double) getDroppedCount());
+        map.put(prefix + ".rejected", (double) getRejectedCount());
+        return map;
+    }
+
+    /**
+     * @return a one line summary for logs
+     */
+    @NonNull
+    public String summarize() {
+        return String.format(Locale.ROOT, "lane=%s queueDepth=%d active=%d executed=%d meanWaitMs=%.2f maxWaitMs=%.2f dropped=%d rejected=%d",
+                name, getQueueDepth(), getActiveCount(), getExecutedCount(), getMeanWaitMs(), getMaxWaitMs(),
+                getDroppedCount(), getRejectedCount());
+    }
+
+    /**
+     * Times how long a task waited for a thread.
+     */
+    private class Task implements Runnable {
+        final Runnable runnable;
+        final long submittedAt = System.nanoTime();
+
+        Task(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            recordWait(System.nanoTime() - submittedAt);
+            runnable.run();
+        }
+    }
+}
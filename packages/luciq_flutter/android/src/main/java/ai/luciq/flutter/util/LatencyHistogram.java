@@ -0,0 +1,82 @@
+package ai.luciq.flutter.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with power-of-two microsecond buckets, cheap enough to record on
+ * every capture or host call.
+ * <p>
+ * Bucket {@code i} counts durations in {@code [2^i, 2^(i+1))} microseconds, so percentiles are
+ * reported as the upper bound of the bucket they fall in (within 2x of the true value).
+ */
+public class LatencyHistogram {
+    // 2^26 us is a bit over a minute, anything longer lands in the last bucket
+    private static final int BUCKET_COUNT = 27;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sumMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long durationNanos) {
+        recordMicros(durationNanos / 1000);
+    }
+
+    public void recordMicros(long durationMicros) {
+        final long micros = Math.max(0, durationMicros);
+        final int bucket = micros == 0 ? 0 : Math.min(BUCKET_COUNT - 1, 63 - Long.numberOfLeadingZeros(micros));
+
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        sumMicros.addAndGet(micros);
+
+        long max = maxMicros.get();
+        while (micros > max && !maxMicros.compareAndSet(max, micros)) {
+            max = maxMicros.get();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getMeanMs() {
+        final long total = count.get();
+        return total == 0 ? 0 : sumMicros.get() / (total * 1000.0);
+    }
+
+    public double getMaxMs() {
+        return maxMicros.get() / 1000.0;
+    }
+
+    /**
+     * @param percentile a value in (0, 1], e.g. 0.95
+     * @return the upper bound of the bucket the percentile falls in, in milliseconds
+     */
+    public double getPercentileMs(double percentile) {
+        final long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+
+        final long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min((1L << (i + 1)) / 1000.0, getMaxMs());
+            }
+        }
+        return getMaxMs();
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        sumMicros.set(0);
+        maxMicros.set(0);
+    }
+}
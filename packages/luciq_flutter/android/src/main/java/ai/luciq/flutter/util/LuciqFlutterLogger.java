@@ -42,14 +42,29 @@ public final class LuciqFlutterLogger {
         return currentLevel;
     }
 
+    /**
+     * Whether {@link #d} and {@link #w} messages are logged. Mirrors
+     * {@code LuciqLogger.isDebugEnabled()} on the Dart side.
+     *
+     * Call sites that build their message check it first, so disabled
+     * logging costs no allocations:
+     *
+     *   if (LuciqFlutterLogger.isDebugEnabled()) {
+     *       LuciqFlutterLogger.d(tag, "[Luciq.setEnabled] phase=enter isEnabled=" + isEnabled);
+     *   }
+     */
+    public static boolean isDebugEnabled() {
+        return currentLevel >= LogLevel.DEBUG;
+    }
+
     public static void d(String tag, String message) {
-        if (currentLevel >= LogLevel.DEBUG) {
+        if (isDebugEnabled()) {
             Log.d(tag, message);
         }
     }
 
     public static void w(String tag, String message) {
-        if (currentLevel >= LogLevel.DEBUG) {
+        if (isDebugEnabled()) {
             Log.w(tag, message);
         }
     }
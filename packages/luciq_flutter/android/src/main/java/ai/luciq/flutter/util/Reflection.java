@@ -1,11 +1,33 @@
 package ai.luciq.flutter.util;
 
+import androidx.annotation.VisibleForTesting;
+
+import androidx.annotation.NonNull;
+
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Reflection {
+    /**
+     * Cached result of a lookup that found no method, since the map can't hold nulls.
+     */
+    private static final Object MISSING = new Object();
+
+    private static final ConcurrentMap<MethodKey, Object> methods = new ConcurrentHashMap<>();
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+
     /**
      * Gets the private method that matches the class, method name and parameter
      * types given and making it accessible. For private use only.
+     * <p>
+     * Lookups are cached, including the ones that found no method, so only the first call for
+     * each method scans the declared methods of the class.
      *
      * @param clazz         the class the method is in
      * @param methodName    the method name
@@ -13,6 +35,20 @@ public class Reflection {
      * @return the method that matches the class, method name and param types given
      */
     public static Method getMethod(Class clazz, String methodName, Class... parameterType) {
+        final MethodKey key = new MethodKey(clazz, methodName, parameterType);
+        Object cached = methods.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached == MISSING ? null : (Method) cached;
+        }
+
+        misses.incrementAndGet();
+        final Method method = findMethod(clazz, methodName, parameterType);
+        methods.putIfAbsent(key, method != null ? method : MISSING);
+        return method;
+    }
+
+    private static Method findMethod(Class clazz, String methodName, Class... parameterType) {
         final Method[] methods = clazz.getDeclaredMethods();
         for (Method method : methods) {
             if (method.getName().equals(methodName) && method.getParameterTypes().length == parameterType.length) {
@@ -30,4 +66,72 @@ public class Reflection {
         }
         return null;
     }
+
+    /**
+     * @return how many lookups were served from the cache
+     */
+    public static long getCacheHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return how many lookups had to scan the declared methods of a class
+     */
+    public static long getCacheMissCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return the lookup counts, as {@code "reflection.cacheHits"} and {@code "reflection.cacheMisses"}
+     */
+    @NonNull
+    public static Map<String, Double> toMap() {
+        final Map<String, Double> map = new HashMap<>();
+        map.put("reflection.cacheHits", (double) hits.get());
+        map.put("reflection.cacheMisses", (double) misses.get());
+        return map;
+    }
+
+    /**
+     * Clears the lookup counts, keeping the cached methods.
+     */
+    public static void resetCacheStats() {
+        hits.set(0);
+        misses.set(0);
+    }
+
+    @VisibleForTesting
+    public static void clearCache() {
+        methods.clear();
+        resetCacheStats();
+    }
+
+    private static class MethodKey {
+        private final Class clazz;
+        private final String methodName;
+        private final Class[] parameterTypes;
+        private final int hashCode;
+
+        MethodKey(Class clazz, String methodName, Class[] parameterTypes) {
+            this.clazz = clazz;
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+            this.hashCode = 31 * (31 * clazz.hashCode() + methodName.hashCode()) + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MethodKey)) return false;
+            MethodKey other = (MethodKey) o;
+            return clazz == other.clazz
+                    && methodName.equals(other.methodName)
+                    && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -1,16 +1,170 @@
 package ai.luciq.flutter.util;
 
-import android.os.AsyncTask;
 import android.os.Handler;
 import android.os.Looper;
 
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class ThreadManager {
-    // TODO: migrate to Flutter's TaskQueue
+    /**
+     * Background lanes, kept separate so slow disk or database work can't starve CPU-bound work
+     * and neither competes with the app's own AsyncTask pool.
+     */
+    public enum Lane {
+        /**
+         * Blocking work such as SDK getters backed by disk or a database.
+         */
+        IO,
+        /**
+         * Short CPU-bound work, such as checking captured frames.
+         */
+        CPU
+    }
+
+    private static final int CPU_THREADS = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, 2));
+
+    private static final LaneExecutor ioLane = new LaneExecutor("LCQ-Flutter-IO", 4);
+    // Holds frame checks of captures, which are dropped once they queue up
+    private static final LaneExecutor cpuLane = new LaneExecutor("LCQ-Flutter-CPU", CPU_THREADS, 8);
+
+    // Created lazily, the main Looper isn't available when the class is loaded in unit tests
+    private static volatile Handler mainHandler;
+
+    private static final Queue<Runnable> coalesced = new ConcurrentLinkedQueue<>();
+    private static final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+    private static volatile boolean coalescingEnabled = false;
+
+    private static final Runnable drainRunnable = new Runnable() {
+        @Override
+        public void run() {
+            drainCoalesced();
+        }
+    };
+
     public static void runOnBackground(Runnable runnable) {
-        AsyncTask.execute(runnable);
+        runOnBackground(runnable, Lane.IO);
+    }
+
+    /**
+     * @throws java.util.concurrent.RejectedExecutionException if the lane's queue is full, see
+     *                                                          {@link LaneExecutor}
+     */
+    public static void runOnBackground(Runnable runnable, Lane lane) {
+        getExecutor(lane).execute(runnable);
     }
 
     public static void runOnMainThread(Runnable runnable) {
-        new Handler(Looper.getMainLooper()).post(runnable);
+        getMainHandler().post(runnable);
+    }
+
+    /**
+     * Runs on the main thread like {@link #runOnMainThread}, but batches with the other coalesced
+     * runnables into a single main thread message when coalescing is enabled. Meant for pigeon
+     * replies and Flutter API callbacks, which often complete in bursts: a burst costs one message
+     * instead of one each, without waiting for the next frame.
+     * <p>
+     * Coalesced runnables run in the order they were submitted, but a runnable joining a pending
+     * batch runs before the {@link #runOnMainThread} posts made since the batch started.
+     */
+    public static void runOnMainThreadCoalesced(Runnable runnable) {
+        if (!coalescingEnabled) {
+            runOnMainThread(runnable);
+            return;
+        }
+
+        coalesced.add(runnable);
+        if (drainScheduled.compareAndSet(false, true)) {
+            getMainHandler().post(drainRunnable);
+        }
+    }
+
+    /**
+     * Enables or disables batching of {@link #runOnMainThreadCoalesced} runnables, disabled by
+     * default. When disabled each runnable is posted to the main thread on its own, in order with
+     * every other post.
+     */
+    public static void setMainThreadCoalescingEnabled(boolean isEnabled) {
+        coalescingEnabled = isEnabled;
+    }
+
+    @NonNull
+    @VisibleForTesting
+    public static Handler getMainHandler() {
+        Handler handler = mainHandler;
+        if (handler == null) {
+            synchronized (ThreadManager.class) {
+                handler = mainHandler;
+                if (handler == null) {
+                    handler = new Handler(Looper.getMainLooper());
+                    mainHandler = handler;
+                }
+            }
+        }
+        return handler;
+    }
+
+    private static void drainCoalesced() {
+        // Cleared first so runnables queued while draining schedule the next drain
+        drainScheduled.set(false);
+
+        Runnable runnable;
+        while ((runnable = coalesced.poll()) != null) {
+            try {
+                runnable.run();
+            } catch (Exception e) {
+                LuciqFlutterLogger.e(LuciqFlutterDebugTags.CORE,
+                        "[ThreadManager.drainCoalesced] phase=error errorType=" + e.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    /**
+     * Flattens the stats of every lane into {@code "lane.<lane>.<stat>"} entries, e.g.
+     * {@code "lane.io.maxWaitMs"}.
+     */
+    @NonNull
+    public static Map<String, Double> getLaneMetrics() {
+        final Map<String, Double> map = new HashMap<>();
+        for (Lane lane : Lane.values()) {
+            map.putAll(getExecutor(lane).toMap("lane." + lane.name().toLowerCase(Locale.ROOT)));
+        }
+        return map;
+    }
+
+    /**
+     * @return a single line summary of every lane, for the debug logger
+     */
+    @NonNull
+    public static String summarizeLanes() {
+        final StringBuilder builder = new StringBuilder();
+        for (Lane lane : Lane.values()) {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(getExecutor(lane).summarize());
+        }
+        return builder.toString();
+    }
+
+    public static void resetLaneMetrics() {
+        for (Lane lane : Lane.values()) {
+            getExecutor(lane).reset();
+        }
+    }
+
+    /**
+     * @return the executor backing the lane, for its queue depth and wait time metrics
+     */
+    @NonNull
+    public static LaneExecutor getExecutor(Lane lane) {
+        return lane == Lane.CPU ? cpuLane : ioLane;
     }
 }
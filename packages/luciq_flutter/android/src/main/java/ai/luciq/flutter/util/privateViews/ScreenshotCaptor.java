@@ -8,6 +8,19 @@ public interface ScreenshotCaptor {
     public interface CapturingCallback {
         public  void onCapturingFailure(Throwable throwable);
 
+        /**
+         * Called with the masked screenshot, which may be shared with other requesters of the
+         * same frame, so it must never be modified. The bitmap is a copy handed over for good that
+         * never goes back to the capture {@link ai.luciq.flutter.modules.capturing.BitmapPool},
+         * so it may be kept after returning.
+         */
         public  void onCapturingSuccess(Bitmap bitmap);
     }
+
+    /**
+     * A {@link CapturingCallback} of a request that needs the screenshot at full resolution, such
+     * as a bug report attachment. These requests ignore the capture scale and memory pressure.
+     */
+    public interface FullQualityCapturingCallback extends CapturingCallback {
+    }
 }
\ No newline at end of file
@@ -223,6 +223,64 @@ public class ApmApiTest {
         mJSONObject.close();
     }
 
+    @Test
+    public void testNetworkLogBatch() {
+        String requestUrl = "https://example.com";
+        String requestMethod = "GET";
+        long requestDuration = 23000;
+        long requestStartTime = System.currentTimeMillis() / 1000;
+        int responseCode = 200;
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("url", requestUrl);
+        data.put("requestBody", "");
+        data.put("responseBody", "");
+        data.put("method", requestMethod);
+        data.put("requestContentType", "");
+        data.put("responseContentType", "");
+        data.put("requestBodySize", 0L);
+        data.put("responseBodySize", 0L);
+        data.put("errorDomain", "");
+        data.put("responseCode", responseCode);
+        data.put("startTime", requestStartTime);
+        data.put("requestHeaders", new HashMap<String, String>());
+        data.put("responseHeaders", new HashMap<String, String>());
+        data.put("duration", requestDuration);
+
+        // Missing the required fields, must be skipped without dropping the rest of the batch
+        Map<String, Object> malformed = new HashMap<>();
+        malformed.put("url", requestUrl);
+
+        MockedConstruction<APMNetworkLogger> mAPMNetworkLogger = mockConstruction(APMNetworkLogger.class);
+        MockedConstruction<JSONObject> mJSONObject = mockConstruction(JSONObject.class, (mock, context) -> when(mock.toString(anyInt())).thenReturn("{}"));
+
+        api.networkLogBatch(Arrays.asList(malformed, data));
+
+        assertEquals(1, mAPMNetworkLogger.constructed().size());
+        reflected.verify(() -> MockReflected.apmNetworkLog(
+                requestStartTime * 1000,
+                requestDuration / 1000,
+                "{}",
+                "",
+                0L,
+                requestMethod,
+                requestUrl,
+                "",
+                "{}",
+                "",
+                0L,
+                responseCode,
+                "",
+                null,
+                null,
+                "",
+                null
+        ));
+
+        mAPMNetworkLogger.close();
+        mJSONObject.close();
+    }
+
     @Test
     public void testStartUiTraceCP() {
         String screenName = "screen-name";
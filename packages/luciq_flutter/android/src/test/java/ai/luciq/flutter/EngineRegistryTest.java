@@ -0,0 +1,117 @@
+package ai.luciq.flutter;
+
+import android.app.Activity;
+
+import ai.luciq.flutter.modules.PrivateViewManager;
+import io.flutter.embedding.engine.plugins.FlutterPlugin.FlutterPluginBinding;
+import io.flutter.embedding.engine.renderer.FlutterRenderer;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EngineRegistryTest {
+    private EngineRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new EngineRegistry();
+    }
+
+    private EngineRegistry.Engine register(FlutterPluginBinding binding, boolean displaying) {
+        final FlutterRenderer renderer = mock(FlutterRenderer.class);
+        when(renderer.isDisplayingFlutterUi()).thenReturn(displaying);
+        final EngineRegistry.Engine engine = new EngineRegistry.Engine(renderer, mock(PrivateViewManager.class));
+        registry.register(binding, engine);
+        return engine;
+    }
+
+    private Activity mockActivity(boolean focused) {
+        final Activity activity = mock(Activity.class);
+        when(activity.hasWindowFocus()).thenReturn(focused);
+        return activity;
+    }
+
+    @Test
+    public void testGetCaptureTargetWithoutActivity() {
+        register(mock(FlutterPluginBinding.class), true);
+
+        assertNull(registry.getCaptureTarget());
+    }
+
+    @Test
+    public void testGetCaptureTargetPrefersDisplayingEngine() {
+        final EngineRegistry.Engine visible = register(mock(FlutterPluginBinding.class), true);
+        final EngineRegistry.Engine hidden = register(mock(FlutterPluginBinding.class), false);
+
+        registry.setActivity(visible, mockActivity(false));
+        registry.setActivity(hidden, mockActivity(false));
+
+        assertSame(visible, registry.getCaptureTarget());
+    }
+
+    @Test
+    public void testGetCaptureTargetPrefersFocusedEngine() {
+        final EngineRegistry.Engine focused = register(mock(FlutterPluginBinding.class), true);
+        final EngineRegistry.Engine unfocused = register(mock(FlutterPluginBinding.class), true);
+
+        registry.setActivity(focused, mockActivity(true));
+        registry.setActivity(unfocused, mockActivity(false));
+
+        assertSame(focused, registry.getCaptureTarget());
+    }
+
+    @Test
+    public void testGetCaptureTargetPrefersLatestActivatedOnTie() {
+        final EngineRegistry.Engine first = register(mock(FlutterPluginBinding.class), true);
+        final EngineRegistry.Engine second = register(mock(FlutterPluginBinding.class), true);
+
+        registry.setActivity(second, mockActivity(true));
+        registry.setActivity(first, mockActivity(true));
+
+        assertSame(first, registry.getCaptureTarget());
+    }
+
+    @Test
+    public void testGetCaptureTargetSkipsFinishingActivity() {
+        final EngineRegistry.Engine engine = register(mock(FlutterPluginBinding.class), true);
+        final Activity activity = mockActivity(true);
+        when(activity.isFinishing()).thenReturn(true);
+
+        registry.setActivity(engine, activity);
+
+        assertNull(registry.getCaptureTarget());
+    }
+
+    @Test
+    public void testSetActivityUpdatesPrivateViewManager() {
+        final EngineRegistry.Engine engine = register(mock(FlutterPluginBinding.class), true);
+        final Activity activity = mockActivity(true);
+
+        registry.setActivity(engine, activity);
+
+        verify(engine.getPrivateViewManager()).setActivity(activity);
+        assertSame(activity, engine.getActivity());
+    }
+
+    @Test
+    public void testUnregister() {
+        final FlutterPluginBinding binding = mock(FlutterPluginBinding.class);
+        final EngineRegistry.Engine engine = register(binding, true);
+        registry.setActivity(engine, mockActivity(true));
+
+        assertSame(engine, registry.unregister(binding));
+
+        assertEquals(0, registry.size());
+        assertNull(registry.get(binding));
+        assertNull(engine.getActivity());
+        verify(engine.getPrivateViewManager()).setActivity(null);
+        verify(engine.getPrivateViewManager()).dispose();
+        assertNull(registry.getCaptureTarget());
+    }
+}
@@ -3,7 +3,9 @@ package ai.luciq.flutter;
 import static ai.luciq.flutter.util.GlobalMocks.reflected;
 import static ai.luciq.flutter.util.MockResult.makeResult;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -34,7 +36,11 @@ import ai.luciq.flutter.generated.LuciqPigeon;
 import ai.luciq.flutter.modules.LuciqApi;
 import ai.luciq.flutter.util.ArgsRegistry;
 import ai.luciq.flutter.util.GlobalMocks;
+import ai.luciq.flutter.util.HeaderSerializer;
+import ai.luciq.flutter.util.HostCallWatchdog;
+import ai.luciq.flutter.util.LuciqFlutterLogger;
 import ai.luciq.flutter.util.MockReflected;
+import ai.luciq.flutter.util.ThreadManager;
 import ai.luciq.library.Feature;
 import ai.luciq.library.Luciq;
 import ai.luciq.library.LuciqColorTheme;
@@ -71,6 +77,8 @@ import org.mockito.MockedStatic;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -613,6 +621,72 @@ public class LuciqApiTest {
         mJSONObject.close();
     }
 
+    @Test
+    public void testNetworkLogWithHeaderFilters() {
+        HashMap<String, String> requestHeaders = new HashMap<>();
+        requestHeaders.put("Authorization", "Bearer token");
+        requestHeaders.put("Accept", "application/json");
+        Map<String, Object> data = new HashMap<>();
+        data.put("url", "https://example.com");
+        data.put("requestBody", "");
+        data.put("responseBody", "");
+        data.put("method", "GET");
+        data.put("responseCode", 200);
+        data.put("requestHeaders", requestHeaders);
+        data.put("responseHeaders", new HashMap<String, String>());
+        data.put("duration", 23000L);
+
+        MockedConstruction<NetworkLog> mNetworkLog = mockConstruction(NetworkLog.class);
+
+        api.setNetworkLogHeaderFilters(null, Collections.singletonList("authorization"));
+        api.networkLog(data);
+        HeaderSerializer.setHeaderFilters(null, null);
+
+        NetworkLog networkLog = mNetworkLog.constructed().get(0);
+        verify(networkLog).setRequestHeaders("{\"Accept\":\"application/json\"}");
+        verify(networkLog).setResponseHeaders("{}");
+
+        mNetworkLog.close();
+    }
+
+    @Test
+    public void testHostCallWatchdog() {
+        api.setHostCallWatchdogEnabled(true, 8L);
+        HostCallWatchdog.record("LuciqHostApi.setTheme", 20_000_000, true);
+
+        Map<String, Double> metrics = api.getHostCallMetrics();
+        api.setHostCallWatchdogEnabled(false, HostCallWatchdog.DEFAULT_BUDGET_MS);
+
+        assertEquals(1.0, metrics.get("LuciqHostApi.setTheme.stalls"), 0);
+
+        api.resetHostCallMetrics();
+        assertNull(api.getHostCallMetrics().get("LuciqHostApi.setTheme.stalls"));
+    }
+
+    @Test
+    public void testGetHostCallMetricsIncludesBackgroundLanes() {
+        GlobalMocks.threadManager.when(ThreadManager::getLaneMetrics)
+                .thenReturn(Collections.singletonMap("lane.io.maxWaitMs", 12.0));
+
+        Map<String, Double> metrics = api.getHostCallMetrics();
+
+        assertEquals(12.0, metrics.get("lane.io.maxWaitMs"), 0);
+    }
+
+    @Test
+    public void testResetHostCallMetricsResetsBackgroundLanes() {
+        api.resetHostCallMetrics();
+
+        GlobalMocks.threadManager.verify(ThreadManager::resetLaneMetrics);
+    }
+
+    @Test
+    public void testSetMainThreadCoalescingEnabled() {
+        api.setMainThreadCoalescingEnabled(true);
+
+        GlobalMocks.threadManager.verify(() -> ThreadManager.setMainThreadCoalescingEnabled(true));
+    }
+
     @Test
     public void testWillRedirectToStore() {
         api.willRedirectToStore();
@@ -766,6 +840,39 @@ public class LuciqApiTest {
 
     }
 
+    @Test
+    public void testLogUserStepsAtErrorLevelDoesNotBuildDebugLog() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported());
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadBean;
+        long threadId = Thread.currentThread().getId();
+        LuciqApi luciqApi = new LuciqApi(mContext, screenshotProvider, new LuciqPigeon.FeatureFlagsFlutterApi(mock(BinaryMessenger.class)));
+        // The enter log includes the gesture type, so building it would copy 100k chars per call
+        char[] chars = new char[100_000];
+        Arrays.fill(chars, 'x');
+        String gestureType = new String(chars);
+        int calls = 1_000;
+
+        int level = LuciqFlutterLogger.getLevel();
+        LuciqFlutterLogger.setLevel(LogLevel.ERROR);
+        try {
+            luciqApi.logUserSteps(gestureType, "message", "view");
+            // The first reading may allocate, so it isn't counted
+            threads.getThreadAllocatedBytes(threadId);
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < calls; i++) {
+                luciqApi.logUserSteps(gestureType, "message", "view");
+            }
+            long perCall = (threads.getThreadAllocatedBytes(threadId) - before) / calls;
+
+            // The call itself allocates for the reflective SDK call and the mocks, far below the message
+            assertTrue("allocated " + perCall + " bytes per call", perCall < 20_000);
+        } finally {
+            LuciqFlutterLogger.setLevel(level);
+        }
+    }
+
     @Test
     public void testAutoMasking() {
         String maskLabel = "AutoMasking.labels";
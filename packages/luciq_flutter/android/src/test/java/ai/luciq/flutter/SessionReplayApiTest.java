@@ -2,6 +2,8 @@ package ai.luciq.flutter;
 
 import ai.luciq.flutter.generated.SessionReplayPigeon;
 import ai.luciq.flutter.modules.SessionReplayApi;
+import ai.luciq.flutter.modules.capturing.CaptureMetrics;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
 import ai.luciq.flutter.util.GlobalMocks;
 import ai.luciq.library.OnSessionReplayLinkReady;
 import ai.luciq.library.sessionreplay.CapturingMode;
@@ -13,6 +15,9 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.MockedStatic;
 
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -22,7 +27,9 @@ import static org.mockito.Mockito.verify;
 
 
 public class SessionReplayApiTest {
-    private final SessionReplayApi api = new SessionReplayApi();
+    private final CaptureSettings captureSettings = new CaptureSettings();
+    private final CaptureMetrics captureMetrics = new CaptureMetrics();
+    private final SessionReplayApi api = new SessionReplayApi(captureSettings, captureMetrics);
     private MockedStatic<SessionReplay> mSessionReplay;
     private MockedStatic<SessionReplayPigeon.SessionReplayHostApi> mHostApi;
 
@@ -44,7 +51,7 @@ public class SessionReplayApiTest {
     public void testInit() {
         BinaryMessenger messenger = mock(BinaryMessenger.class);
 
-        SessionReplayApi.init(messenger);
+        SessionReplayApi.init(messenger, captureSettings, captureMetrics);
 
         mHostApi.verify(() -> SessionReplayPigeon.SessionReplayHostApi.setup(eq(messenger), any(SessionReplayApi.class)));
     }
@@ -135,6 +142,16 @@ public class SessionReplayApiTest {
         mSessionReplay.verify(() -> SessionReplay.setScreenshotCaptureInterval(1000));
     }
 
+    @Test
+    public void testSetScreenshotCaptureIntervalUnderMemoryPressure() {
+        captureSettings.setMemoryPressure(CaptureSettings.MemoryPressure.MODERATE);
+
+        api.setScreenshotCaptureInterval(1000L);
+
+        assertEquals(2000, captureSettings.getCaptureIntervalMs());
+        mSessionReplay.verify(() -> SessionReplay.setScreenshotCaptureInterval(2000));
+    }
+
     @Test
     public void testSetScreenshotCaptureIntervalBelowMinimum() {
         api.setScreenshotCaptureInterval(499L);
@@ -163,5 +180,53 @@ public class SessionReplayApiTest {
         mSessionReplay.verify(() -> SessionReplay.setScreenshotQuality(ScreenshotQuality.GREYSCALE));
     }
 
-}
+    @Test
+    public void testSetScreenshotCaptureScale() {
+        api.setScreenshotCaptureScale(0.5);
+
+        assertEquals(0.5f, captureSettings.getRequestedScale(), 0f);
+    }
+
+    @Test
+    public void testSetScreenshotCaptureScaleOutOfRange() {
+        api.setScreenshotCaptureScale(0.0);
+        api.setScreenshotCaptureScale(1.5);
+
+        assertEquals(CaptureSettings.FULL_SCALE, captureSettings.getRequestedScale(), 0f);
+    }
 
+    @Test
+    public void testGetScreenshotCaptureMetrics() {
+        captureMetrics.record(CaptureMetrics.Stage.MASK, 3_000_000L);
+
+        Map<String, Double> metrics = api.getScreenshotCaptureMetrics();
+
+        assertEquals(1.0, metrics.get("mask.count"), 0);
+        assertEquals(3.0, metrics.get("mask.maxMs"), 0);
+        assertEquals(0.0, metrics.get("total.count"), 0);
+    }
+
+    @Test
+    public void testGetScreenshotCaptureMetricsIncludesGeometryCacheHitRate() {
+        captureMetrics.increment(CaptureMetrics.Counter.GEOMETRY_CACHE_HIT);
+        captureMetrics.increment(CaptureMetrics.Counter.GEOMETRY_CACHE_HIT);
+        captureMetrics.increment(CaptureMetrics.Counter.GEOMETRY_CACHE_HIT);
+        captureMetrics.increment(CaptureMetrics.Counter.GEOMETRY_CACHE_MISS);
+
+        Map<String, Double> metrics = api.getScreenshotCaptureMetrics();
+
+        assertEquals(3.0, metrics.get("geometryCache.hits"), 0);
+        assertEquals(1.0, metrics.get("geometryCache.misses"), 0);
+        assertEquals(0.75, metrics.get("geometryCache.hitRate"), 0);
+    }
+
+    @Test
+    public void testResetScreenshotCaptureMetrics() {
+        captureMetrics.record(CaptureMetrics.Stage.MASK, 3_000_000L);
+
+        api.resetScreenshotCaptureMetrics();
+
+        assertEquals(0, captureMetrics.get(CaptureMetrics.Stage.MASK).getCount());
+    }
+
+}
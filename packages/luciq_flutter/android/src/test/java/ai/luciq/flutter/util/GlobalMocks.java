@@ -46,6 +46,9 @@ public class GlobalMocks {
         threadManager
                 .when(() -> ThreadManager.runOnMainThread(any(Runnable.class)))
                 .thenAnswer(threadAnswer);
+        threadManager
+                .when(() -> ThreadManager.runOnMainThreadCoalesced(any(Runnable.class)))
+                .thenAnswer(threadAnswer);
 
         // Reflection mock
         reflection = mockStatic(Reflection.class);
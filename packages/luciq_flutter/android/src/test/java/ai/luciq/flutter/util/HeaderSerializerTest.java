@@ -0,0 +1,65 @@
+package ai.luciq.flutter.util;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class HeaderSerializerTest {
+    @After
+    public void tearDown() {
+        HeaderSerializer.setHeaderFilters(null, null);
+    }
+
+    @Test
+    public void testSerializeEmpty() {
+        assertEquals("{}", HeaderSerializer.serialize(null));
+        assertEquals("{}", HeaderSerializer.serialize(Collections.emptyMap()));
+    }
+
+    @Test
+    public void testSerializeCompact() {
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", "application/json");
+        headers.put("Content-Length", 42);
+        headers.put("X-Empty", null);
+
+        assertEquals("{\"Content-Type\":\"application/json\",\"Content-Length\":42}", HeaderSerializer.serialize(headers));
+    }
+
+    @Test
+    public void testSerializeEscapes() {
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put("X-Quote", "say \"hi\"\\\n\u0001");
+
+        assertEquals("{\"X-Quote\":\"say \\\"hi\\\"\\\\\\n\\u0001\"}", HeaderSerializer.serialize(headers));
+    }
+
+    @Test
+    public void testDenyList() {
+        HeaderSerializer.setHeaderFilters(null, Arrays.asList("Authorization", "cookie"));
+
+        Map<String, Object> headers = new LinkedHashMap<>();
+        headers.put("authorization", "Bearer token");
+        headers.put("Cookie", "session=1");
+        headers.put("Accept", "*/*");
+
+        assertEquals("{\"Accept\":\"*/*\"}", HeaderSerializer.serialize(headers));
+    }
+
+    @Test
+    public void testAllowListWithDenyList() {
+        HeaderSerializer.setHeaderFilters(Arrays.asList("accept", "authorization"), Collections.singletonList("Authorization"));
+
+        assertTrue(HeaderSerializer.isAllowed("Accept"));
+        assertFalse(HeaderSerializer.isAllowed("Authorization"));
+        assertFalse(HeaderSerializer.isAllowed("Content-Type"));
+    }
+}
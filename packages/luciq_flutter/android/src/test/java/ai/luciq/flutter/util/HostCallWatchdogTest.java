@@ -0,0 +1,106 @@
+package ai.luciq.flutter.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import android.os.Build;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import io.flutter.plugin.common.BinaryMessenger;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {Build.VERSION_CODES.P}, manifest = Config.NONE)
+public class HostCallWatchdogTest {
+    private static final String CHANNEL = "dev.flutter.pigeon.luciq_flutter.LuciqHostApi.setTheme";
+
+    @After
+    public void tearDown() {
+        HostCallWatchdog.setEnabled(false, HostCallWatchdog.DEFAULT_BUDGET_MS);
+        HostCallWatchdog.reset();
+    }
+
+    @Test
+    public void testMethodName() {
+        assertEquals("LuciqHostApi.setTheme", HostCallWatchdog.methodName(CHANNEL));
+        assertEquals("init", HostCallWatchdog.methodName("init"));
+    }
+
+    @Test
+    public void testStallsCountedOnMainThreadOnly() {
+        HostCallWatchdog.setEnabled(true, 16);
+
+        HostCallWatchdog.record("LuciqHostApi.setTheme", 40_000_000, true);
+        HostCallWatchdog.record("LuciqHostApi.setTheme", 1_000_000, true);
+        HostCallWatchdog.record("LuciqHostApi.setTheme", 40_000_000, false);
+
+        Map<String, Double> metrics = HostCallWatchdog.toMap();
+        assertEquals(3.0, metrics.get("LuciqHostApi.setTheme.count"), 0);
+        assertEquals(1.0, metrics.get("LuciqHostApi.setTheme.stalls"), 0);
+        assertEquals(40.0, metrics.get("LuciqHostApi.setTheme.maxMs"), 0);
+    }
+
+    @Test
+    public void testWrappedHandlerIsTimedWhenEnabled() {
+        BinaryMessenger messenger = mock(BinaryMessenger.class);
+        BinaryMessenger.BinaryMessageHandler handler = mock(BinaryMessenger.BinaryMessageHandler.class);
+        BinaryMessenger.BinaryReply reply = mock(BinaryMessenger.BinaryReply.class);
+        ArgumentCaptor<BinaryMessenger.BinaryMessageHandler> registered = ArgumentCaptor.forClass(BinaryMessenger.BinaryMessageHandler.class);
+
+        HostCallWatchdog.wrap(messenger).setMessageHandler(CHANNEL, handler);
+        verify(messenger).setMessageHandler(eq(CHANNEL), registered.capture());
+
+        registered.getValue().onMessage(null, reply);
+        assertNull(HostCallWatchdog.toMap().get("LuciqHostApi.setTheme.count"));
+
+        HostCallWatchdog.setEnabled(true, 16);
+        registered.getValue().onMessage(null, reply);
+
+        verify(handler, times(2)).onMessage(null, reply);
+        assertEquals(1.0, HostCallWatchdog.toMap().get("LuciqHostApi.setTheme.count"), 0);
+    }
+
+    @Test
+    public void testWrappedMessageHandlerIsTimed() {
+        BinaryMessenger.BinaryMessageHandler handler = mock(BinaryMessenger.BinaryMessageHandler.class);
+        BinaryMessenger.BinaryReply reply = mock(BinaryMessenger.BinaryReply.class);
+        HostCallWatchdog.setEnabled(true, 16);
+
+        HostCallWatchdog.wrap(CHANNEL, handler).onMessage(null, reply);
+
+        verify(handler).onMessage(null, reply);
+        assertEquals(1.0, HostCallWatchdog.toMap().get("LuciqHostApi.setTheme.count"), 0);
+    }
+
+    @Test
+    public void testWrappedMessengerForwardsOtherCalls() {
+        BinaryMessenger messenger = mock(BinaryMessenger.class);
+        ByteBuffer message = ByteBuffer.allocate(0);
+
+        HostCallWatchdog.wrap(messenger).send(CHANNEL, message);
+
+        verify(messenger).send(CHANNEL, message);
+    }
+
+    @Test
+    public void testUnregisteringPassesNullThrough() {
+        BinaryMessenger messenger = mock(BinaryMessenger.class);
+
+        HostCallWatchdog.wrap(messenger).setMessageHandler(CHANNEL, null, null);
+
+        verify(messenger).setMessageHandler(eq(CHANNEL), (BinaryMessenger.BinaryMessageHandler) isNull(), isNull());
+    }
+}
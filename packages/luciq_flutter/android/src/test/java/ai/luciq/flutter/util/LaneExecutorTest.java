@@ -0,0 +1,211 @@
+package ai.luciq.flutter.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import android.os.Build;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {Build.VERSION_CODES.P}, manifest = Config.NONE)
+public class LaneExecutorTest {
+
+    @Test
+    public void testExecuteOnNamedThread() throws InterruptedException {
+        LaneExecutor lane = new LaneExecutor("LCQ-Test", 1);
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+
+        lane.execute(() -> {
+            threadName.set(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals("LCQ-Test-1", threadName.get());
+        assertEquals(1, lane.getExecutedCount());
+    }
+
+    @Test
+    public void testSaturatedLaneNeverRunsOnCaller() throws InterruptedException {
+        LaneExecutor lane = new LaneExecutor("LCQ-Test", 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        List<Thread> ranOn = Collections.synchronizedList(new ArrayList<>());
+
+        // Occupies the only thread, so the following tasks have to wait
+        lane.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        for (int i = 0; i < 3; i++) {
+            lane.execute(() -> {
+                ranOn.add(Thread.currentThread());
+                done.countDown();
+            });
+        }
+        assertEquals(3, lane.getQueueDepth());
+        assertTrue(ranOn.isEmpty());
+
+        release.countDown();
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertFalse(ranOn.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testWaitMetrics() throws InterruptedException {
+        LaneExecutor lane = new LaneExecutor("LCQ-Test", 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+
+        lane.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+            done.countDown();
+        });
+        lane.execute(done::countDown);
+        Thread.sleep(20);
+        release.countDown();
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(2, lane.getExecutedCount());
+        assertTrue(lane.getMaxWaitMs() >= 20);
+        assertTrue(lane.getMeanWaitMs() <= lane.getMaxWaitMs());
+    }
+
+    @Test
+    public void testFullLaneDropsOldestDroppableTask() throws InterruptedException {
+        LaneExecutor lane = new LaneExecutor("LCQ-Test", 1, 2);
+        CountDownLatch release = blockLane(lane);
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        List<String> droppedTasks = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(2);
+
+        lane.execute(droppable("first", ran, droppedTasks, done));
+        lane.execute(() -> {
+            ran.add("critical");
+            done.countDown();
+        });
+        lane.execute(droppable("second", ran, droppedTasks, done));
+
+        assertEquals(Collections.singletonList("first"), droppedTasks);
+        assertEquals(2, lane.getQueueDepth());
+        release.countDown();
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList("critical", "second"), ran);
+        assertEquals(1, lane.getDroppedCount());
+    }
+
+    @Test
+    public void testFullLaneDropsNewDroppableTaskWhenNoneIsQueued() throws InterruptedException {
+        LaneExecutor lane = new LaneExecutor("LCQ-Test", 1, 1);
+        CountDownLatch release = blockLane(lane);
+        List<String> ran = Collections.synchronizedList(new ArrayList<>());
+        List<String> droppedTasks = Collections.synchronizedList(new ArrayList<>());
+        lane.execute(() -> ran.add("critical"));
+
+        lane.execute(droppable("droppable", ran, droppedTasks, new CountDownLatch(1)));
+
+        assertEquals(Collections.singletonList("droppable"), droppedTasks);
+        assertEquals(1, lane.getDroppedCount());
+        release.countDown();
+    }
+
+    @Test
+    public void testFullLaneRejectsTaskThatCantBeDropped() throws InterruptedException {
+        LaneExecutor lane = new LaneExecutor("LCQ-Test", 1, 1);
+        CountDownLatch release = blockLane(lane);
+        lane.execute(() -> {
+        });
+
+        try {
+            lane.execute(() -> {
+            });
+            fail("Expected the task to be rejected");
+        } catch (RejectedExecutionException expected) {
+            assertEquals(1, lane.getRejectedCount());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void testToMapAndReset() throws InterruptedException {
+        LaneExecutor lane = new LaneExecutor("LCQ-Test", 1);
+        CountDownLatch done = new CountDownLatch(1);
+        lane.execute(done::countDown);
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+
+        assertEquals(1.0, lane.toMap("lane.test").get("lane.test.executed"), 0);
+        assertEquals(0.0, lane.toMap("lane.test").get("lane.test.dropped"), 0);
+
+        lane.reset();
+        assertEquals(0.0, lane.toMap("lane.test").get("lane.test.executed"), 0);
+    }
+
+    @Test
+    public void testThreadManagerLaneMetrics() {
+        assertTrue(ThreadManager.getLaneMetrics().containsKey("lane.io.queueDepth"));
+        assertTrue(ThreadManager.getLaneMetrics().containsKey("lane.cpu.dropped"));
+    }
+
+    @Test
+    public void testThreadManagerLanesAreSeparate() {
+        assertEquals("LCQ-Flutter-IO", ThreadManager.getExecutor(ThreadManager.Lane.IO).getName());
+        assertEquals("LCQ-Flutter-CPU", ThreadManager.getExecutor(ThreadManager.Lane.CPU).getName());
+    }
+
+    /**
+     * Occupies the only thread of the lane until the returned latch is released.
+     */
+    private static CountDownLatch blockLane(LaneExecutor lane) throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        lane.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+            }
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        return release;
+    }
+
+    private static LaneExecutor.Droppable droppable(String name, List<String> ran, List<String> droppedTasks, CountDownLatch done) {
+        return new LaneExecutor.Droppable() {
+            @Override
+            public void run() {
+                ran.add(name);
+                done.countDown();
+            }
+
+            @Override
+            public void onDropped() {
+                droppedTasks.add(name);
+            }
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package ai.luciq.flutter.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+    private LatencyHistogram histogram;
+
+    @Before
+    public void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMeanMs(), 0);
+        assertEquals(0, histogram.getPercentileMs(0.95), 0);
+    }
+
+    @Test
+    public void testRecordsCountMeanAndMax() {
+        histogram.recordMicros(1000);
+        histogram.recordMicros(3000);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(2.0, histogram.getMeanMs(), 0.0001);
+        assertEquals(3.0, histogram.getMaxMs(), 0.0001);
+    }
+
+    @Test
+    public void testPercentilesAreBucketUpperBounds() {
+        for (int i = 0; i < 99; i++) {
+            histogram.recordMicros(600);
+        }
+        histogram.recordMicros(40_000);
+
+        // 600us falls in the [512, 1024) bucket
+        assertEquals(1.024, histogram.getPercentileMs(0.5), 0.0001);
+        assertEquals(1.024, histogram.getPercentileMs(0.95), 0.0001);
+        assertEquals(40.0, histogram.getPercentileMs(1.0), 0.0001);
+    }
+
+    @Test
+    public void testReset() {
+        histogram.recordMicros(1000);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxMs(), 0);
+    }
+}
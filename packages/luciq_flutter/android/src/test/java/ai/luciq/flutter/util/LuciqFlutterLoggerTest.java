@@ -89,6 +89,17 @@ public class LuciqFlutterLoggerTest {
         mockLog.verify(() -> Log.e(TAG, "with-throwable-2", ex), never());
     }
 
+    @Test
+    public void isDebugEnabled_followsLevel() {
+        org.junit.Assert.assertFalse(LuciqFlutterLogger.isDebugEnabled());
+        LuciqFlutterLogger.setLevel(LogLevel.DEBUG);
+        org.junit.Assert.assertTrue(LuciqFlutterLogger.isDebugEnabled());
+        LuciqFlutterLogger.setLevel(LogLevel.VERBOSE);
+        org.junit.Assert.assertTrue(LuciqFlutterLogger.isDebugEnabled());
+        LuciqFlutterLogger.setLevel(LogLevel.NONE);
+        org.junit.Assert.assertFalse(LuciqFlutterLogger.isDebugEnabled());
+    }
+
     @Test public void redactUrl_null_returnsEmpty() {
         org.junit.Assert.assertEquals("", LuciqFlutterLogger.redactUrl(null));
     }
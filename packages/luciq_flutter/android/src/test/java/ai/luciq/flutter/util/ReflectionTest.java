@@ -0,0 +1,78 @@
+package ai.luciq.flutter.util;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ReflectionTest {
+    @SuppressWarnings("unused")
+    private static class Target {
+        private static String greet(String name, int times) {
+            return name + times;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        Reflection.clearCache();
+    }
+
+    @Test
+    public void testGetMethod() throws Exception {
+        Method method = Reflection.getMethod(Target.class, "greet", String.class, int.class);
+
+        assertNotNull(method);
+        assertEquals("luciq2", method.invoke(null, "luciq", 2));
+    }
+
+    @Test
+    public void testGetMethodIsCached() {
+        Method first = Reflection.getMethod(Target.class, "greet", String.class, int.class);
+        Method second = Reflection.getMethod(Target.class, "greet", String.class, int.class);
+
+        assertSame(first, second);
+        assertEquals(1, Reflection.getCacheMissCount());
+        assertEquals(1, Reflection.getCacheHitCount());
+    }
+
+    @Test
+    public void testGetMethodCachesMissingMethod() {
+        assertNull(Reflection.getMethod(Target.class, "greet", String.class, long.class));
+        assertNull(Reflection.getMethod(Target.class, "greet", String.class, long.class));
+
+        assertEquals(1, Reflection.getCacheMissCount());
+        assertEquals(1, Reflection.getCacheHitCount());
+    }
+
+    @Test
+    public void testGetMethodKeysOnParameterTypes() {
+        Reflection.getMethod(Target.class, "greet", String.class, int.class);
+        Reflection.getMethod(Target.class, "greet", String.class, long.class);
+
+        assertEquals(2, Reflection.getCacheMissCount());
+        assertEquals(0, Reflection.getCacheHitCount());
+    }
+
+    @Test
+    public void testToMapAndResetCacheStats() {
+        Method first = Reflection.getMethod(Target.class, "greet", String.class, int.class);
+        Reflection.getMethod(Target.class, "greet", String.class, int.class);
+
+        Map<String, Double> stats = Reflection.toMap();
+        assertEquals(1.0, stats.get("reflection.cacheHits"), 0);
+        assertEquals(1.0, stats.get("reflection.cacheMisses"), 0);
+
+        Reflection.resetCacheStats();
+        assertEquals(0, Reflection.getCacheHitCount());
+        // The cached methods are kept
+        assertSame(first, Reflection.getMethod(Target.class, "greet", String.class, int.class));
+        assertEquals(0, Reflection.getCacheMissCount());
+    }
+}
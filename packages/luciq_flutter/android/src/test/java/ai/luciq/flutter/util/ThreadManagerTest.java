@@ -0,0 +1,108 @@
+package ai.luciq.flutter.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.os.Build;
+import android.os.Looper;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {Build.VERSION_CODES.P}, manifest = Config.NONE)
+public class ThreadManagerTest {
+
+    @Before
+    public void setUp() {
+        ThreadManager.setMainThreadCoalescingEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        ThreadManager.setMainThreadCoalescingEnabled(false);
+        shadowOf(Looper.getMainLooper()).idle();
+    }
+
+    @Test
+    public void testMainHandlerIsShared() {
+        assertSame(ThreadManager.getMainHandler(), ThreadManager.getMainHandler());
+        assertSame(Looper.getMainLooper(), ThreadManager.getMainHandler().getLooper());
+    }
+
+    @Test
+    public void testCoalescedRunnablesRunTogetherInOrder() {
+        final List<Integer> ran = new ArrayList<>();
+
+        for (int i = 0; i < 3; i++) {
+            final int index = i;
+            ThreadManager.runOnMainThreadCoalesced(() -> ran.add(index));
+        }
+        assertTrue(ran.isEmpty());
+
+        // A single main thread message runs the whole burst
+        shadowOf(Looper.getMainLooper()).runOneTask();
+
+        assertEquals(Arrays.asList(0, 1, 2), ran);
+    }
+
+    @Test
+    public void testCoalescedRunnableFailureDoesNotDropOthers() {
+        final List<String> ran = new ArrayList<>();
+
+        ThreadManager.runOnMainThreadCoalesced(() -> {
+            throw new IllegalStateException();
+        });
+        ThreadManager.runOnMainThreadCoalesced(() -> ran.add("after"));
+
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(Arrays.asList("after"), ran);
+    }
+
+    @Test
+    public void testCoalescedRunnableJoiningABatchRunsBeforeLaterDirectPosts() {
+        final List<String> ran = new ArrayList<>();
+
+        ThreadManager.runOnMainThreadCoalesced(() -> ran.add("coalesced 1"));
+        ThreadManager.runOnMainThread(() -> ran.add("direct"));
+        ThreadManager.runOnMainThreadCoalesced(() -> ran.add("coalesced 2"));
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(Arrays.asList("coalesced 1", "coalesced 2", "direct"), ran);
+    }
+
+    @Test
+    public void testCoalescingDisabledKeepsPostOrder() {
+        final List<String> ran = new ArrayList<>();
+        ThreadManager.setMainThreadCoalescingEnabled(false);
+
+        ThreadManager.runOnMainThreadCoalesced(() -> ran.add("coalesced 1"));
+        ThreadManager.runOnMainThread(() -> ran.add("direct"));
+        ThreadManager.runOnMainThreadCoalesced(() -> ran.add("coalesced 2"));
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(Arrays.asList("coalesced 1", "direct", "coalesced 2"), ran);
+    }
+
+    @Test
+    public void testCoalescingDisabledPostsDirectly() {
+        final List<String> ran = new ArrayList<>();
+        ThreadManager.setMainThreadCoalescingEnabled(false);
+
+        ThreadManager.runOnMainThreadCoalesced(() -> ran.add("posted"));
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertEquals(Arrays.asList("posted"), ran);
+    }
+}
@@ -0,0 +1,117 @@
+package ai.luciq.flutter.util.private_views;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import android.graphics.Bitmap;
+
+import ai.luciq.flutter.modules.capturing.BandMasker;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+import org.robolectric.annotation.GraphicsMode;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {28}, manifest = Config.NONE)
+@GraphicsMode(GraphicsMode.Mode.NATIVE)
+public class BandMaskerTest {
+    private static final float[] RECTS = {
+            10, 10, 200, 300,     // within the first band
+            50, 200, 600, 900,    // crosses several bands
+            0, 1000, 1000, 1024,  // the bottom rows
+    };
+
+    @Test
+    public void testSmallBitmapIsMaskedSerially() {
+        BandMasker masker = new BandMasker(4, 1024 * 1024);
+        Bitmap bitmap = createBitmap(512, 512);
+
+        masker.mask(bitmap, RECTS);
+
+        assertEquals(1, masker.getSerialMaskCount());
+        assertEquals(0, masker.getParallelMaskCount());
+        assertEquals(0xFF000000, bitmap.getPixel(20, 20));
+        assertEquals(0xFFFFFFFF, bitmap.getPixel(300, 20));
+    }
+
+    @Test
+    public void testLargeBitmapIsMaskedInBands() {
+        BandMasker masker = new BandMasker(4, 1024 * 1024);
+        Bitmap bitmap = createBitmap(1024, 1024);
+
+        assertEquals(4, masker.getBandCount(bitmap));
+        masker.mask(bitmap, RECTS);
+
+        assertEquals(1, masker.getParallelMaskCount());
+    }
+
+    @Test
+    public void testParallelMaskMatchesSerialMask() {
+        BandMasker masker = new BandMasker(4, 1024 * 1024);
+        Bitmap serial = createBitmap(1024, 1024);
+        Bitmap parallel = createBitmap(1024, 1024);
+
+        masker.maskSerial(serial, RECTS);
+        masker.maskParallel(parallel, RECTS, 4);
+
+        assertArrayEquals(getPixels(serial), getPixels(parallel));
+    }
+
+    @Test
+    public void testDisposedMaskerMasksSerially() {
+        BandMasker masker = new BandMasker(4, 1024 * 1024);
+        Bitmap bitmap = createBitmap(1024, 1024);
+
+        masker.dispose();
+        masker.mask(bitmap, RECTS);
+
+        assertEquals(1, masker.getBandCount(bitmap));
+        assertEquals(1, masker.getSerialMaskCount());
+        assertEquals(0xFF000000, bitmap.getPixel(20, 20));
+    }
+
+    @Test
+    public void testBandCountIsLimitedByMinimumBandHeight() {
+        BandMasker masker = new BandMasker(4, 1);
+
+        assertEquals(2, masker.getBandCount(createBitmap(64, BandMasker.MIN_BAND_HEIGHT * 2)));
+        assertEquals(1, new BandMasker(1, 1).getBandCount(createBitmap(64, 2048)));
+    }
+
+    @Test
+    public void testBandsDoNotDrawOutsideTheirRows() {
+        BandMasker masker = new BandMasker(4, 1024 * 1024);
+        // Fractional edges right on the band boundaries at 256, 512 and 768
+        float[] rects = {
+                100.5f, 255.5f, 300.5f, 256.5f,
+                0, 511.25f, 1024, 512.75f,
+                400, 767.9f, 401, 768.1f,
+                0, 0, 1024, 0.5f,
+        };
+        Bitmap serial = createBitmap(1024, 1024);
+        masker.maskSerial(serial, rects);
+        int[] expected = getPixels(serial);
+
+        // Repeat so the bands get a chance to race on their shared edges
+        for (int i = 0; i < 20; i++) {
+            Bitmap parallel = createBitmap(1024, 1024);
+            masker.maskParallel(parallel, rects, 4);
+
+            assertArrayEquals(expected, getPixels(parallel));
+        }
+    }
+
+    private static Bitmap createBitmap(int width, int height) {
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        bitmap.eraseColor(0xFFFFFFFF);
+        return bitmap;
+    }
+
+    private static int[] getPixels(Bitmap bitmap) {
+        int[] pixels = new int[bitmap.getWidth() * bitmap.getHeight()];
+        bitmap.getPixels(pixels, 0, bitmap.getWidth(), 0, 0, bitmap.getWidth(), bitmap.getHeight());
+        return pixels;
+    }
+}
@@ -0,0 +1,114 @@
+package ai.luciq.flutter.util.private_views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mockStatic;
+
+import android.app.Activity;
+import android.graphics.Bitmap;
+
+import ai.luciq.flutter.modules.capturing.BitmapPool;
+import ai.luciq.library.util.memory.MemoryUtils;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.MockedStatic;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {28}, manifest = Config.NONE)
+public class BitmapPoolTest {
+    private static final long FRAME_SIZE = 100 * 100 * 4;
+
+    private BitmapPool bitmapPool;
+
+    @Before
+    public void setUp() {
+        bitmapPool = new BitmapPool(FRAME_SIZE * 2);
+    }
+
+    @Test
+    public void testAcquireReusesReleasedBitmap() {
+        Bitmap bitmap = bitmapPool.acquire(100, 100, Bitmap.Config.ARGB_8888);
+        bitmapPool.release(bitmap);
+
+        assertSame(bitmap, bitmapPool.acquire(100, 100, Bitmap.Config.ARGB_8888));
+        assertEquals(0, bitmapPool.getCount());
+        assertEquals(0, bitmapPool.getSizeBytes());
+    }
+
+    @Test
+    public void testAcquireDoesNotReuseBitmapOfDifferentSizeOrConfig() {
+        Bitmap bitmap = bitmapPool.acquire(100, 100, Bitmap.Config.ARGB_8888);
+        bitmapPool.release(bitmap);
+
+        assertNotSame(bitmap, bitmapPool.acquire(100, 50, Bitmap.Config.ARGB_8888));
+        assertNotSame(bitmap, bitmapPool.acquire(100, 100, Bitmap.Config.RGB_565));
+        assertEquals(1, bitmapPool.getCount());
+    }
+
+    @Test
+    public void testReleaseEvictsOldestBitmapWhenOverMaxSize() {
+        Bitmap first = Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888);
+        Bitmap second = Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888);
+        Bitmap third = Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888);
+
+        bitmapPool.release(first);
+        bitmapPool.release(second);
+        bitmapPool.release(third);
+
+        assertEquals(2, bitmapPool.getCount());
+        assertEquals(FRAME_SIZE * 2, bitmapPool.getSizeBytes());
+        assertSame(third, bitmapPool.acquire(100, 100, Bitmap.Config.ARGB_8888));
+        assertSame(second, bitmapPool.acquire(100, 100, Bitmap.Config.ARGB_8888));
+    }
+
+    @Test
+    public void testReleaseIgnoresRecycledAndDuplicateBitmaps() {
+        Bitmap recycled = Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888);
+        recycled.recycle();
+        Bitmap bitmap = Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888);
+
+        bitmapPool.release(recycled);
+        bitmapPool.release(bitmap);
+        bitmapPool.release(bitmap);
+        bitmapPool.release(null);
+
+        assertEquals(1, bitmapPool.getCount());
+    }
+
+    @Test
+    public void testClearDropsAllBitmaps() {
+        bitmapPool.release(Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888));
+
+        bitmapPool.clear();
+
+        assertEquals(0, bitmapPool.getCount());
+        assertEquals(0, bitmapPool.getSizeBytes());
+    }
+
+    @Test
+    public void testAcquireFallsBackToRgb565WhenLowOnMemory() {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+        try (MockedStatic<MemoryUtils> mockedStatic = mockStatic(MemoryUtils.class)) {
+            mockedStatic.when(() -> MemoryUtils.getFreeMemory(any())).thenReturn(0L);
+
+            Bitmap bitmap = bitmapPool.acquire(activity, 100, 100);
+
+            assertEquals(Bitmap.Config.RGB_565, bitmap.getConfig());
+        }
+    }
+
+    @Test
+    public void testAcquireGivenInvalidSize() {
+        Activity activity = Robolectric.buildActivity(Activity.class).setup().get();
+
+        assertNull(bitmapPool.acquire(activity, 0, 100));
+    }
+}
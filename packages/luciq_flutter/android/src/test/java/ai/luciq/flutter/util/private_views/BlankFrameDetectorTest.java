@@ -0,0 +1,61 @@
+package ai.luciq.flutter.util.private_views;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import android.graphics.Bitmap;
+
+import ai.luciq.flutter.modules.capturing.BlankFrameDetector;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {28}, manifest = Config.NONE)
+public class BlankFrameDetectorTest {
+    private BlankFrameDetector blankFrameDetector;
+    private Bitmap frame;
+
+    @Before
+    public void setUp() {
+        blankFrameDetector = new BlankFrameDetector();
+        frame = Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888);
+    }
+
+    @Test
+    public void testBlackFrameIsBlank() {
+        frame.eraseColor(0xFF000000);
+
+        assertTrue(blankFrameDetector.isBlank(frame));
+    }
+
+    @Test
+    public void testFrameWithContentIsNotBlank() {
+        frame.eraseColor(0xFFFFFFFF);
+
+        assertFalse(blankFrameDetector.isBlank(frame));
+    }
+
+    @Test
+    public void testMissingOrEmptyFrameIsBlank() {
+        Bitmap recycled = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888);
+        recycled.recycle();
+
+        assertTrue(blankFrameDetector.isBlank(null));
+        assertTrue(blankFrameDetector.isBlank(recycled));
+    }
+
+    @Test
+    public void testHigherSamplingDensityCatchesSmallContent() {
+        frame.eraseColor(0xFF000000);
+        for (int y = 0; y < 100; y++) {
+            frame.setPixel(5, y, 0xFFFFFFFF);
+        }
+
+        assertTrue(new BlankFrameDetector(10, 10).isBlank(frame));
+        assertFalse(new BlankFrameDetector(10, 20).isBlank(frame));
+    }
+}
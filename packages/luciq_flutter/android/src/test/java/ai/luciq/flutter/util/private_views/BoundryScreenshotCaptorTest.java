@@ -1,5 +1,6 @@
 package ai.luciq.flutter.util.private_views;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -16,11 +17,13 @@ import android.os.Looper;
 import ai.luciq.flutter.model.ScreenshotResult;
 import ai.luciq.flutter.modules.capturing.BoundryCaptureManager;
 import ai.luciq.flutter.modules.capturing.CaptureManager;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
 import ai.luciq.flutter.modules.capturing.ScreenshotResultCallback;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
 import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
@@ -48,7 +51,7 @@ public class BoundryScreenshotCaptorTest {
     public void testCaptureGivenEmptyActivity() {
         ScreenshotResultCallback mockCallback = mock(ScreenshotResultCallback.class);
 
-        captureManager.capture(null, mockCallback);
+        captureManager.capture(null, CaptureSettings.Quality.FULL, mockCallback);
         shadowOf(Looper.getMainLooper()).idle();
 
         verify(mockCallback).onError();
@@ -59,7 +62,7 @@ public class BoundryScreenshotCaptorTest {
     @Test
     public void testCapture() {
         ScreenshotResultCallback mockCallback = mock(ScreenshotResultCallback.class);
-        captureManager.capture(activityMock, mockCallback);
+        captureManager.capture(activityMock, CaptureSettings.Quality.FULL, mockCallback);
         shadowOf(Looper.getMainLooper()).idle();
 
         verify(mockCallback, never()).onError();
@@ -73,5 +76,16 @@ public class BoundryScreenshotCaptorTest {
         }));
     }
 
+    @Test
+    public void testCaptureConvertsToRgb565WhenPreferred() {
+        ScreenshotResultCallback mockCallback = mock(ScreenshotResultCallback.class);
+        captureManager.capture(activityMock, new CaptureSettings.Quality(0.5f, true), mockCallback);
+        shadowOf(Looper.getMainLooper()).idle();
 
+        ArgumentCaptor<ScreenshotResult> resultCaptor = ArgumentCaptor.forClass(ScreenshotResult.class);
+        verify(mockCallback).onScreenshotResult(resultCaptor.capture());
+        assertEquals(Bitmap.Config.RGB_565, resultCaptor.getValue().getScreenshot().getConfig());
+        assertEquals(100, resultCaptor.getValue().getScreenshot().getWidth());
+        assertEquals(0.5f, resultCaptor.getValue().getScale(), 0f);
+    }
 }
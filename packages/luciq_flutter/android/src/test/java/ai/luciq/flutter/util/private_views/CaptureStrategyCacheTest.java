@@ -0,0 +1,99 @@
+package ai.luciq.flutter.util.private_views;
+
+import static org.junit.Assert.assertEquals;
+
+import android.app.Activity;
+import android.content.res.Configuration;
+
+import ai.luciq.flutter.modules.capturing.CaptureMetrics;
+import ai.luciq.flutter.modules.capturing.CaptureStrategyCache;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.Robolectric;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {28}, manifest = Config.NONE)
+public class CaptureStrategyCacheTest {
+    private CaptureMetrics captureMetrics;
+    private CaptureStrategyCache strategyCache;
+    private Activity activity;
+
+    @Before
+    public void setUp() {
+        captureMetrics = new CaptureMetrics();
+        strategyCache = new CaptureStrategyCache(captureMetrics, 2, 3);
+        activity = Robolectric.buildActivity(Activity.class).setup().get();
+    }
+
+    @Test
+    public void testStartsAtLastSuccessfulStrategy() {
+        assertEquals(0, strategyCache.getStartStrategy(activity));
+
+        strategyCache.onSuccess(activity, 2);
+
+        assertEquals(2, strategyCache.getStartStrategy(activity));
+        assertEquals(1, captureMetrics.getCount(CaptureMetrics.Counter.STRATEGY_CACHE_PROBE));
+        assertEquals(1, captureMetrics.getCount(CaptureMetrics.Counter.STRATEGY_CACHE_HIT));
+    }
+
+    @Test
+    public void testReprobesAfterMaxFailures() {
+        strategyCache.onSuccess(activity, 1);
+
+        strategyCache.onFailure(activity, 1);
+        assertEquals(1, strategyCache.getStartStrategy(activity));
+
+        strategyCache.onFailure(activity, 1);
+        assertEquals(0, strategyCache.getStartStrategy(activity));
+        assertEquals(CaptureStrategyCache.NO_STRATEGY, strategyCache.getCachedStrategy(activity));
+    }
+
+    @Test
+    public void testSuccessResetsFailures() {
+        strategyCache.onSuccess(activity, 1);
+
+        strategyCache.onFailure(activity, 1);
+        strategyCache.onSuccess(activity, 1);
+        strategyCache.onFailure(activity, 1);
+
+        assertEquals(1, strategyCache.getStartStrategy(activity));
+    }
+
+    @Test
+    public void testReprobesAfterMaxHits() {
+        strategyCache.onSuccess(activity, 2);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(2, strategyCache.getStartStrategy(activity));
+        }
+
+        assertEquals(0, strategyCache.getStartStrategy(activity));
+    }
+
+    @Test
+    public void testFirstStrategyNeverExpires() {
+        strategyCache.onSuccess(activity, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, strategyCache.getStartStrategy(activity));
+        }
+        assertEquals(0, strategyCache.getCachedStrategy(activity));
+    }
+
+    @Test
+    public void testReprobesAfterConfigurationChange() {
+        strategyCache.onSuccess(activity, 2);
+
+        Configuration configuration = new Configuration(activity.getResources().getConfiguration());
+        configuration.orientation = configuration.orientation == Configuration.ORIENTATION_LANDSCAPE
+                ? Configuration.ORIENTATION_PORTRAIT
+                : Configuration.ORIENTATION_LANDSCAPE;
+        activity.getResources().updateConfiguration(configuration, activity.getResources().getDisplayMetrics());
+
+        assertEquals(0, strategyCache.getStartStrategy(activity));
+    }
+}
@@ -0,0 +1,116 @@
+package ai.luciq.flutter.util.private_views;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.robolectric.Shadows.shadowOf;
+
+import android.content.ComponentCallbacks2;
+import android.graphics.Bitmap;
+import android.os.Handler;
+import android.os.Looper;
+
+import ai.luciq.flutter.modules.capturing.BitmapPool;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
+import ai.luciq.flutter.modules.capturing.MemoryPressurePolicy;
+import ai.luciq.library.sessionreplay.SessionReplay;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.MockedStatic;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.time.Duration;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {28}, manifest = Config.NONE)
+public class MemoryPressurePolicyTest {
+    private CaptureSettings captureSettings;
+    private BitmapPool bitmapPool;
+    private MemoryPressurePolicy policy;
+    private MockedStatic<SessionReplay> mSessionReplay;
+
+    @Before
+    public void setUp() {
+        mSessionReplay = mockStatic(SessionReplay.class);
+        captureSettings = new CaptureSettings();
+        bitmapPool = new BitmapPool();
+        policy = new MemoryPressurePolicy(captureSettings, bitmapPool, new Handler(Looper.getMainLooper()));
+    }
+
+    @After
+    public void cleanUp() {
+        mSessionReplay.close();
+    }
+
+    @Test
+    public void testRunningLowDegradesCaptures() {
+        captureSettings.setScale(0.8f);
+        captureSettings.setCaptureIntervalMs(1000);
+        bitmapPool.release(Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888));
+
+        policy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+
+        assertEquals(CaptureSettings.MemoryPressure.MODERATE, captureSettings.getMemoryPressure());
+        assertEquals(0.4f, captureSettings.getQuality().getScale(), 0.0001f);
+        assertEquals(0.8f, captureSettings.getRequestedScale(), 0f);
+        assertTrue(captureSettings.getQuality().shouldPreferRgb565());
+        assertEquals(0, bitmapPool.getCount());
+        mSessionReplay.verify(() -> SessionReplay.setScreenshotCaptureInterval(2000));
+    }
+
+    @Test
+    public void testCriticalLevelsDegradeFurther() {
+        policy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW);
+        policy.onLowMemory();
+
+        assertEquals(CaptureSettings.MemoryPressure.CRITICAL, captureSettings.getMemoryPressure());
+        assertEquals(0.25f, captureSettings.getQuality().getScale(), 0f);
+    }
+
+    @Test
+    public void testLowerLevelDoesNotRestoreQuality() {
+        policy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+        policy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE);
+
+        assertEquals(CaptureSettings.MemoryPressure.CRITICAL, captureSettings.getMemoryPressure());
+    }
+
+    @Test
+    public void testUiHiddenOnlyDrainsPool() {
+        bitmapPool.release(Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888));
+
+        policy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN);
+
+        assertEquals(0, bitmapPool.getCount());
+        assertEquals(CaptureSettings.MemoryPressure.NONE, captureSettings.getMemoryPressure());
+        assertFalse(captureSettings.getQuality().shouldPreferRgb565());
+    }
+
+    @Test
+    public void testQualityIsRestoredStepByStepOncePressureClears() {
+        captureSettings.setCaptureIntervalMs(1000);
+        policy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(MemoryPressurePolicy.RECOVERY_DELAY_MS));
+        assertEquals(CaptureSettings.MemoryPressure.MODERATE, captureSettings.getMemoryPressure());
+
+        shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(MemoryPressurePolicy.RECOVERY_DELAY_MS));
+        assertEquals(CaptureSettings.MemoryPressure.NONE, captureSettings.getMemoryPressure());
+        assertEquals(CaptureSettings.FULL_SCALE, captureSettings.getQuality().getScale(), 0f);
+        mSessionReplay.verify(() -> SessionReplay.setScreenshotCaptureInterval(1000));
+    }
+
+    @Test
+    public void testIntervalIsLeftAloneWhenAppNeverSetOne() {
+        policy.onTrimMemory(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL);
+
+        mSessionReplay.verify(() -> SessionReplay.setScreenshotCaptureInterval(anyInt()), never());
+    }
+}
@@ -18,6 +18,7 @@ import android.view.SurfaceView;
 
 import ai.luciq.flutter.model.ScreenshotResult;
 import ai.luciq.flutter.modules.capturing.CaptureManager;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
 import ai.luciq.flutter.modules.capturing.PixelCopyCaptureManager;
 import ai.luciq.flutter.modules.capturing.ScreenshotResultCallback;
 import ai.luciq.library.util.memory.MemoryUtils;
@@ -55,7 +56,7 @@ public class PixelCopyScreenshotCaptorTest {
 
         ScreenshotResultCallback mockScreenshotResultCallback = mock(ScreenshotResultCallback.class);
         when(activityMock.findViewById(FlutterActivity.FLUTTER_VIEW_ID)).thenReturn(null);
-        captureManager.capture(activityMock,mockScreenshotResultCallback);
+        captureManager.capture(activityMock, CaptureSettings.Quality.FULL, mockScreenshotResultCallback);
 
         verify(mockScreenshotResultCallback).onError();
     }
@@ -70,7 +71,7 @@ public class PixelCopyScreenshotCaptorTest {
             ScreenshotResultCallback mockScreenshotResultCallback = mock(ScreenshotResultCallback.class);
 
 
-            captureManager.capture(activityMock, mockScreenshotResultCallback);
+            captureManager.capture(activityMock, CaptureSettings.Quality.FULL, mockScreenshotResultCallback);
             shadowOf(Looper.getMainLooper()).idle();
 
             verify(mockScreenshotResultCallback, timeout(1000)).onScreenshotResult(any(ScreenshotResult.class));  // PixelCopy success
@@ -87,7 +88,7 @@ public class PixelCopyScreenshotCaptorTest {
 
         ScreenshotResultCallback mockScreenshotResultCallback = mock(ScreenshotResultCallback.class);
 
-        captureManager.capture(activityMock, mockScreenshotResultCallback);
+        captureManager.capture(activityMock, CaptureSettings.Quality.FULL, mockScreenshotResultCallback);
 
         verify(mockScreenshotResultCallback).onError();
     }
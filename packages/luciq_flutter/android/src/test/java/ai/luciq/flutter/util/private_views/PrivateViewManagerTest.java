@@ -1,13 +1,20 @@
 package ai.luciq.flutter.util.private_views;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.robolectric.Shadows.shadowOf;
@@ -20,7 +27,10 @@ import android.os.Looper;
 import ai.luciq.flutter.generated.LuciqPrivateViewPigeon;
 import ai.luciq.flutter.model.ScreenshotResult;
 import ai.luciq.flutter.modules.PrivateViewManager;
+import ai.luciq.flutter.modules.capturing.BitmapPool;
 import ai.luciq.flutter.modules.capturing.CaptureManager;
+import ai.luciq.flutter.modules.capturing.CaptureMetrics;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
 import ai.luciq.flutter.modules.capturing.ScreenshotResultCallback;
 import ai.luciq.flutter.util.privateViews.ScreenshotCaptor;
 
@@ -32,8 +42,10 @@ import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeoutException;
 
 @RunWith(RobolectricTestRunner.class)
 @Config(sdk = {28}, manifest = Config.NONE)
@@ -77,10 +89,10 @@ public class PrivateViewManagerTest {
     public void testMask() throws InterruptedException {
         ai.luciq.flutter.util.privateViews.ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ai.luciq.flutter.util.privateViews.ScreenshotCaptor.CapturingCallback.class);
         doAnswer(invocation -> {
-            LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply<List<Double>> callback = invocation.getArgument(1);  // Get the callback
-            callback.reply(Arrays.asList(10.0, 20.0, 100.0, 200.0));  // Trigger the success callback
+            LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply<double[]> callback = invocation.getArgument(2);  // Get the callback
+            callback.reply(new double[]{10.0, 20.0, 100.0, 200.0});  // Trigger the success callback
             return null;
-        }).when(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));  // Mock the method call
+        }).when(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), any(Long.class), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));  // Mock the method call
 
 
         // Trigger the mask operation
@@ -89,15 +101,163 @@ public class PrivateViewManagerTest {
         shadowOf(Looper.getMainLooper()).idle();
 
         // Simulate a successful bitmap capture
-        verify(capturingCallbackMock, timeout(1000)).onCapturingSuccess(bitmap);
+        verify(capturingCallbackMock, timeout(1000)).onCapturingSuccess(any(Bitmap.class));
     }
 
 
+    @Test
+    public void testMaskFailsClosedWhenPrivateViewsMissTheDeadline() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        privateViewManager.setCaptureDeadlineMs(50);
+
+        privateViewManager.mask(capturingCallbackMock);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(capturingCallbackMock, timeout(1000)).onCapturingFailure(any(TimeoutException.class));
+        verify(capturingCallbackMock, never()).onCapturingSuccess(any());
+    }
+
+    @Test
+    public void testMaskIsCancelledWhenActivityIsDetached() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+
+        privateViewManager.mask(capturingCallbackMock);
+        privateViewManager.setActivity(null);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(capturingCallbackMock).onCapturingFailure(any(CancellationException.class));
+        verify(LuciqPrivateViewFlutterApiMock, never()).getPrivateViews(any(String.class), any(Long.class), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        verify(capturingCallbackMock, never()).onCapturingSuccess(any());
+    }
+
+    @Test
+    public void testDisposeCancelsPendingCaptures() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+
+        privateViewManager.mask(capturingCallbackMock);
+        privateViewManager.dispose();
+        shadowOf(Looper.getMainLooper()).idle();
+
+        assertTrue(privateViewManager.isDisposed());
+        verify(capturingCallbackMock).onCapturingFailure(any(CancellationException.class));
+        verify(capturingCallbackMock, never()).onCapturingSuccess(any());
+    }
+
+    @Test
+    public void testMaskFailsAfterDispose() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        privateViewManager.dispose();
+
+        privateViewManager.mask(capturingCallbackMock);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(capturingCallbackMock).onCapturingFailure(any(Exception.class));
+        verify(windowPixelCopyScreenCaptor, never()).capture(any(), any(), any());
+        verify(LuciqPrivateViewFlutterApiMock, never()).getPrivateViews(any(String.class), any(Long.class), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+    }
+
+    @Test
+    public void testMaskForwardsFrameTimestampToDart() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+
+        privateViewManager.mask(capturingCallbackMock, 123456L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), eq(123456L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+    }
+
+    @Test
+    public void testMaskCapturesFullQualityRequestsAtFullScale() {
+        CaptureSettings captureSettings = new CaptureSettings();
+        captureSettings.setScale(0.5f);
+        privateViewManager = new PrivateViewManager(LuciqPrivateViewFlutterApiMock, windowPixelCopyScreenCaptor, pixelCopyScreenCaptor, boundryScreenCaptor, new BitmapPool(), captureSettings);
+        privateViewManager.setActivity(activityMock);
+
+        privateViewManager.mask(mock(ScreenshotCaptor.FullQualityCapturingCallback.class));
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(windowPixelCopyScreenCaptor).capture(any(), eq(CaptureSettings.Quality.FULL), any());
+    }
+
+    @Test
+    public void testMaskDegradesCoreCapturesButNotFullQualityRequestsUnderMemoryPressure() {
+        CaptureSettings captureSettings = new CaptureSettings();
+        captureSettings.setMemoryPressure(CaptureSettings.MemoryPressure.CRITICAL);
+        privateViewManager = new PrivateViewManager(LuciqPrivateViewFlutterApiMock, windowPixelCopyScreenCaptor, pixelCopyScreenCaptor, boundryScreenCaptor, new BitmapPool(), captureSettings);
+        privateViewManager.setActivity(activityMock);
+
+        privateViewManager.mask(mock(ScreenshotCaptor.CapturingCallback.class));
+        privateViewManager.mask(mock(ScreenshotCaptor.FullQualityCapturingCallback.class));
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(windowPixelCopyScreenCaptor).capture(any(), argThat(quality -> quality.getScale() < CaptureSettings.FULL_SCALE && quality.shouldPreferRgb565()), any());
+        verify(windowPixelCopyScreenCaptor).capture(any(), eq(CaptureSettings.Quality.FULL), any());
+    }
+
+    @Test
+    public void testMaskReusesTheCaptureBufferOfDeliveredFrames() {
+        BitmapPool bitmapPool = new BitmapPool();
+        privateViewManager = new PrivateViewManager(LuciqPrivateViewFlutterApiMock, windowPixelCopyScreenCaptor, pixelCopyScreenCaptor, boundryScreenCaptor, bitmapPool, new CaptureSettings());
+        privateViewManager.setActivity(activityMock);
+        List<Bitmap> buffers = new ArrayList<>();
+        int[] colors = {0xFFFFFFFF, 0xFF000000};
+        doAnswer(invocation -> {
+            Bitmap buffer = bitmapPool.acquire(200, 200, Bitmap.Config.ARGB_8888);
+            buffer.eraseColor(colors[buffers.size()]);
+            buffers.add(buffer);
+            ScreenshotResultCallback callback = invocation.getArgument(2);
+            callback.onScreenshotResult(new ScreenshotResult(1.0f, buffer));
+            return null;
+        }).when(windowPixelCopyScreenCaptor).capture(any(), any(), any());
+        doAnswer(invocation -> {
+            LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply<double[]> callback = invocation.getArgument(2);
+            callback.reply(new double[0]);
+            return null;
+        }).when(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), any(Long.class), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        ScreenshotCaptor.CapturingCallback first = mock(ScreenshotCaptor.CapturingCallback.class);
+        ScreenshotCaptor.CapturingCallback second = mock(ScreenshotCaptor.CapturingCallback.class);
+        ArgumentCaptor<Bitmap> firstBitmap = ArgumentCaptor.forClass(Bitmap.class);
+        ArgumentCaptor<Bitmap> secondBitmap = ArgumentCaptor.forClass(Bitmap.class);
+
+        privateViewManager.mask(first);
+        shadowOf(Looper.getMainLooper()).idle();
+        verify(first, timeout(1000)).onCapturingSuccess(firstBitmap.capture());
+        privateViewManager.mask(second);
+        shadowOf(Looper.getMainLooper()).idle();
+        verify(second, timeout(1000)).onCapturingSuccess(secondBitmap.capture());
+
+        // The second frame renders into the buffer the first one was delivered from, without
+        // touching the first requester's copy
+        assertEquals(2, buffers.size());
+        assertSame(buffers.get(0), buffers.get(1));
+        assertNotSame(buffers.get(0), firstBitmap.getValue());
+        assertNotSame(firstBitmap.getValue(), secondBitmap.getValue());
+        assertEquals(0xFFFFFFFF, firstBitmap.getValue().getPixel(50, 50));
+        assertEquals(0xFF000000, secondBitmap.getValue().getPixel(50, 50));
+    }
+
+    @Test
+    public void testMaskFailsCaptureWhenMaskingFails() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        mockSuccessfulCapture(windowPixelCopyScreenCaptor, null);
+        doAnswer(invocation -> {
+            LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply<double[]> callback = invocation.getArgument(2);
+            callback.reply(new double[]{10.0, 20.0, 100.0, 200.0});
+            return null;
+        }).when(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), any(Long.class), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+
+        privateViewManager.mask(capturingCallbackMock);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(capturingCallbackMock, timeout(1000)).onCapturingFailure(any(Throwable.class));
+        verify(capturingCallbackMock, never()).onCapturingSuccess(any());
+    }
+
     @Test
     public void testMaskPrivateViews() {
         ScreenshotResult mockResult = new ScreenshotResult(2.0f, Bitmap.createBitmap(200, 200, Bitmap.Config.ARGB_8888));
 
-        List<Double> privateViews = Arrays.asList(10.0, 20.0, 100.0, 200.0);
+        double[] privateViews = new double[]{10.0, 20.0, 100.0, 200.0};
 
         privateViewManager.maskPrivateViews(mockResult, privateViews);
 
@@ -109,11 +269,34 @@ public class PrivateViewManagerTest {
         Bitmap screenshot = Bitmap.createBitmap(200, 200, Bitmap.Config.ARGB_8888);
         ScreenshotResult result = new ScreenshotResult(2.0f, screenshot, 5.0f, 10.0f);
 
-        privateViewManager.maskPrivateViews(result, Arrays.asList(10.0, 20.0, 20.0, 30.0));
+        privateViewManager.maskPrivateViews(result, new double[]{10.0, 20.0, 20.0, 30.0});
 
         assertEquals(0xFF000000, screenshot.getPixel(30, 60));
     }
 
+    @Test
+    public void testMaskPrivateViewsMasksEveryPackedRect() {
+        Bitmap screenshot = Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888);
+        ScreenshotResult result = new ScreenshotResult(1.0f, screenshot);
+
+        privateViewManager.maskPrivateViews(result, new double[]{0.0, 0.0, 10.0, 10.0, 50.0, 50.0, 60.0, 60.0});
+
+        assertEquals(0xFF000000, screenshot.getPixel(5, 5));
+        assertEquals(0xFF000000, screenshot.getPixel(55, 55));
+        assertEquals(0, screenshot.getPixel(30, 30));
+    }
+
+    @Test
+    public void testMaskPrivateViewsAppliesCaptureScale() {
+        Bitmap screenshot = Bitmap.createBitmap(100, 100, Bitmap.Config.ARGB_8888);
+        ScreenshotResult result = new ScreenshotResult(2.0f, screenshot, 0, 0, 0.5f);
+
+        privateViewManager.maskPrivateViews(result, new double[]{40.0, 40.0, 60.0, 60.0});
+
+        assertEquals(0xFF000000, screenshot.getPixel(50, 50));
+        assertEquals(0, screenshot.getPixel(70, 70));
+    }
+
     @Test
     @Config(sdk = {Build.VERSION_CODES.M})
     public void testMaskShouldGetScreenshotWhenAPIVersionLessThan28() {
@@ -121,7 +304,7 @@ public class PrivateViewManagerTest {
         privateViewManager.mask(capturingCallbackMock);
         shadowOf(Looper.getMainLooper()).idle();
 
-        verify(boundryScreenCaptor).capture(any(), any());
+        verify(boundryScreenCaptor).capture(any(), any(), any());
 
     }
 
@@ -130,9 +313,9 @@ public class PrivateViewManagerTest {
         ai.luciq.flutter.util.privateViews.ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ai.luciq.flutter.util.privateViews.ScreenshotCaptor.CapturingCallback.class);
         privateViewManager.mask(capturingCallbackMock);
         shadowOf(Looper.getMainLooper()).idle();
-        verify(boundryScreenCaptor, never()).capture(any(), any());
-        verify(pixelCopyScreenCaptor, never()).capture(any(), any());
-        verify(windowPixelCopyScreenCaptor).capture(any(), any());
+        verify(boundryScreenCaptor, never()).capture(any(), any(), any());
+        verify(pixelCopyScreenCaptor, never()).capture(any(), any(), any());
+        verify(windowPixelCopyScreenCaptor).capture(any(), any(), any());
 
 
     }
@@ -145,9 +328,9 @@ public class PrivateViewManagerTest {
         privateViewManager.mask(capturingCallbackMock);
         shadowOf(Looper.getMainLooper()).idle();
 
-        verify(windowPixelCopyScreenCaptor).capture(any(), any());
-        verify(pixelCopyScreenCaptor).capture(any(), any());
-        verify(boundryScreenCaptor, never()).capture(any(), any());
+        verify(windowPixelCopyScreenCaptor).capture(any(), any(), any());
+        verify(pixelCopyScreenCaptor).capture(any(), any(), any());
+        verify(boundryScreenCaptor, never()).capture(any(), any(), any());
     }
 
     @Test
@@ -155,17 +338,17 @@ public class PrivateViewManagerTest {
         ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
         doAnswer(invocation -> {
             when(activityMock.isFinishing()).thenReturn(true);
-            ScreenshotResultCallback callback = invocation.getArgument(1);
+            ScreenshotResultCallback callback = invocation.getArgument(2);
             callback.onError();
             return null;
-        }).when(windowPixelCopyScreenCaptor).capture(any(), any());
+        }).when(windowPixelCopyScreenCaptor).capture(any(), any(), any());
 
         privateViewManager.mask(capturingCallbackMock);
         shadowOf(Looper.getMainLooper()).idle();
 
-        verify(windowPixelCopyScreenCaptor).capture(any(), any());
-        verify(pixelCopyScreenCaptor, never()).capture(any(), any());
-        verify(boundryScreenCaptor, never()).capture(any(), any());
+        verify(windowPixelCopyScreenCaptor).capture(any(), any(), any());
+        verify(pixelCopyScreenCaptor, never()).capture(any(), any(), any());
+        verify(boundryScreenCaptor, never()).capture(any(), any(), any());
         verify(capturingCallbackMock).onCapturingFailure(any(Throwable.class));
     }
 
@@ -178,9 +361,205 @@ public class PrivateViewManagerTest {
         privateViewManager.mask(capturingCallbackMock);
         shadowOf(Looper.getMainLooper()).idle();
 
-        verify(windowPixelCopyScreenCaptor).capture(any(), any());
-        verify(pixelCopyScreenCaptor).capture(any(), any());
-        verify(boundryScreenCaptor).capture(any(), any());
+        verify(windowPixelCopyScreenCaptor).capture(any(), any(), any());
+        verify(pixelCopyScreenCaptor).capture(any(), any(), any());
+        verify(boundryScreenCaptor).capture(any(), any(), any());
+    }
+
+    @Test
+    public void testMaskStartsAtLastSuccessfulStrategy() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        mockFailedCapture(windowPixelCopyScreenCaptor);
+        mockFailedCapture(pixelCopyScreenCaptor);
+
+        privateViewManager.mask(capturingCallbackMock);
+        privateViewManager.mask(capturingCallbackMock);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(windowPixelCopyScreenCaptor).capture(any(), any(), any());
+        verify(pixelCopyScreenCaptor).capture(any(), any(), any());
+        verify(boundryScreenCaptor, times(2)).capture(any(), any(), any());
+        assertEquals(2, privateViewManager.getStrategyCache().getCachedStrategy(activityMock));
+        assertEquals(2, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.BOUNDRY_SUCCESS));
+        assertEquals(2, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.STRATEGY_FAILURE));
+        assertEquals(1, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.STRATEGY_CACHE_HIT));
+    }
+
+    @Test
+    public void testMaskRestartsChainWhenCachedStrategyFails() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        mockFailedCapture(windowPixelCopyScreenCaptor);
+        mockFailedCapture(pixelCopyScreenCaptor);
+        privateViewManager.mask(capturingCallbackMock);
+        shadowOf(Looper.getMainLooper()).idle();
+        assertEquals(2, privateViewManager.getStrategyCache().getCachedStrategy(activityMock));
+
+        mockSuccessfulCapture(windowPixelCopyScreenCaptor);
+        mockFailedCapture(boundryScreenCaptor);
+        privateViewManager.mask(capturingCallbackMock);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(windowPixelCopyScreenCaptor, times(2)).capture(any(), any(), any());
+        verify(pixelCopyScreenCaptor, times(1)).capture(any(), any(), any());
+        verify(boundryScreenCaptor, times(2)).capture(any(), any(), any());
+        assertEquals(0, privateViewManager.getStrategyCache().getCachedStrategy(activityMock));
+    }
+
+    @Test
+    public void testMaskUsesPushedPrivateViewsOnAnIdleScreen() {
+        ScreenshotCaptor.CapturingCallback first = mock(ScreenshotCaptor.CapturingCallback.class);
+        ScreenshotCaptor.CapturingCallback second = mock(ScreenshotCaptor.CapturingCallback.class);
+        startCapturing();
+        privateViewManager.updatePrivateViews(1, 100L, new double[]{10.0, 20.0, 100.0, 200.0});
+
+        // Dart built no frame since 100, so the pushed rects still describe frames 200 and 300
+        privateViewManager.mask(first, 200L);
+        privateViewManager.mask(second, 300L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(first, timeout(1000)).onCapturingSuccess(any(Bitmap.class));
+        verify(second, timeout(1000)).onCapturingSuccess(any(Bitmap.class));
+        verify(LuciqPrivateViewFlutterApiMock, never()).getPrivateViews(any(String.class), eq(200L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        verify(LuciqPrivateViewFlutterApiMock, never()).getPrivateViews(any(String.class), eq(300L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        assertEquals(2, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.GEOMETRY_CACHE_HIT));
+        assertEquals(1.0, privateViewManager.getCaptureMetrics().toMap().get("geometryCache.hitRate"), 0);
+    }
+
+    @Test
+    public void testMaskAsksDartOnceDartBuiltAnotherFrame() {
+        ScreenshotCaptor.CapturingCallback first = mock(ScreenshotCaptor.CapturingCallback.class);
+        ScreenshotCaptor.CapturingCallback second = mock(ScreenshotCaptor.CapturingCallback.class);
+        startCapturing();
+        privateViewManager.updatePrivateViews(1, 100L, new double[]{10.0, 20.0, 100.0, 200.0});
+        privateViewManager.updatePrivateViews(1, 250L, null);
+
+        privateViewManager.mask(first, 200L);
+        privateViewManager.mask(second, 300L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(first, timeout(1000)).onCapturingSuccess(any(Bitmap.class));
+        verify(LuciqPrivateViewFlutterApiMock, never()).getPrivateViews(any(String.class), eq(200L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        verify(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), eq(300L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        assertEquals(1, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.GEOMETRY_CACHE_HIT));
+        assertEquals(1, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.GEOMETRY_CACHE_MISS));
+        assertEquals(0.5, privateViewManager.getCaptureMetrics().toMap().get("geometryCache.hitRate"), 0);
+    }
+
+    @Test
+    public void testMaskAsksDartWhenDartBuiltAFrameWhileCapturing() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        startCapturing();
+        privateViewManager.updatePrivateViews(1, 100L, new double[]{10.0, 20.0, 100.0, 200.0});
+        doAnswer(invocation -> {
+            privateViewManager.updatePrivateViews(1, 150L, null);
+            ScreenshotResultCallback callback = invocation.getArgument(2);
+            callback.onScreenshotResult(new ScreenshotResult(1.0f, bitmap));
+            return null;
+        }).when(windowPixelCopyScreenCaptor).capture(any(), any(), any());
+
+        privateViewManager.mask(capturingCallbackMock, 200L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), eq(200L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        assertEquals(0, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.GEOMETRY_CACHE_HIT));
+        assertEquals(1, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.GEOMETRY_CACHE_MISS));
+    }
+
+    @Test
+    public void testMaskAsksDartWhenFrameIsOlderThanPushedPrivateViews() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        startCapturing();
+        privateViewManager.updatePrivateViews(1, 100L, new double[]{10.0, 20.0, 100.0, 200.0});
+        privateViewManager.updatePrivateViews(1, 200L, null);
+        privateViewManager.updatePrivateViews(2, 200L, new double[]{30.0, 40.0, 100.0, 200.0});
+
+        // Frame 150 still had the layout of version 1, which the cache no longer holds
+        privateViewManager.mask(capturingCallbackMock, 150L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), eq(150L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        assertEquals(1, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.GEOMETRY_CACHE_MISS));
+    }
+
+    @Test
+    public void testUpdatePrivateViewsDropsUnknownLayoutVersion() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        startCapturing();
+        privateViewManager.updatePrivateViews(1, 100L, new double[]{10.0, 20.0, 100.0, 200.0});
+        privateViewManager.updatePrivateViews(2, 200L, null);
+
+        privateViewManager.mask(capturingCallbackMock, 150L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), eq(150L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+    }
+
+    @Test
+    public void testUpdatePrivateViewsDropsPushesOnceCapturesStopped() {
+        ScreenshotCaptor.CapturingCallback capturingCallbackMock = mock(ScreenshotCaptor.CapturingCallback.class);
+        assertFalse(privateViewManager.updatePrivateViews(1, 100L, new double[0]));
+
+        privateViewManager.mask(capturingCallbackMock, 200L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        // Dart stopped pushing, so the rects it sent can't be trusted for later frames
+        verify(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), eq(200L), any(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class));
+        assertTrue(privateViewManager.updatePrivateViews(2, 200L, new double[0]));
+    }
+
+    @Test
+    public void testMaskCoalescesRequestsForTheSameFrame() {
+        ScreenshotCaptor.CapturingCallback first = mock(ScreenshotCaptor.CapturingCallback.class);
+        ScreenshotCaptor.CapturingCallback second = mock(ScreenshotCaptor.CapturingCallback.class);
+
+        privateViewManager.mask(first, 42L);
+        privateViewManager.mask(second, 42L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        ArgumentCaptor<LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply> replyCaptor = ArgumentCaptor.forClass(LuciqPrivateViewPigeon.LuciqPrivateViewFlutterApi.Reply.class);
+        verify(LuciqPrivateViewFlutterApiMock).getPrivateViews(any(String.class), eq(42L), replyCaptor.capture());
+        replyCaptor.getValue().reply(new double[]{10.0, 20.0, 100.0, 200.0});
+
+        ArgumentCaptor<Bitmap> firstBitmap = ArgumentCaptor.forClass(Bitmap.class);
+        ArgumentCaptor<Bitmap> secondBitmap = ArgumentCaptor.forClass(Bitmap.class);
+        verify(first, timeout(1000)).onCapturingSuccess(firstBitmap.capture());
+        verify(second, timeout(1000)).onCapturingSuccess(secondBitmap.capture());
+        assertSame(firstBitmap.getValue(), secondBitmap.getValue());
+        verify(windowPixelCopyScreenCaptor, times(1)).capture(any(), any(), any());
+        assertEquals(1, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.COALESCED_REQUEST));
+    }
+
+    @Test
+    public void testMaskDoesNotCoalesceFullQualityWithOtherRequests() {
+        ScreenshotCaptor.CapturingCallback fullQuality = mock(ScreenshotCaptor.FullQualityCapturingCallback.class);
+        ScreenshotCaptor.CapturingCallback other = mock(ScreenshotCaptor.CapturingCallback.class);
+
+        privateViewManager.mask(fullQuality, 42L);
+        privateViewManager.mask(other, 42L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(windowPixelCopyScreenCaptor, times(2)).capture(any(), any(), any());
+        assertEquals(0, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.COALESCED_REQUEST));
+    }
+
+    @Test
+    public void testMaskDoesNotCoalesceRequestsForDifferentFrames() {
+        ScreenshotCaptor.CapturingCallback first = mock(ScreenshotCaptor.CapturingCallback.class);
+        ScreenshotCaptor.CapturingCallback second = mock(ScreenshotCaptor.CapturingCallback.class);
+
+        privateViewManager.mask(first, 42L);
+        privateViewManager.mask(second, 43L);
+        shadowOf(Looper.getMainLooper()).idle();
+
+        verify(windowPixelCopyScreenCaptor, times(2)).capture(any(), any(), any());
+        assertEquals(0, privateViewManager.getCaptureMetrics().getCount(CaptureMetrics.Counter.COALESCED_REQUEST));
+    }
+
+    /**
+     * Requests a capture, so Dart is told to keep pushing private views.
+     */
+    private void startCapturing() {
+        privateViewManager.mask(mock(ScreenshotCaptor.CapturingCallback.class));
     }
 
     private void mockSuccessfulCapture(CaptureManager captureManager) {
@@ -189,17 +568,17 @@ public class PrivateViewManagerTest {
 
     private void mockSuccessfulCapture(CaptureManager captureManager, Bitmap screenshot) {
         doAnswer(invocation -> {
-            ScreenshotResultCallback callback = invocation.getArgument(1);
+            ScreenshotResultCallback callback = invocation.getArgument(2);
             callback.onScreenshotResult(new ScreenshotResult(1.0f, screenshot));
             return null;
-        }).when(captureManager).capture(any(), any());
+        }).when(captureManager).capture(any(), any(), any());
     }
 
     private void mockFailedCapture(CaptureManager captureManager) {
         doAnswer(invocation -> {
-            ScreenshotResultCallback callback = invocation.getArgument(1);
+            ScreenshotResultCallback callback = invocation.getArgument(2);
             callback.onError();
             return null;
-        }).when(captureManager).capture(any(), any());
+        }).when(captureManager).capture(any(), any(), any());
     }
 }
\ No newline at end of file
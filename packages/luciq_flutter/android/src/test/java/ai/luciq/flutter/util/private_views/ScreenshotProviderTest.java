@@ -0,0 +1,118 @@
+package ai.luciq.flutter.util.private_views;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+
+import ai.luciq.flutter.modules.PrivateViewManager;
+import ai.luciq.flutter.modules.ScreenshotProvider;
+import ai.luciq.flutter.util.privateViews.ScreenshotCaptor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(sdk = {Build.VERSION_CODES.P}, manifest = Config.NONE)
+public class ScreenshotProviderTest {
+    private PrivateViewManager privateViewManager;
+    private Callable<Bitmap> fallbackProvider;
+    private ScreenshotProvider screenshotProvider;
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() throws Exception {
+        privateViewManager = mock(PrivateViewManager.class);
+        fallbackProvider = mock(Callable.class);
+        screenshotProvider = new ScreenshotProvider(() -> privateViewManager, fallbackProvider, 200);
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Bitmap callOffMainThread() throws Exception {
+        return executor.submit(screenshotProvider).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testCallReturnsMaskedScreenshot() throws Exception {
+        final Bitmap masked = Bitmap.createBitmap(10, 20, Bitmap.Config.ARGB_8888);
+        doAnswer(invocation -> {
+            ScreenshotCaptor.CapturingCallback callback = invocation.getArgument(0);
+            callback.onCapturingSuccess(masked);
+            return null;
+        }).when(privateViewManager).mask(any(ScreenshotCaptor.CapturingCallback.class));
+
+        Bitmap result = callOffMainThread();
+
+        assertSame(masked, result);
+        verify(fallbackProvider, never()).call();
+    }
+
+    @Test
+    public void testCallFallsBackOnCaptureFailure() throws Exception {
+        final Bitmap fallback = Bitmap.createBitmap(1, 1, Bitmap.Config.ARGB_8888);
+        when(fallbackProvider.call()).thenReturn(fallback);
+        doAnswer(invocation -> {
+            ScreenshotCaptor.CapturingCallback callback = invocation.getArgument(0);
+            callback.onCapturingFailure(new Exception(PrivateViewManager.EXCEPTION_MESSAGE));
+            return null;
+        }).when(privateViewManager).mask(any(ScreenshotCaptor.CapturingCallback.class));
+
+        assertSame(fallback, callOffMainThread());
+    }
+
+    @Test
+    public void testCallTimesOut() throws Exception {
+        Bitmap result = callOffMainThread();
+
+        assertNull(result);
+        verify(privateViewManager).mask(any(ScreenshotCaptor.CapturingCallback.class));
+        verify(fallbackProvider, never()).call();
+    }
+
+    @Test
+    public void testCallOnMainThreadUsesFallbackWithoutBlocking() throws Exception {
+        final Bitmap fallback = Bitmap.createBitmap(1, 1, Bitmap.Config.ARGB_8888);
+        when(fallbackProvider.call()).thenReturn(fallback);
+
+        // Robolectric runs tests on the main looper
+        assertSame(fallback, screenshotProvider.call());
+        verify(privateViewManager, never()).mask(any(ScreenshotCaptor.CapturingCallback.class));
+    }
+
+    @Test
+    public void testCallRequestsFullQualityScreenshot() throws Exception {
+        callOffMainThread();
+
+        verify(privateViewManager).mask(any(ScreenshotCaptor.FullQualityCapturingCallback.class));
+    }
+
+    @Test
+    public void testCallWithoutEngineUsesFallback() throws Exception {
+        screenshotProvider = new ScreenshotProvider(() -> null, fallbackProvider, 200);
+
+        callOffMainThread();
+
+        verify(fallbackProvider).call();
+    }
+}
@@ -3,8 +3,10 @@ package ai.luciq.flutter.util.private_views;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.robolectric.Shadows.shadowOf;
 
 import android.app.Activity;
@@ -12,9 +14,13 @@ import android.os.Looper;
 import android.view.View;
 
 import ai.luciq.flutter.model.ScreenshotResult;
+import ai.luciq.flutter.modules.capturing.BitmapPool;
+import ai.luciq.flutter.modules.capturing.BlankFrameDetector;
 import ai.luciq.flutter.modules.capturing.CaptureManager;
+import ai.luciq.flutter.modules.capturing.CaptureSettings;
 import ai.luciq.flutter.modules.capturing.ScreenshotResultCallback;
 import ai.luciq.flutter.modules.capturing.WindowPixelCopyCaptureManager;
+import ai.luciq.flutter.util.LaneExecutor;
 import ai.luciq.library.util.memory.MemoryUtils;
 
 import org.junit.Before;
@@ -34,14 +40,14 @@ public class WindowPixelCopyCaptureManagerTest {
     @Before
     public void setUp() {
         activity = Robolectric.buildActivity(Activity.class).setup().create().start().resume().get();
-        captureManager = new WindowPixelCopyCaptureManager();
+        captureManager = new WindowPixelCopyCaptureManager(new BitmapPool(), new BlankFrameDetector(), Runnable::run);
     }
 
     @Test
     public void testCaptureWithWindowPixelCopyGivenEmptyActivity() {
         ScreenshotResultCallback mockScreenshotResultCallback = mock(ScreenshotResultCallback.class);
 
-        captureManager.capture(null, mockScreenshotResultCallback);
+        captureManager.capture(null, CaptureSettings.Quality.FULL, mockScreenshotResultCallback);
 
         verify(mockScreenshotResultCallback).onError();
     }
@@ -52,7 +58,7 @@ public class WindowPixelCopyCaptureManagerTest {
         View rootView = activity.getWindow().getDecorView().getRootView();
         rootView.layout(0, 0, 0, 0);
 
-        captureManager.capture(activity, mockScreenshotResultCallback);
+        captureManager.capture(activity, CaptureSettings.Quality.FULL, mockScreenshotResultCallback);
 
         verify(mockScreenshotResultCallback).onError();
     }
@@ -65,10 +71,49 @@ public class WindowPixelCopyCaptureManagerTest {
             View rootView = activity.getWindow().getDecorView().getRootView();
             rootView.layout(0, 0, 100, 100);
 
-            captureManager.capture(activity, mockScreenshotResultCallback);
+            captureManager.capture(activity, CaptureSettings.Quality.FULL, mockScreenshotResultCallback);
             shadowOf(Looper.getMainLooper()).idle();
 
             verify(mockScreenshotResultCallback, timeout(1000)).onError();
         }
     }
+
+    @Test
+    public void testCaptureFailsWhenBlankFrameCheckThrows() {
+        try (MockedStatic<MemoryUtils> mockedStatic = mockStatic(MemoryUtils.class)) {
+            mockedStatic.when(() -> MemoryUtils.getFreeMemory(any())).thenReturn(Long.MAX_VALUE);
+            BlankFrameDetector blankFrameDetector = mock(BlankFrameDetector.class);
+            when(blankFrameDetector.isBlank(any())).thenThrow(new IllegalStateException());
+            captureManager = new WindowPixelCopyCaptureManager(new BitmapPool(), blankFrameDetector, Runnable::run);
+            ScreenshotResultCallback mockScreenshotResultCallback = mock(ScreenshotResultCallback.class);
+            View rootView = activity.getWindow().getDecorView().getRootView();
+            rootView.layout(0, 0, 100, 100);
+
+            captureManager.capture(activity, CaptureSettings.Quality.FULL, mockScreenshotResultCallback);
+            shadowOf(Looper.getMainLooper()).idle();
+
+            verify(mockScreenshotResultCallback, timeout(1000)).onError();
+            verify(mockScreenshotResultCallback, never()).onScreenshotResult(any(ScreenshotResult.class));
+        }
+    }
+
+    @Test
+    public void testCaptureFailsWhenBlankFrameCheckIsDropped() {
+        try (MockedStatic<MemoryUtils> mockedStatic = mockStatic(MemoryUtils.class)) {
+            mockedStatic.when(() -> MemoryUtils.getFreeMemory(any())).thenReturn(Long.MAX_VALUE);
+            BlankFrameDetector blankFrameDetector = mock(BlankFrameDetector.class);
+            captureManager = new WindowPixelCopyCaptureManager(new BitmapPool(), blankFrameDetector,
+                    runnable -> ((LaneExecutor.Droppable) runnable).onDropped());
+            ScreenshotResultCallback mockScreenshotResultCallback = mock(ScreenshotResultCallback.class);
+            View rootView = activity.getWindow().getDecorView().getRootView();
+            rootView.layout(0, 0, 100, 100);
+
+            captureManager.capture(activity, CaptureSettings.Quality.FULL, mockScreenshotResultCallback);
+            shadowOf(Looper.getMainLooper()).idle();
+
+            verify(mockScreenshotResultCallback, timeout(1000)).onError();
+            verify(mockScreenshotResultCallback, never()).onScreenshotResult(any(ScreenshotResult.class));
+            verify(blankFrameDetector, never()).isBlank(any());
+        }
+    }
 }
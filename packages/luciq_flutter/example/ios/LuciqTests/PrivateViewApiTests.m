@@ -75,10 +75,11 @@
            UIRectFill(rect);
        }];
     
-    NSArray<NSNumber *> *rectangles = @[@10, @20, @30, @40];
+    double values[] = {10, 20, 30, 40};
+    FlutterStandardTypedData *rectangles = [FlutterStandardTypedData typedDataWithFloat64:[NSData dataWithBytes:values length:sizeof(values)]];
     UIView *mockView = [[UIView alloc] initWithFrame:CGRectMake(10, 20, 30, 40)];
     
-    OCMStub([self.mockFlutterApi getPrivateViewsWithCompletion:([OCMArg invokeBlockWithArgs:rectangles, [NSNull null], nil])]);
+    OCMStub([self.mockFlutterApi getPrivateViewsCallId:[OCMArg any] frameTimeMicros:[OCMArg any] completion:([OCMArg invokeBlockWithArgs:rectangles, [NSNull null], nil])]);
     
         
   
@@ -137,7 +138,8 @@
 }
 
 - (void)testConvertToRectangles_ValidInput {
-    NSArray<NSNumber *> *rectangles = @[@10, @20, @30, @40];
+    double values[] = {10, 20, 30, 40};
+    FlutterStandardTypedData *rectangles = [FlutterStandardTypedData typedDataWithFloat64:[NSData dataWithBytes:values length:sizeof(values)]];
     UIView *mockView = [[UIView alloc] initWithFrame:CGRectMake(5, 5, 100, 100)];
     OCMStub([self.mockFlutterViewController view]).andReturn(mockView);
 
@@ -164,10 +166,11 @@
            UIRectFill(rect);
        }];
     
-    NSArray<NSNumber *> *rectangles = @[@10, @20, @30, @40];
+    double values[] = {10, 20, 30, 40};
+    FlutterStandardTypedData *rectangles = [FlutterStandardTypedData typedDataWithFloat64:[NSData dataWithBytes:values length:sizeof(values)]];
     
     
-    OCMStub([self.mockFlutterApi getPrivateViewsWithCompletion:([OCMArg invokeBlockWithArgs:rectangles, [NSNull null], nil])]);
+    OCMStub([self.mockFlutterApi getPrivateViewsCallId:[OCMArg any] frameTimeMicros:[OCMArg any] completion:([OCMArg invokeBlockWithArgs:rectangles, [NSNull null], nil])]);
     
     
     dispatch_group_t group = dispatch_group_create();
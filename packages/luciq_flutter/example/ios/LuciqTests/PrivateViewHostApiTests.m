@@ -54,4 +54,13 @@
     }];
 }
 
+- (void)testUpdatePrivateViewsStopsThePush {
+    FlutterError *error = nil;
+
+    NSNumber *keepPushing = [self.api updatePrivateViewsLayoutVersion:@1 frameTimeMicros:@1000 rects:nil error:&error];
+
+    XCTAssertEqualObjects(keepPushing, @NO);
+    XCTAssertNil(error);
+}
+
 @end
@@ -145,6 +145,12 @@ NSMutableDictionary *traces;
     [LuciqFlutterLogger d:[LuciqFlutterDebugTags apmNetwork] format:@"[APM.networkLogAndroid] phase=exit"];
 }
 
+- (void)networkLogBatchBatch:(NSArray<NSDictionary<NSString *, id> *> *)batch error:(FlutterError *_Nullable *_Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags apmNetwork] format:@"[APM.networkLogBatch] phase=enter platform=iOS noop=true"];
+    // Android Only
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags apmNetwork] format:@"[APM.networkLogBatch] phase=exit"];
+}
+
 
 // This method is responsible for initiating a custom performance UI trace
 // in the APM module. It takes three parameters:
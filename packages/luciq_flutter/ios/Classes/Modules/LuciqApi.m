@@ -12,6 +12,51 @@
 #import "../Util/LuciqFlutterDebugTags.h"
 #define UIColorFromRGB(rgbValue) [UIColor colorWithRed:((float)((rgbValue & 0xFF0000) >> 16)) / 255.0 green:((float)((rgbValue & 0xFF00) >> 8)) / 255.0 blue:((float)(rgbValue & 0xFF)) / 255.0 alpha:((float)((rgbValue & 0xFF000000) >> 24)) / 255.0];
 
+// Lower-cased header names kept in and dropped from network logs, shared by every engine.
+// Set on the main thread and read on the network logging queue, so both are only accessed
+// together under LCQNetworkLogHeadersLock().
+static NSSet<NSString *> *allowedNetworkLogHeaders = nil;
+static NSSet<NSString *> *deniedNetworkLogHeaders = nil;
+
+static NSLock *LCQNetworkLogHeadersLock(void) {
+    static NSLock *lock;
+    static dispatch_once_t onceToken;
+    dispatch_once(&onceToken, ^{
+        lock = [[NSLock alloc] init];
+    });
+    return lock;
+}
+
+static NSSet<NSString *> *LCQLowercaseHeaderNames(NSArray<NSString *> *names) {
+    if (names == nil) {
+        return nil;
+    }
+    NSMutableSet<NSString *> *lowercase = [NSMutableSet setWithCapacity:names.count];
+    for (NSString *name in names) {
+        [lowercase addObject:[name lowercaseString]];
+    }
+    return [lowercase copy];
+}
+
+static NSDictionary *LCQFilterNetworkLogHeaders(NSDictionary *headers) {
+    NSLock *lock = LCQNetworkLogHeadersLock();
+    [lock lock];
+    NSSet<NSString *> *allowed = allowedNetworkLogHeaders;
+    NSSet<NSString *> *denied = deniedNetworkLogHeaders;
+    [lock unlock];
+    if (allowed == nil && denied.count == 0) {
+        return headers;
+    }
+    NSMutableDictionary *filtered = [NSMutableDictionary dictionaryWithCapacity:headers.count];
+    [headers enumerateKeysAndObjectsUsingBlock:^(id key, id value, BOOL *stop) {
+        NSString *name = [[key description] lowercaseString];
+        if ((allowed == nil || [allowed containsObject:name]) && ![denied containsObject:name]) {
+            filtered[key] = value;
+        }
+    }];
+    return filtered;
+}
+
 extern void InitLuciqApi(id<FlutterBinaryMessenger> messenger) {
     LuciqApi *api = [[LuciqApi alloc] init];
     LuciqHostApiSetup(messenger, api);
@@ -434,6 +479,11 @@ extern void InitLuciqApi(id<FlutterBinaryMessenger> messenger) {
 
 
 
+    requestHeaders = LCQFilterNetworkLogHeaders(requestHeaders);
+    if ([responseHeaders isKindOfClass:[NSDictionary class]]) {
+        responseHeaders = LCQFilterNetworkLogHeaders(responseHeaders);
+    }
+
     [LCQNetworkLogger addNetworkLogWithUrl:url
                                     method:method
                                requestBody:requestBody
@@ -588,6 +638,20 @@ extern void InitLuciqApi(id<FlutterBinaryMessenger> messenger) {
     [LuciqFlutterLogger d:[LuciqFlutterDebugTags network] format:@"[Luciq.setNetworkLogBodyEnabled] phase=exit"];
 }
 
+- (void)setNetworkLogHeaderFiltersAllowList:(nullable NSArray<NSString *> *)allowList
+                                    denyList:(nullable NSArray<NSString *> *)denyList
+                                       error:(FlutterError *_Nullable *_Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags network] format:@"[Luciq.setNetworkLogHeaderFilters] phase=enter allowListCount=%ld denyListCount=%ld", allowList ? (long)allowList.count : -1L, denyList ? (long)denyList.count : -1L];
+    NSSet<NSString *> *allowed = LCQLowercaseHeaderNames(allowList);
+    NSSet<NSString *> *denied = LCQLowercaseHeaderNames(denyList);
+    NSLock *lock = LCQNetworkLogHeadersLock();
+    [lock lock];
+    allowedNetworkLogHeaders = allowed;
+    deniedNetworkLogHeaders = denied;
+    [lock unlock];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags network] format:@"[Luciq.setNetworkLogHeaderFilters] phase=exit"];
+}
+
 
 - (void)setAppVariantAppVariant:(nonnull NSString *)appVariant error:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
     [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.setAppVariant] phase=enter appVariantLength=%lu", (unsigned long)appVariant.length];
@@ -779,6 +843,27 @@ extern void InitLuciqApi(id<FlutterBinaryMessenger> messenger) {
     completion(result, nil);
 }
 
+- (void)setHostCallWatchdogEnabledIsEnabled:(NSNumber *)isEnabled budgetMs:(NSNumber *)budgetMs error:(FlutterError *_Nullable *_Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.setHostCallWatchdogEnabled] phase=enter platform=iOS noop=true"];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.setHostCallWatchdogEnabled] phase=exit"];
+}
+
+- (nullable NSDictionary<NSString *, NSNumber *> *)getHostCallMetricsWithError:(FlutterError *_Nullable *_Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.getHostCallMetrics] phase=enter platform=iOS noop=true"];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.getHostCallMetrics] phase=exit resultCount=0"];
+    return @{};
+}
+
+- (void)resetHostCallMetricsWithError:(FlutterError *_Nullable *_Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.resetHostCallMetrics] phase=enter platform=iOS noop=true"];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.resetHostCallMetrics] phase=exit"];
+}
+
+- (void)setMainThreadCoalescingEnabledIsEnabled:(NSNumber *)isEnabled error:(FlutterError *_Nullable *_Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.setMainThreadCoalescingEnabled] phase=enter platform=iOS noop=true"];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags core] format:@"[Luciq.setMainThreadCoalescingEnabled] phase=exit"];
+}
+
 - (void)setNetworkAutoMaskingEnabledIsEnabled:(NSNumber *)isEnabled error:(FlutterError *_Nullable *_Nonnull)error {
     [LuciqFlutterLogger d:[LuciqFlutterDebugTags network] format:@"[Luciq.setNetworkAutoMaskingEnabled] phase=enter isEnabled=%@", ([isEnabled boolValue] ? @"true" : @"false")];
     LCQNetworkLogger.autoMaskingEnabled = [isEnabled boolValue];
@@ -13,11 +13,12 @@
 
 - (void)mask:(UIImage *)screenshot
  completion:(void (^)(UIImage *maskedImage))completion;
-- (void)handlePrivateViewsResult:(NSArray<NSNumber *> *)rectangles
+- (void)handlePrivateViewsResult:(FlutterStandardTypedData *)rectangles
                              error:(FlutterError *)error
                         screenshot:(UIImage *)screenshot
+                            callId:(NSString *)callId
                       completion:(void (^)(UIImage *))completion;
-- (NSArray<NSValue *> *)convertToRectangles:(NSArray<NSNumber *> *)rectangles;
+- (NSArray<NSValue *> *)convertToRectangles:(FlutterStandardTypedData *)rectangles;
 
 - (UIImage *)drawMaskedImage:(UIImage *)screenshot withPrivateViews:(NSArray<NSValue *> *)privateViews;
 - (CGPoint)getFlutterViewOrigin;
@@ -38,7 +38,8 @@ static long long currentTimeMillis;
     dispatch_after(dispatch_time(DISPATCH_TIME_NOW, (int64_t)(0.1 * NSEC_PER_SEC)), dispatch_get_main_queue(), ^{
     [LuciqFlutterLogger d:[LuciqFlutterDebugTags privateView]
                    format:@"[PRIV.capture] #%@ phase=fire", callId];
-    [self.flutterApi getPrivateViewsCallId:callId completion:^(NSArray<NSNumber *> *rectangles, FlutterError *error) {
+    // iOS captures after Dart answers, so the rects don't need to be tied to a frame.
+    [self.flutterApi getPrivateViewsCallId:callId frameTimeMicros:@0 completion:^(FlutterStandardTypedData *rectangles, FlutterError *error) {
         UIImage *capturedScreenshot = [self captureScreenshot];
             [weakSelf handlePrivateViewsResult:rectangles
                                          error:error
@@ -67,7 +68,7 @@ static long long currentTimeMillis;
 }
 
 // Handle the result of fetching private views
-- (void)handlePrivateViewsResult:(NSArray<NSNumber *> *)rectangles
+- (void)handlePrivateViewsResult:(FlutterStandardTypedData *)rectangles
                            error:(FlutterError *)error
                       screenshot:(UIImage *)screenshot
                           callId:(NSString *)callId
@@ -93,17 +94,19 @@ static long long currentTimeMillis;
 
 }
 
-// Convert the raw rectangles array into CGRect values
-- (NSArray<NSValue *> *)convertToRectangles:(NSArray<NSNumber *> *)rectangles {
-    
-    NSMutableArray<NSValue *> *privateViews = [NSMutableArray arrayWithCapacity:rectangles.count / 4];
+// Convert the packed left, top, right, bottom values into CGRect values
+- (NSArray<NSValue *> *)convertToRectangles:(FlutterStandardTypedData *)rectangles {
+    NSUInteger count = rectangles.elementCount;
+    const double *values = (const double *)rectangles.data.bytes;
+
+    NSMutableArray<NSValue *> *privateViews = [NSMutableArray arrayWithCapacity:count / 4];
     CGPoint flutterOrigin = [self getFlutterViewOrigin];
 
-    for (NSUInteger i = 0; i < rectangles.count; i += 4) {
-        CGFloat left = rectangles[i].doubleValue;
-        CGFloat top = rectangles[i + 1].doubleValue;
-        CGFloat right = rectangles[i + 2].doubleValue;
-        CGFloat bottom = rectangles[i + 3].doubleValue;
+    for (NSUInteger i = 0; i + 3 < count; i += 4) {
+        CGFloat left = values[i];
+        CGFloat top = values[i + 1];
+        CGFloat right = values[i + 2];
+        CGFloat bottom = values[i + 3];
 
         CGRect rect = CGRectMake(flutterOrigin.x + left,
                                  flutterOrigin.y + top,
@@ -123,8 +126,15 @@ static long long currentTimeMillis;
         [screenshot drawAtPoint:CGPointZero];
         CGContextSetFillColorWithColor(context, UIColor.blackColor.CGColor);
 
-        for (NSValue *value in privateViews) {
-            CGContextFillRect(context, value.CGRectValue);
+        // Fill every rect in a single call rather than one per private view
+        NSUInteger count = privateViews.count;
+        if (count > 0) {
+            CGRect *rects = malloc(sizeof(CGRect) * count);
+            for (NSUInteger i = 0; i < count; i++) {
+                rects[i] = privateViews[i].CGRectValue;
+            }
+            CGContextFillRects(context, rects, count);
+            free(rects);
         }
 
         return UIGraphicsGetImageFromCurrentImageContext();
@@ -38,4 +38,12 @@ extern void InitPrivateViewHostApi(id<FlutterBinaryMessenger> _Nonnull messenger
     [LuciqFlutterLogger d:[LuciqFlutterDebugTags privateView] format:@"[PRIV.init] phase=exit"];
 }
 
+- (nullable NSNumber *)updatePrivateViewsLayoutVersion:(nonnull NSNumber *)layoutVersion frameTimeMicros:(nonnull NSNumber *)frameTimeMicros rects:(nullable FlutterStandardTypedData *)rects error:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
+    // iOS masks with the rects returned by getPrivateViews, returning NO stops Dart pushing them
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags privateView]
+                   format:@"[PRIV.updatePrivateViews] phase=enter platform=iOS noop=true layoutVersion=%@", layoutVersion];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags privateView] format:@"[PRIV.updatePrivateViews] phase=exit keepPushing=false"];
+    return @NO;
+}
+
 @end
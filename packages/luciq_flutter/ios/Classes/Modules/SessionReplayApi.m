@@ -96,4 +96,23 @@ extern void InitSessionReplayApi(id<FlutterBinaryMessenger> messenger) {
     [LuciqFlutterLogger d:[LuciqFlutterDebugTags sessionReplay] format:@"[SR.setScreenshotQualityMode] phase=exit"];
 }
 
+- (void)setScreenshotCaptureScaleScale:(nonnull NSNumber *)scale error:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags sessionReplay]
+                   format:@"[SR.setScreenshotCaptureScale] phase=enter platform=iOS noop=true scale=%@", scale];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags sessionReplay] format:@"[SR.setScreenshotCaptureScale] phase=exit"];
+}
+
+- (nullable NSDictionary<NSString *, NSNumber *> *)getScreenshotCaptureMetricsWithError:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags sessionReplay]
+                   format:@"[SR.getScreenshotCaptureMetrics] phase=enter platform=iOS noop=true"];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags sessionReplay] format:@"[SR.getScreenshotCaptureMetrics] phase=exit resultCount=0"];
+    return @{};
+}
+
+- (void)resetScreenshotCaptureMetricsWithError:(FlutterError * _Nullable __autoreleasing * _Nonnull)error {
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags sessionReplay]
+                   format:@"[SR.resetScreenshotCaptureMetrics] phase=enter platform=iOS noop=true"];
+    [LuciqFlutterLogger d:[LuciqFlutterDebugTags sessionReplay] format:@"[SR.resetScreenshotCaptureMetrics] phase=exit"];
+}
+
 @end
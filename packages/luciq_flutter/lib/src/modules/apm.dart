@@ -13,6 +13,7 @@ import 'package:luciq_flutter/src/utils/host_call.dart';
 import 'package:luciq_flutter/src/utils/lcq_build_info.dart';
 import 'package:luciq_flutter/src/utils/luciq_logger.dart';
 import 'package:luciq_flutter/src/utils/luciq_utils.dart';
+import 'package:luciq_flutter/src/utils/network_log_batcher.dart';
 import 'package:luciq_flutter/src/utils/screen_loading/screen_loading_manager.dart';
 import 'package:luciq_flutter/src/utils/screen_rendering/luciq_screen_render_manager.dart';
 import 'package:luciq_flutter/src/utils/ui_trace/flags_config.dart';
@@ -27,8 +28,9 @@ class APM {
   // ignore: use_setters_to_change_properties
   static void $setHostApi(ApmHostApi host) {
     _host = host;
-    // Also set the host for CustomSpanManager
+    // Also set the host for CustomSpanManager and NetworkLogBatcher
     CustomSpanManager.I.$setHostApi(host);
+    NetworkLogBatcher.I.$setHostApi(host);
   }
 
   // ============================================================
@@ -333,6 +335,9 @@ class APM {
       );
       return null;
     }
+    if (NetworkLogBatcher.I.isEnabled) {
+      return NetworkLogBatcher.I.add(data);
+    }
     return hostCall(
       'APM.networkLogAndroid',
       () => _host.networkLogAndroid(data.toJson()),
@@ -346,6 +351,29 @@ class APM {
     );
   }
 
+  /// Enables or disables batching of network logs sent to the Luciq Android
+  /// SDK.
+  ///
+  /// When enabled, network logs are sent in batches of up to 20 requests, at
+  /// most 1 second after they are captured and whenever the app leaves the
+  /// foreground. This cuts the platform channel overhead of apps
+  /// making many requests. Disabling it sends any pending logs right away.
+  ///
+  /// This is only supported on Android and is a no-op on iOS.
+  ///
+  /// Example:
+  ///
+  /// ```dart
+  /// await APM.setNetworkLogBatchingEnabled(true);
+  /// ```
+  static Future<void> setNetworkLogBatchingEnabled(bool isEnabled) {
+    LuciqLogger.I.d(
+      '[APM.setNetworkLogBatchingEnabled] phase=enter isEnabled=$isEnabled',
+      tag: DebugTags.apmNetwork,
+    );
+    return NetworkLogBatcher.I.setEnabled(isEnabled);
+  }
+
   // ============================================================
   // Internal CP (Cross-Platform) UI Trace Methods
   // ============================================================
@@ -765,6 +765,94 @@ class Luciq {
         args: {'isEnabled': isEnabled},
       );
 
+  /// Enables or disables the host call watchdog, which times every call from
+  /// Dart into the native SDK to find the ones blocking the UI thread.
+  ///
+  /// Calls that block the main thread for longer than [budget] are counted as
+  /// stalls and logged when debug logs are enabled. The stats are returned by
+  /// [getHostCallMetrics]. Disabled by default.
+  ///
+  /// This is only supported on Android and is a no-op on iOS.
+  ///
+  /// Example:
+  ///
+  /// ```dart
+  /// Luciq.setHostCallWatchdogEnabled(true, budget: const Duration(milliseconds: 8));
+  /// ```
+  static Future<void> setHostCallWatchdogEnabled(
+    bool isEnabled, {
+    Duration budget = const Duration(milliseconds: 16),
+  }) =>
+      hostCall(
+        'Luciq.setHostCallWatchdogEnabled',
+        () => _host.setHostCallWatchdogEnabled(
+          isEnabled,
+          budget.inMilliseconds,
+        ),
+        tag: DebugTags.core,
+        args: {'isEnabled': isEnabled, 'budgetMs': budget.inMilliseconds},
+      );
+
+  /// Returns latency stats for each native host API method called since the
+  /// host call watchdog was enabled.
+  ///
+  /// Each method reports `count`, `meanMs`, `p50Ms`, `p95Ms`, `maxMs` and
+  /// `stalls`, keyed as `<api>.<method>.<stat>`, e.g.
+  /// `LuciqHostApi.init.maxMs`. Percentiles are bucketed to the next power of
+  /// two microseconds.
+  ///
+  /// The background lanes running slow host calls report their `queueDepth`,
+  /// `executed`, `meanWaitMs`, `maxWaitMs`, `dropped` and `rejected` tasks,
+  /// keyed as `lane.<lane>.<stat>`, e.g. `lane.io.maxWaitMs`.
+  /// `reflection.cacheHits` and `reflection.cacheMisses` count the native SDK
+  /// methods looked up from the cache and the ones that had to be resolved.
+  ///
+  /// This is only supported on Android and returns an empty map on iOS.
+  ///
+  /// Example:
+  ///
+  /// ```dart
+  /// final metrics = await Luciq.getHostCallMetrics();
+  /// print(metrics['LuciqHostApi.setTheme.stalls']);
+  /// ```
+  static Future<Map<String, double>> getHostCallMetrics() async {
+    final metrics = await hostCall(
+      'Luciq.getHostCallMetrics',
+      () => _host.getHostCallMetrics(),
+      tag: DebugTags.core,
+    );
+    return {
+      for (final entry in (metrics ?? const {}).entries)
+        if (entry.key != null && entry.value != null)
+          entry.key!: entry.value!,
+    };
+  }
+
+  /// Clears the stats returned by [getHostCallMetrics].
+  ///
+  /// This is only supported on Android and is a no-op on iOS.
+  static Future<void> resetHostCallMetrics() => hostCall(
+        'Luciq.resetHostCallMetrics',
+        () => _host.resetHostCallMetrics(),
+        tag: DebugTags.core,
+      );
+
+  /// Enables or disables batching the native replies of host calls that
+  /// complete together, such as the ones made at startup, into a single main
+  /// thread message. Disabled by default.
+  ///
+  /// While enabled, a batched reply may be delivered before other main thread
+  /// work the native SDK queued earlier.
+  ///
+  /// This is only supported on Android and is a no-op on iOS.
+  static Future<void> setMainThreadCoalescingEnabled(bool isEnabled) =>
+      hostCall(
+        'Luciq.setMainThreadCoalescingEnabled',
+        () => _host.setMainThreadCoalescingEnabled(isEnabled),
+        tag: DebugTags.core,
+        args: {'isEnabled': isEnabled},
+      );
+
   /// Sets the screenshot auto-masking types to apply before screenshots
   /// are sent with reports.
   ///
@@ -80,6 +80,35 @@ class NetworkLogger {
         tag: DebugTags.network,
       );
 
+  /// Sets which request and response headers are kept in network logs.
+  ///
+  /// When [allowList] is set, only the headers it names are logged. Headers
+  /// named in [denyList] are never logged, e.g. `authorization` or `cookie`.
+  /// Header names are matched case-insensitively. Passing `null` for both
+  /// logs all headers again (default).
+  ///
+  /// Dropping headers before they reach the native SDK also cuts the cost of
+  /// serializing and storing every logged request.
+  ///
+  /// Example:
+  ///
+  /// ```dart
+  /// NetworkLogger.setHeaderFilters(denyList: ['authorization', 'cookie']);
+  /// ```
+  static Future<void> setHeaderFilters({
+    List<String>? allowList,
+    List<String>? denyList,
+  }) =>
+      hostCall(
+        'NET.setHeaderFilters',
+        () => _host.setNetworkLogHeaderFilters(allowList, denyList),
+        tag: DebugTags.network,
+        args: {
+          'allowListCount': allowList?.length,
+          'denyListCount': denyList?.length,
+        },
+      );
+
   Future<void> networkLog(NetworkData data) {
     // Network logging hits every HTTP call, so skip the URL redaction scan
     // when debug logging is off.
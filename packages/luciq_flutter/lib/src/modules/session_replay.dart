@@ -203,4 +203,88 @@ class SessionReplay {
         tag: DebugTags.sessionReplay,
         args: {'mode': mode},
       );
+
+  /// Sets the resolution screenshots are captured at, relative to the device
+  /// resolution.
+  ///
+  /// Lower values render the capture directly into a smaller bitmap, cutting
+  /// the copy, masking and encoding cost of every screenshot: a [scale] of 0.5
+  /// captures a quarter of the pixels.
+  ///
+  /// - [scale]: Factor in the range (0, 1]
+  /// - Default: 1 (full resolution)
+  ///
+  /// This is only supported on Android and is a no-op on iOS.
+  ///
+  /// Example:
+  ///
+  /// ```dart
+  /// await SessionReplay.setScreenshotCaptureScale(0.5);
+  /// ```
+  static Future<void> setScreenshotCaptureScale(double scale) {
+    if (!(scale > 0 && scale <= 1)) {
+      throw ArgumentError.value(
+        scale,
+        'scale',
+        'must be greater than 0 and less than or equal to 1',
+      );
+    }
+    return hostCall(
+      'SR.setScreenshotCaptureScale',
+      () => _host.setScreenshotCaptureScale(scale),
+      tag: DebugTags.sessionReplay,
+      args: {'scale': scale},
+    );
+  }
+
+  /// Returns latency stats for each stage of the screenshot capture pipeline.
+  ///
+  /// Stages are `schedule`, `capture`, `privateViews`, `mask`, `delivery`
+  /// and `total`. Each reports `count`, `meanMs`, `p50Ms`, `p95Ms` and
+  /// `maxMs`, keyed as `<stage>.<stat>`, e.g. `mask.p95Ms`. Percentiles are
+  /// bucketed to the next power of two microseconds.
+  ///
+  /// `geometryCache.hits` and `geometryCache.misses` count the captures
+  /// masked with private views Flutter had already pushed, and the ones that
+  /// had to ask for them. `geometryCache.hitRate` is the share of hits, in
+  /// [0, 1].
+  ///
+  /// `strategy.windowPixelCopy.successes`, `strategy.surfacePixelCopy.successes`
+  /// and `strategy.boundry.successes` count the captures taken by each step of
+  /// the capture fallback chain, and `strategy.failures` the steps that
+  /// failed. `strategyCache.hits` counts the captures that started at the
+  /// step last working for the screen, and `strategyCache.probes` the ones
+  /// that tried the chain from the start. `coalescedRequests` counts the
+  /// capture requests that shared the capture of another request for the same
+  /// frame.
+  ///
+  /// This is only supported on Android and returns an empty map on iOS.
+  ///
+  /// Example:
+  ///
+  /// ```dart
+  /// final metrics = await SessionReplay.getScreenshotCaptureMetrics();
+  /// print(metrics['total.p95Ms']);
+  /// ```
+  static Future<Map<String, double>> getScreenshotCaptureMetrics() async {
+    final metrics = await hostCall(
+      'SR.getScreenshotCaptureMetrics',
+      () => _host.getScreenshotCaptureMetrics(),
+      tag: DebugTags.sessionReplay,
+    );
+    return {
+      for (final entry in (metrics ?? const {}).entries)
+        if (entry.key != null && entry.value != null)
+          entry.key!: entry.value!,
+    };
+  }
+
+  /// Clears the stats returned by [getScreenshotCaptureMetrics].
+  ///
+  /// This is only supported on Android and is a no-op on iOS.
+  static Future<void> resetScreenshotCaptureMetrics() => hostCall(
+        'SR.resetScreenshotCaptureMetrics',
+        () => _host.resetScreenshotCaptureMetrics(),
+        tag: DebugTags.sessionReplay,
+      );
 }
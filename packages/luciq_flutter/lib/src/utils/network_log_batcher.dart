@@ -0,0 +1,119 @@
+import 'dart:async';
+
+import 'package:flutter/widgets.dart';
+import 'package:luciq_flutter/src/constants/debug_tags.dart';
+import 'package:luciq_flutter/src/generated/apm.api.g.dart';
+import 'package:luciq_flutter/src/models/network_data.dart';
+import 'package:luciq_flutter/src/utils/host_call.dart';
+import 'package:meta/meta.dart';
+
+/// Collects APM network logs and sends them to the native SDK in batches,
+/// so apps making many requests cross the platform channel once per batch
+/// instead of once per request.
+///
+/// A batch is flushed when it reaches [maxBatchSize] logs, [maxDelay] after
+/// its first log, or when the app stops being in the foreground.
+class NetworkLogBatcher extends WidgetsBindingObserver {
+  NetworkLogBatcher._();
+
+  static NetworkLogBatcher? _instance;
+
+  /// Returns the singleton instance of NetworkLogBatcher.
+  //ignore:prefer_constructors_over_static_methods
+  static NetworkLogBatcher get I => _instance ??= NetworkLogBatcher._();
+
+  /// Sets a custom instance (for testing).
+  @visibleForTesting
+  // ignore: use_setters_to_change_properties
+  static void setInstance(NetworkLogBatcher instance) {
+    _instance = instance;
+  }
+
+  /// Resets the instance to null (for testing).
+  @visibleForTesting
+  static void resetInstance() {
+    _instance = null;
+  }
+
+  /// Maximum number of logs sent in a single batch.
+  static const int maxBatchSize = 20;
+
+  /// Maximum time a log waits for its batch to fill up.
+  static const Duration maxDelay = Duration(seconds: 1);
+
+  ApmHostApi _host = ApmHostApi();
+
+  final List<Map<String, dynamic>> _pending = [];
+  Timer? _timer;
+  bool _isEnabled = false;
+
+  /// Sets the host API for native communication.
+  /// Called from APM.$setHostApi and tests.
+  /// @nodoc
+  @internal
+  // ignore: use_setters_to_change_properties
+  void $setHostApi(ApmHostApi host) {
+    _host = host;
+  }
+
+  /// Whether network logs are batched instead of sent one by one.
+  bool get isEnabled => _isEnabled;
+
+  /// Number of logs waiting for the next flush.
+  @visibleForTesting
+  int get pendingCount => _pending.length;
+
+  /// Enables or disables batching. Disabling flushes any pending logs.
+  Future<void> setEnabled(bool isEnabled) async {
+    if (_isEnabled == isEnabled) return;
+    _isEnabled = isEnabled;
+
+    // Ensures compatibility with Flutter versions before 3.0.0
+    if (isEnabled) {
+      // ignore: invalid_null_aware_operator
+      WidgetsBinding.instance?.addObserver(this);
+    } else {
+      // ignore: invalid_null_aware_operator
+      WidgetsBinding.instance?.removeObserver(this);
+      await flush();
+    }
+  }
+
+  /// Queues a network log, flushing the batch once it is full.
+  Future<void> add(NetworkData data) {
+    _pending.add(data.toJson());
+
+    if (_pending.length >= maxBatchSize) {
+      return flush();
+    }
+
+    _timer ??= Timer(maxDelay, flush);
+    return Future.value();
+  }
+
+  /// Sends all pending logs in a single host call.
+  Future<void> flush() {
+    _timer?.cancel();
+    _timer = null;
+
+    if (_pending.isEmpty) return Future.value();
+
+    final batch = List<Map<String, dynamic>>.of(_pending);
+    _pending.clear();
+
+    return hostCall(
+      'APM.networkLogBatch',
+      () => _host.networkLogBatch(batch),
+      tag: DebugTags.apmNetwork,
+      args: {'size': batch.length},
+    );
+  }
+
+  @override
+  void didChangeAppLifecycleState(AppLifecycleState state) {
+    // Don't hold logs while the app may get killed in the background
+    if (state != AppLifecycleState.resumed) {
+      flush();
+    }
+  }
+}
@@ -1,5 +1,8 @@
+import 'dart:typed_data';
+
 import 'package:flutter/material.dart';
 import 'package:flutter/rendering.dart';
+import 'package:flutter/scheduler.dart';
 import 'package:luciq_flutter/luciq_flutter.dart';
 import 'package:luciq_flutter/src/constants/debug_tags.dart';
 import 'package:luciq_flutter/src/generated/luciq.api.g.dart';
@@ -39,6 +42,7 @@ class PrivateViewsManager implements LuciqPrivateViewFlutterApi {
 
   static PrivateViewsManager get instance => _instance;
   static final _host = LuciqHostApi();
+  static LuciqPrivateViewHostApi _privateViewHost = LuciqPrivateViewHostApi();
 
   /// Shorthand for [instance]
   static PrivateViewsManager get I => instance;
@@ -51,6 +55,12 @@ class PrivateViewsManager implements LuciqPrivateViewFlutterApi {
     _instance = instance;
   }
 
+  @visibleForTesting
+  // ignore: use_setters_to_change_properties
+  static void setPrivateViewHost(LuciqPrivateViewHostApi host) {
+    _privateViewHost = host;
+  }
+
   static bool isPrivateWidget(Widget widget) {
     final isPrivate = (widget.runtimeType == LuciqPrivateView) ||
         (widget.runtimeType == LuciqSliverPrivateView);
@@ -60,6 +70,11 @@ class PrivateViewsManager implements LuciqPrivateViewFlutterApi {
 
   late List<bool Function(Widget)> _viewChecks;
 
+  int _layoutVersion = 0;
+  bool _isPushingGeometry = false;
+  bool _isGeometryCallbackAdded = false;
+  bool _hasValidGeometry = false;
+
   void addAutoMasking(List<AutoMasking> masking) => hostCallSync(
         'PRIV.addAutoMasking',
         () {
@@ -168,28 +183,130 @@ class PrivateViewsManager implements LuciqPrivateViewFlutterApi {
     return rects;
   }
 
+  /// Waits until the frame with the vsync timestamp [frameTimeMicros] has been
+  /// built, so the rects returned to native describe the frame it captured.
+  ///
+  /// Returns immediately when [frameTimeMicros] is 0, when that frame was
+  /// already built, or when no frame is pending (the current layout is the
+  /// one on screen).
+  @visibleForTesting
+  Future<void> waitForFrame(int frameTimeMicros) async {
+    // Ensures compatibility with Flutter versions before 3.0.0
+    // ignore: unnecessary_nullable_for_final_variable_declarations
+    final SchedulerBinding? binding = SchedulerBinding.instance;
+    if (frameTimeMicros <= 0 || binding == null) return;
+
+    final builtFrameMicros = binding.currentSystemFrameTimeStamp.inMicroseconds;
+    if (builtFrameMicros >= frameTimeMicros) return;
+
+    final isFramePending = binding.hasScheduledFrame ||
+        binding.schedulerPhase != SchedulerPhase.idle;
+    if (!isFramePending) return;
+
+    LuciqLogger.I.d(
+      '[PRIV.capture] phase=wait frameTimeMicros=$frameTimeMicros builtFrameMicros=$builtFrameMicros',
+      tag: DebugTags.privateView,
+    );
+    await binding.endOfFrame;
+  }
+
+  /// Starts pushing the private views to native, so native can mask
+  /// captures without a round trip to Dart. Each [getPrivateViews] call pushes
+  /// the rects it found, and native reuses them for every capture until Dart
+  /// builds another frame, which [invalidateGeometry] reports. Frames Dart
+  /// doesn't build (e.g. an idle screen) keep the layout of the last one.
+  ///
+  /// Native stops the push once captures stop being requested, and starts it
+  /// again with its next [getPrivateViews] call.
+  @visibleForTesting
+  void startGeometryPush() {
+    _isPushingGeometry = true;
+    if (_isGeometryCallbackAdded) return;
+
+    // Ensures compatibility with Flutter versions before 3.0.0
+    // ignore: unnecessary_nullable_for_final_variable_declarations
+    final SchedulerBinding? binding = SchedulerBinding.instance;
+    if (binding == null) return;
+    _isGeometryCallbackAdded = true;
+    binding.addPersistentFrameCallback((_) => invalidateGeometry());
+  }
+
+  /// Pushes the private views of the last built frame to native.
+  @visibleForTesting
+  Future<void> pushGeometry(Float64List rects) async {
+    if (!_isPushingGeometry) return;
+    _layoutVersion++;
+    _hasValidGeometry = true;
+    await _updatePrivateViews(rects);
+  }
+
+  /// Tells native the last pushed private views may not describe the frame
+  /// being built. Sent once per push, as any built frame may move them: a
+  /// scroll, a route change or an auto masked widget doesn't necessarily
+  /// rebuild a [LuciqPrivateView].
+  @visibleForTesting
+  Future<void> invalidateGeometry() async {
+    if (!_isPushingGeometry || !_hasValidGeometry) return;
+    _hasValidGeometry = false;
+    await _updatePrivateViews(null);
+  }
+
+  Future<void> _updatePrivateViews(Float64List? rects) async {
+    final frameTimeMicros =
+        SchedulerBinding.instance.currentSystemFrameTimeStamp.inMicroseconds;
+    try {
+      _isPushingGeometry = await _privateViewHost.updatePrivateViews(
+        _layoutVersion,
+        frameTimeMicros,
+        rects,
+      );
+    } catch (e) {
+      _isPushingGeometry = false;
+      LuciqLogger.I.e(
+        '[PRIV.updatePrivateViews] phase=error errorType=${e.runtimeType}',
+        tag: DebugTags.privateView,
+      );
+    }
+    if (!_isPushingGeometry) {
+      _hasValidGeometry = false;
+    }
+  }
+
+  Float64List _packRects(List<Rect> rects) {
+    final result = Float64List(rects.length * 4);
+    for (var i = 0; i < rects.length; i++) {
+      final rect = rects[i];
+      result[i * 4] = rect.left;
+      result[i * 4 + 1] = rect.top;
+      result[i * 4 + 2] = rect.right;
+      result[i * 4 + 3] = rect.bottom;
+    }
+    return result;
+  }
+
   bool isElementInCurrentRoute(Element element) {
     final modalRoute = ModalRoute.of(element);
     return modalRoute?.isCurrent ?? false;
   }
 
   @override
-  List<double?> getPrivateViews(String callId) {
+  Future<Float64List> getPrivateViews(
+    String callId,
+    int frameTimeMicros,
+  ) async {
     logCallbackFire(
       'PRIV.capture',
       tag: DebugTags.privateView,
       callId: callId,
     );
+    if (frameTimeMicros > 0) {
+      startGeometryPush();
+    }
+    await waitForFrame(frameTimeMicros);
     final rects = getRectsOfPrivateViews();
-    final result = <double>[];
-
-    for (final rect in rects) {
-      result.addAll([
-        rect.left,
-        rect.top,
-        rect.right,
-        rect.bottom,
-      ]);
+    final result = _packRects(rects);
+    if (frameTimeMicros > 0) {
+      await pushGeometry(result);
     }
 
     LuciqLogger.I.d(
@@ -17,7 +17,13 @@ abstract class ApmHostApi {
   void startUITrace(String name);
   void endUITrace();
   void endAppLaunch();
+
+  // Network logs are decoded and stored off the main thread, they run for
+  // every request the app makes.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void networkLogAndroid(Map<String, Object> data);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  void networkLogBatch(List<Map<String, Object>> batch);
 
   void startCpUiTrace(String screenName, int microTimeStamp, int traceId);
 
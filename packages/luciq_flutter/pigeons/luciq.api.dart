@@ -100,12 +100,18 @@ abstract class LuciqHostApi {
 
   void setFont(String font);
 
+  // File attachments and network logs only do I/O, so they run on a
+  // background queue. Clearing shares the queue to stay ordered with adds.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void addFileAttachmentWithURL(String filePath, String fileName);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void addFileAttachmentWithData(Uint8List data, String fileName);
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void clearFileAttachments();
 
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void networkLog(Map<String, Object> data);
 
   void registerFeatureFlagChangeListener();
@@ -116,9 +122,31 @@ abstract class LuciqHostApi {
 
   void setNetworkLogBodyEnabled(bool isEnabled);
 
+  void setNetworkLogHeaderFilters(
+    List<String>? allowList,
+    List<String>? denyList,
+  );
+
   @async
   double? getNetworkBodyMaxSize();
 
+  /// Times every host API call and counts the ones blocking the main thread
+  /// for longer than [budgetMs] as stalls. Android only.
+  void setHostCallWatchdogEnabled(bool isEnabled, int budgetMs);
+
+  /// Returns latency stats of each host API method, keyed as
+  /// `<api>.<method>.<stat>`, e.g. `LuciqHostApi.init.p95Ms`, and the stats
+  /// of the background lanes and the reflection cache, e.g.
+  /// `lane.io.maxWaitMs` or `reflection.cacheHits`. Android only.
+  Map<String, double> getHostCallMetrics();
+
+  /// Clears the stats returned by [getHostCallMetrics]. Android only.
+  void resetHostCallMetrics();
+
+  /// Batches the main thread replies of host API calls completing together
+  /// into a single main thread message. Android only.
+  void setMainThreadCoalescingEnabled(bool isEnabled);
+
   void setTheme(Map<String, Object> themeConfig);
   void setFullscreen(bool isEnabled);
   void setNetworkAutoMaskingEnabled(bool isEnabled);
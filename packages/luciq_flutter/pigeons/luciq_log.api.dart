@@ -1,11 +1,19 @@
 import 'package:pigeon/pigeon.dart';
 
+/// Logs never touch the UI, so every call runs in order on a background task
+/// queue.
 @HostApi()
 abstract class LuciqLogHostApi {
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void logVerbose(String message);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void logDebug(String message);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void logInfo(String message);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void logWarn(String message);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void logError(String message);
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
   void clearAllLogs();
 }
@@ -1,3 +1,5 @@
+import 'dart:typed_data';
+
 import 'package:pigeon/pigeon.dart';
 
 @FlutterApi()
@@ -5,10 +7,36 @@ abstract class LuciqPrivateViewFlutterApi {
   /// Native -> Dart capture callback. `callId` is minted on the native side via
   /// `LuciqFlutterLogger.nextCallId` so the resulting `phase=fire` line on Dart
   /// can be correlated with the originating `[PRIV.mask]` trace.
-  List<double> getPrivateViews(String callId);
+  ///
+  /// `frameTimeMicros` is the vsync timestamp of the frame native captured, or
+  /// 0 when the capture isn't tied to a frame. Dart waits until it has built
+  /// that frame before answering so the rects match the screenshot.
+  ///
+  /// Rects are packed as consecutive `left, top, right, bottom` values in a
+  /// single typed list so they cross the channel without boxing.
+  @async
+  Float64List getPrivateViews(String callId, int frameTimeMicros);
 }
 
 @HostApi()
 abstract class LuciqPrivateViewHostApi {
   void init();
+
+  /// Dart -> native push of the private views, so native can mask captures
+  /// without calling [LuciqPrivateViewFlutterApi.getPrivateViews].
+  ///
+  /// `rects` are the private views of the frame built at `frameTimeMicros`,
+  /// and stay valid for later frames until Dart builds another one. A push
+  /// with null `rects` reports that Dart built the frame at `frameTimeMicros`,
+  /// so the rects of `layoutVersion` may no longer describe it or any later
+  /// frame. Returns false once native stopped capturing, after which Dart
+  /// stops pushing until native asks for the private views again.
+  ///
+  /// Runs on a background task queue since it is called while frames build.
+  @TaskQueue(type: TaskQueueType.serialBackgroundThread)
+  bool updatePrivateViews(
+    int layoutVersion,
+    int frameTimeMicros,
+    Float64List? rects,
+  );
 }
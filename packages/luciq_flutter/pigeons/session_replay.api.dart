@@ -25,4 +25,17 @@ abstract class SessionReplayHostApi {
   /// - normal: 25% WebP compression (default)
   /// - greyscale: Grayscale + 25% WebP compression
   void setScreenshotQualityMode(String mode);
+
+  /// Sets the resolution screenshots are captured at, relative to the device
+  /// resolution, so captures render directly into a smaller bitmap.
+  /// @param scale Factor in (0, 1] (default: 1). Android only.
+  void setScreenshotCaptureScale(double scale);
+
+  /// Returns latency stats of the screenshot capture pipeline stages, keyed
+  /// as `<stage>.<stat>`, e.g. `mask.p95Ms`, and the capture counters, e.g.
+  /// `geometryCache.hitRate` or `strategyCache.hits`. Android only.
+  Map<String, double> getScreenshotCaptureMetrics();
+
+  /// Clears the stats returned by [getScreenshotCaptureMetrics]. Android only.
+  void resetScreenshotCaptureMetrics();
 }
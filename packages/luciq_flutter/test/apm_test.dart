@@ -195,6 +195,28 @@ void main() {
     ).called(1);
   });
 
+  test('[networkLogAndroid] should batch logs when batching is enabled',
+      () async {
+    final data = NetworkData(
+      url: "https://httpbin.org/get",
+      method: "GET",
+      startTime: DateTime.now(),
+    );
+
+    when(mBuildInfo.isAndroid).thenReturn(true);
+
+    await APM.setNetworkLogBatchingEnabled(true);
+    await APM.networkLogAndroid(data);
+
+    verifyNever(mHost.networkLogAndroid(any));
+
+    await APM.setNetworkLogBatchingEnabled(false);
+
+    verify(
+      mHost.networkLogBatch([data.toJson()]),
+    ).called(1);
+  });
+
   test('[startCpUiTrace] should call host method', () async {
     const screenName = 'screen-name';
     final microTimeStamp = DateTime.now().microsecondsSinceEpoch;
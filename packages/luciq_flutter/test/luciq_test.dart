@@ -446,6 +446,45 @@ void main() {
     ).called(1);
   });
 
+  test('[setHostCallWatchdogEnabled] should call host method', () async {
+    await Luciq.setHostCallWatchdogEnabled(
+      true,
+      budget: const Duration(milliseconds: 8),
+    );
+
+    verify(
+      mHost.setHostCallWatchdogEnabled(true, 8),
+    ).called(1);
+  });
+
+  test('[getHostCallMetrics] should return host metrics', () async {
+    when(mHost.getHostCallMetrics())
+        .thenAnswer((_) async => {'LuciqHostApi.init.maxMs': 42.0});
+
+    final metrics = await Luciq.getHostCallMetrics();
+
+    expect(metrics, {'LuciqHostApi.init.maxMs': 42.0});
+    verify(
+      mHost.getHostCallMetrics(),
+    ).called(1);
+  });
+
+  test('[resetHostCallMetrics] should call host method', () async {
+    await Luciq.resetHostCallMetrics();
+
+    verify(
+      mHost.resetHostCallMetrics(),
+    ).called(1);
+  });
+
+  test('[setMainThreadCoalescingEnabled] should call host method', () async {
+    await Luciq.setMainThreadCoalescingEnabled(true);
+
+    verify(
+      mHost.setMainThreadCoalescingEnabled(true),
+    ).called(1);
+  });
+
   test('[setFullscreen] should call host method', () async {
     const isEnabled = true;
 
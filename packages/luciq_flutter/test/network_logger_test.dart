@@ -66,6 +66,20 @@ void main() {
         .thenAnswer((_) async => false);
   });
 
+  test('[setHeaderFilters] should call host method', () async {
+    const allowList = ['content-type'];
+    const denyList = ['authorization'];
+
+    await NetworkLogger.setHeaderFilters(
+      allowList: allowList,
+      denyList: denyList,
+    );
+
+    verify(
+      mLuciqHost.setNetworkLogHeaderFilters(allowList, denyList),
+    ).called(1);
+  });
+
   test('[networkLog] should call 1 host method on iOS', () async {
     when(mBuildInfo.isAndroid).thenReturn(false);
     when(mManager.obfuscateLog(data)).thenReturn(data);
@@ -127,4 +127,52 @@ void main() {
       ),
     ).called(1);
   });
+
+  test('[setScreenshotCaptureScale] should call host method', () async {
+    const scale = 0.5;
+
+    await SessionReplay.setScreenshotCaptureScale(scale);
+
+    verify(
+      mHost.setScreenshotCaptureScale(scale),
+    ).called(1);
+  });
+
+  test(
+    '[setScreenshotCaptureScale] should reject values out of range',
+    () async {
+      await expectLater(
+        () => SessionReplay.setScreenshotCaptureScale(0),
+        throwsA(isA<ArgumentError>()),
+      );
+      await expectLater(
+        () => SessionReplay.setScreenshotCaptureScale(1.5),
+        throwsA(isA<ArgumentError>()),
+      );
+
+      verifyNever(
+        mHost.setScreenshotCaptureScale(any),
+      );
+    },
+  );
+
+  test('[getScreenshotCaptureMetrics] should return host metrics', () async {
+    when(mHost.getScreenshotCaptureMetrics())
+        .thenAnswer((_) async => {'mask.p95Ms': 1.024});
+
+    final metrics = await SessionReplay.getScreenshotCaptureMetrics();
+
+    expect(metrics, {'mask.p95Ms': 1.024});
+    verify(
+      mHost.getScreenshotCaptureMetrics(),
+    ).called(1);
+  });
+
+  test('[resetScreenshotCaptureMetrics] should call host method', () async {
+    await SessionReplay.resetScreenshotCaptureMetrics();
+
+    verify(
+      mHost.resetScreenshotCaptureMetrics(),
+    ).called(1);
+  });
 }
@@ -31,7 +31,7 @@ void main() {
         (tester) async {
       await tester.pumpWidget(const MaterialApp(home: SizedBox.shrink()));
 
-      PrivateViewsManager.I.getPrivateViews('a1b2');
+      await PrivateViewsManager.I.getPrivateViews('a1b2', 0);
 
       final captured = verify(
         logger.d(captureAny, tag: anyNamed('tag')),
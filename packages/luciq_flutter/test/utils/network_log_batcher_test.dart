@@ -0,0 +1,109 @@
+import 'package:fake_async/fake_async.dart';
+import 'package:flutter/widgets.dart';
+import 'package:flutter_test/flutter_test.dart';
+import 'package:luciq_flutter/luciq_flutter.dart';
+import 'package:luciq_flutter/src/generated/apm.api.g.dart';
+import 'package:luciq_flutter/src/utils/network_log_batcher.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'network_log_batcher_test.mocks.dart';
+
+@GenerateMocks([
+  ApmHostApi,
+])
+void main() {
+  TestWidgetsFlutterBinding.ensureInitialized();
+
+  final mHost = MockApmHostApi();
+
+  NetworkData createData(int index) => NetworkData(
+        url: 'https://example.com/$index',
+        method: 'GET',
+        startTime: DateTime.fromMillisecondsSinceEpoch(index),
+      );
+
+  late NetworkLogBatcher batcher;
+
+  setUp(() {
+    reset(mHost);
+    NetworkLogBatcher.resetInstance();
+    batcher = NetworkLogBatcher.I;
+    batcher.$setHostApi(mHost);
+  });
+
+  tearDown(() async {
+    await batcher.setEnabled(false);
+  });
+
+  test('[add] should flush once the batch is full', () async {
+    await batcher.setEnabled(true);
+    final logs = [
+      for (var i = 0; i < NetworkLogBatcher.maxBatchSize; i++) createData(i),
+    ];
+
+    for (final log in logs) {
+      await batcher.add(log);
+    }
+
+    verify(
+      mHost.networkLogBatch([for (final log in logs) log.toJson()]),
+    ).called(1);
+    expect(batcher.pendingCount, 0);
+  });
+
+  test('[add] should flush after the max delay', () {
+    fakeAsync((async) {
+      batcher.setEnabled(true);
+      final data = createData(0);
+
+      batcher.add(data);
+      async.elapse(NetworkLogBatcher.maxDelay ~/ 2);
+
+      verifyNever(mHost.networkLogBatch(any));
+
+      async.elapse(NetworkLogBatcher.maxDelay);
+
+      verify(mHost.networkLogBatch([data.toJson()])).called(1);
+    });
+  });
+
+  test('[didChangeAppLifecycleState] should flush when the app is paused',
+      () async {
+    await batcher.setEnabled(true);
+    final data = createData(0);
+    await batcher.add(data);
+
+    batcher.didChangeAppLifecycleState(AppLifecycleState.paused);
+
+    verify(mHost.networkLogBatch([data.toJson()])).called(1);
+  });
+
+  test('[didChangeAppLifecycleState] should not flush when the app resumes',
+      () async {
+    await batcher.setEnabled(true);
+    await batcher.add(createData(0));
+
+    batcher.didChangeAppLifecycleState(AppLifecycleState.resumed);
+
+    verifyNever(mHost.networkLogBatch(any));
+    expect(batcher.pendingCount, 1);
+  });
+
+  test('[setEnabled] should flush pending logs when disabled', () async {
+    await batcher.setEnabled(true);
+    final data = createData(0);
+    await batcher.add(data);
+
+    await batcher.setEnabled(false);
+
+    verify(mHost.networkLogBatch([data.toJson()])).called(1);
+    expect(batcher.isEnabled, isFalse);
+  });
+
+  test('[flush] should not call host method without pending logs', () async {
+    await batcher.flush();
+
+    verifyNever(mHost.networkLogBatch(any));
+  });
+}
@@ -3,9 +3,15 @@ import 'dart:ui' as ui;
 
 import 'package:flutter/foundation.dart';
 import 'package:flutter/material.dart';
+import 'package:flutter/scheduler.dart';
 import 'package:flutter_test/flutter_test.dart';
 import 'package:luciq_flutter/luciq_flutter.dart';
+import 'package:luciq_flutter/src/generated/luciq_private_view.api.g.dart';
 import 'package:luciq_flutter/src/utils/private_views/private_views_manager.dart';
+import 'package:mockito/annotations.dart';
+import 'package:mockito/mockito.dart';
+
+import 'private_views_manager_test.mocks.dart';
 
 Future<Uint8List> createTestImage() async {
   // Create an empty 1x1 image
@@ -19,6 +25,9 @@ Future<Uint8List> createTestImage() async {
   return byteData!.buffer.asUint8List();
 }
 
+@GenerateMocks([
+  LuciqPrivateViewHostApi,
+])
 void main() {
   TestWidgetsFlutterBinding.ensureInitialized();
   WidgetsFlutterBinding.ensureInitialized();
@@ -104,11 +113,99 @@ void main() {
         ),
       );
 
-      final privateViews = manager.getPrivateViews('test');
+      final privateViews = await manager.getPrivateViews('test', 0);
       expect(
         privateViews.length % 4,
         0,
       ); // Ensure coordinates come in sets of four
+
+      final rects = manager.getRectsOfPrivateViews();
+      expect(privateViews, [
+        for (final rect in rects) ...[
+          rect.left,
+          rect.top,
+          rect.right,
+          rect.bottom,
+        ],
+      ]);
+    });
+
+    testWidgets('getPrivateViews pushes the rects it returns',
+        (tester) async {
+      final mPrivateViewHost = MockLuciqPrivateViewHostApi();
+      PrivateViewsManager.setPrivateViewHost(mPrivateViewHost);
+      when(mPrivateViewHost.updatePrivateViews(any, any, any))
+          .thenAnswer((_) async => true);
+      await tester.pumpWidget(
+        LuciqWidget(
+          child: const MaterialApp(
+            home: Scaffold(
+              body: LuciqPrivateView(
+                child: SizedBox(width: 50, height: 50),
+              ),
+            ),
+          ),
+        ),
+      );
+
+      final privateViews = await manager.getPrivateViews('test', 1);
+
+      final captured = verify(
+        mPrivateViewHost.updatePrivateViews(any, any, captureAny),
+      ).captured;
+      expect(captured.single, privateViews);
+    });
+
+    testWidgets('invalidateGeometry reports the next built frame once',
+        (tester) async {
+      final mPrivateViewHost = MockLuciqPrivateViewHostApi();
+      PrivateViewsManager.setPrivateViewHost(mPrivateViewHost);
+      when(mPrivateViewHost.updatePrivateViews(any, any, any))
+          .thenAnswer((_) async => true);
+      await tester.pumpWidget(const SizedBox());
+
+      await manager.getPrivateViews('test', 1);
+      final layoutVersion = verify(
+        mPrivateViewHost.updatePrivateViews(captureAny, any, any),
+      ).captured.single;
+
+      // Any built frame may move the private views, even without rebuilding
+      // them (e.g. a scroll), so it invalidates the pushed rects
+      await tester.pump();
+      await tester.pump();
+
+      verify(
+        mPrivateViewHost.updatePrivateViews(layoutVersion, any, null),
+      ).called(1);
+    });
+
+    testWidgets('invalidateGeometry stops once native stops capturing',
+        (tester) async {
+      final mPrivateViewHost = MockLuciqPrivateViewHostApi();
+      PrivateViewsManager.setPrivateViewHost(mPrivateViewHost);
+      when(mPrivateViewHost.updatePrivateViews(any, any, any))
+          .thenAnswer((_) async => false);
+      await tester.pumpWidget(const SizedBox());
+
+      await manager.getPrivateViews('test', 1);
+      await manager.invalidateGeometry();
+
+      verify(mPrivateViewHost.updatePrivateViews(any, any, any)).called(1);
+    });
+
+    testWidgets('waitForFrame returns immediately for an already built frame',
+        (tester) async {
+      await tester.pumpWidget(const SizedBox());
+
+      final builtFrameMicros =
+          SchedulerBinding.instance.currentSystemFrameTimeStamp.inMicroseconds;
+
+      await expectLater(
+        manager.waitForFrame(builtFrameMicros).timeout(
+              const Duration(seconds: 1),
+            ),
+        completes,
+      );
     });
 
     testWidgets('getRectsOfPrivateViews detects masked Media', (tester) async {